@@ -0,0 +1,135 @@
+package net.fortuna.ical4j.data;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.util.Base64;
+import java.util.Random;
+
+/**
+ * Generates synthetic iCalendar data for benchmarks. Output is folded with a {@link FoldingWriter} so that
+ * unfolding costs are representative of real-world feeds.
+ */
+final class BenchmarkCalendars {
+
+    private BenchmarkCalendars() {
+    }
+
+    /**
+     * @param eventCount the number of VEVENT components to generate
+     * @return a folded iCalendar stream containing a single VTIMEZONE and the requested number of events
+     */
+    static String generate(int eventCount) {
+        return generate(eventCount, false);
+    }
+
+    /**
+     * @param eventCount the number of VEVENT components to generate
+     * @param alarms indicates whether to include a display and an email alarm in each event
+     * @return a folded iCalendar stream containing a single VTIMEZONE and the requested number of events
+     */
+    static String generate(int eventCount, boolean alarms) {
+        var out = new StringWriter(eventCount * 1024);
+        try (var writer = new FoldingWriter(out)) {
+            writer.write("BEGIN:VCALENDAR\r\n");
+            writer.write("PRODID:-//ical4j//Benchmark//EN\r\n");
+            writer.write("VERSION:2.0\r\n");
+            writer.write("CALSCALE:GREGORIAN\r\n");
+            writer.write("BEGIN:VTIMEZONE\r\n");
+            writer.write("TZID:Australia/Melbourne\r\n");
+            writer.write("BEGIN:STANDARD\r\n");
+            writer.write("TZOFFSETFROM:+1100\r\n");
+            writer.write("TZOFFSETTO:+1000\r\n");
+            writer.write("DTSTART:19700405T030000\r\n");
+            writer.write("RRULE:FREQ=YEARLY;BYMONTH=4;BYDAY=1SU\r\n");
+            writer.write("END:STANDARD\r\n");
+            writer.write("BEGIN:DAYLIGHT\r\n");
+            writer.write("TZOFFSETFROM:+1000\r\n");
+            writer.write("TZOFFSETTO:+1100\r\n");
+            writer.write("DTSTART:19701004T020000\r\n");
+            writer.write("RRULE:FREQ=YEARLY;BYMONTH=10;BYDAY=1SU\r\n");
+            writer.write("END:DAYLIGHT\r\n");
+            writer.write("END:VTIMEZONE\r\n");
+            for (int i = 0; i < eventCount; i++) {
+                writer.write("BEGIN:VEVENT\r\n");
+                writer.write("UID:" + i + "-benchmark@ical4j.example\r\n");
+                writer.write("DTSTAMP:20240101T000000Z\r\n");
+                writer.write("DTSTART;TZID=Australia/Melbourne:20240" + (1 + i % 9) + "15T090000\r\n");
+                writer.write("DTEND;TZID=Australia/Melbourne:20240" + (1 + i % 9) + "15T100000\r\n");
+                writer.write("SUMMARY:Weekly planning meeting " + i + "\r\n");
+                writer.write("DESCRIPTION:Agenda:\\n1. Review of outstanding actions\\, blockers and risks\\n"
+                        + "2. Capacity planning for the next iteration\\; including leave\\n"
+                        + "3. Any other business raised by attendees prior to the meeting\r\n");
+                writer.write("LOCATION:Level 3\\, Meeting Room \"Harbour\"\r\n");
+                writer.write("ORGANIZER;CN=\"Organiser, Example\":mailto:organiser@ical4j.example\r\n");
+                for (int j = 0; j < 3; j++) {
+                    writer.write("ATTENDEE;CUTYPE=INDIVIDUAL;ROLE=REQ-PARTICIPANT;PARTSTAT=NEEDS-ACTION;RSVP=TRUE;"
+                            + "CN=Attendee " + j + ":mailto:attendee" + j + "@ical4j.example\r\n");
+                }
+                writer.write("RRULE:FREQ=WEEKLY;COUNT=10;BYDAY=MO\r\n");
+                writer.write("CATEGORIES:MEETING,PLANNING\r\n");
+                if (alarms) {
+                    writer.write("BEGIN:VALARM\r\nACTION:DISPLAY\r\nTRIGGER:-PT15M\r\n"
+                            + "DESCRIPTION:Weekly planning meeting " + i + " starts in 15 minutes\r\nEND:VALARM\r\n");
+                    writer.write("BEGIN:VALARM\r\nACTION:EMAIL\r\nTRIGGER;RELATED=START:-P1D\r\n"
+                            + "SUMMARY:Reminder: Weekly planning meeting " + i + "\r\n"
+                            + "DESCRIPTION:Please review the agenda prior to the meeting\r\n"
+                            + "ATTENDEE:mailto:organiser@ical4j.example\r\nEND:VALARM\r\n");
+                }
+                writer.write("END:VEVENT\r\n");
+            }
+            writer.write("END:VCALENDAR\r\n");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toString();
+    }
+
+    /**
+     * @param eventCount the number of VEVENT components to generate
+     * @param descriptionLength the length of the DESCRIPTION property value of each event
+     * @return a folded iCalendar stream containing events with long, heavily folded descriptions
+     */
+    static String generateDescriptions(int eventCount, int descriptionLength) {
+        var description = new StringBuilder(descriptionLength);
+        while (description.length() < descriptionLength) {
+            description.append("Discussion of outstanding actions\\, blockers and risks\\n");
+        }
+        description.setLength(descriptionLength);
+        return generateEvents(eventCount, "DESCRIPTION:" + description);
+    }
+
+    /**
+     * @param eventCount the number of VEVENT components to generate
+     * @param attachmentSize the size (in bytes) of the binary attachment of each event
+     * @return a folded iCalendar stream containing events with base64-encoded binary attachments
+     */
+    static String generateAttachments(int eventCount, int attachmentSize) {
+        var data = new byte[attachmentSize];
+        new Random(0).nextBytes(data);
+        return generateEvents(eventCount, "ATTACH;FMTTYPE=application/octet-stream;ENCODING=BASE64;VALUE=BINARY:"
+                + Base64.getEncoder().encodeToString(data));
+    }
+
+    private static String generateEvents(int eventCount, String contentLine) {
+        var out = new StringWriter(eventCount * (contentLine.length() + 256));
+        try (var writer = new FoldingWriter(out)) {
+            writer.write("BEGIN:VCALENDAR\r\n");
+            writer.write("PRODID:-//ical4j//Benchmark//EN\r\n");
+            writer.write("VERSION:2.0\r\n");
+            for (int i = 0; i < eventCount; i++) {
+                writer.write("BEGIN:VEVENT\r\n");
+                writer.write("UID:" + i + "-benchmark@ical4j.example\r\n");
+                writer.write("DTSTAMP:20240101T000000Z\r\n");
+                writer.write("DTSTART:20240115T090000Z\r\n");
+                writer.write("SUMMARY:Event " + i + "\r\n");
+                writer.write(contentLine + "\r\n");
+                writer.write("END:VEVENT\r\n");
+            }
+            writer.write("END:VCALENDAR\r\n");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toString();
+    }
+}
@@ -0,0 +1,91 @@
+package net.fortuna.ical4j.data;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares tokenisation throughput of {@link CalendarParserImpl} against the {@link StreamTokenizerCalendarParser}
+ * baseline. Input is pre-unfolded and content is delivered to a handler that only consumes the parsed strings, so
+ * that unfolding and model construction costs don't mask differences in the tokenizer itself.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CalendarParserBenchmark {
+
+    @Param({"content-line", "stream-tokenizer"})
+    public String tokenizer;
+
+    @Param({"1000"})
+    public int eventCount;
+
+    private String data;
+
+    private CalendarParser parser;
+
+    @Setup
+    public void setup() {
+        data = BenchmarkCalendars.generate(eventCount).replace("\r\n ", "");
+        parser = "stream-tokenizer".equals(tokenizer) ? new StreamTokenizerCalendarParser() : new CalendarParserImpl();
+    }
+
+    @Benchmark
+    public void parse(Blackhole blackhole) throws IOException, ParserException {
+        parser.parse(new StringReader(data), new ConsumingContentHandler(blackhole));
+    }
+
+    static class ConsumingContentHandler implements ContentHandler {
+
+        private final Blackhole blackhole;
+
+        ConsumingContentHandler(Blackhole blackhole) {
+            this.blackhole = blackhole;
+        }
+
+        @Override
+        public void startCalendar() {
+        }
+
+        @Override
+        public void endCalendar() {
+        }
+
+        @Override
+        public void startComponent(String name) {
+            blackhole.consume(name);
+        }
+
+        @Override
+        public void endComponent(String name) {
+            blackhole.consume(name);
+        }
+
+        @Override
+        public void startProperty(String name) {
+            blackhole.consume(name);
+        }
+
+        @Override
+        public void propertyValue(String value) {
+            blackhole.consume(value);
+        }
+
+        @Override
+        public void endProperty(String name) {
+            blackhole.consume(name);
+        }
+
+        @Override
+        public void parameter(String name, String value) {
+            blackhole.consume(name);
+            blackhole.consume(value);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package net.fortuna.ical4j.data;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares folding throughput of {@link FoldingWriter} against the {@link CharFoldingWriter} baseline, for content
+ * lines with long DESCRIPTION and ATTACH values. Content lines are written individually, as the outputter does.
+ * The output of both writers is verified to be identical during setup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FoldingWriterBenchmark {
+
+    @Param({"bulk", "char"})
+    public String writer;
+
+    @Param({"description", "attach"})
+    public String content;
+
+    private String[] lines;
+
+    private int length;
+
+    @Setup
+    public void setup() throws IOException {
+        var data = "attach".equals(content) ? BenchmarkCalendars.generateAttachments(100, 16 * 1024)
+                : BenchmarkCalendars.generateDescriptions(1000, 2000);
+        // the generated data is folded..
+        lines = data.replace("\r\n ", "").split("\r\n");
+        length = data.length();
+        if (!fold(false).equals(fold(true))) {
+            throw new IllegalStateException("Folded output differs");
+        }
+    }
+
+    @Benchmark
+    public void fold(Blackhole blackhole) throws IOException {
+        blackhole.consume(fold("char".equals(writer)));
+    }
+
+    private String fold(boolean baseline) throws IOException {
+        var out = new StringWriter(length);
+        try (var folding = baseline ? new CharFoldingWriter(out) : new FoldingWriter(out)) {
+            for (var line : lines) {
+                folding.write(line);
+                folding.write("\r\n");
+            }
+        }
+        return out.toString();
+    }
+}
@@ -0,0 +1,56 @@
+package net.fortuna.ical4j.data;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares parsing throughput of UTF-8 encoded input decoded by an {@link InputStreamReader} against input unfolded
+ * and tokenised at the octet level via {@link OctetReader}, for both US-ASCII and non-ASCII content. Content is
+ * delivered to a handler that only consumes the parsed strings.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OctetInputBenchmark {
+
+    @Param({"octets", "reader"})
+    public String input;
+
+    @Param({"ascii", "utf-8"})
+    public String content;
+
+    private byte[] data;
+
+    private final CalendarParserImpl parser = new CalendarParserImpl();
+
+    @Setup
+    public void setup() {
+        var ics = BenchmarkCalendars.generate(1000);
+        if ("utf-8".equals(content)) {
+            ics = ics.replace("Weekly planning meeting", "Réunion de planification hebdomadaire")
+                    .replace("Meeting Room", "会議室");
+        }
+        data = ics.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public void parse(Blackhole blackhole) throws IOException, ParserException {
+        var handler = new CalendarParserBenchmark.ConsumingContentHandler(blackhole);
+        if ("reader".equals(input)) {
+            parser.parse(new UnfoldingReader(new InputStreamReader(new ByteArrayInputStream(data),
+                    StandardCharsets.UTF_8)), handler);
+        } else {
+            parser.parseOctets(new UnfoldingReader(new OctetReader(ByteBuffer.wrap(data))), handler);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package net.fortuna.ical4j.data;
+
+import net.fortuna.ical4j.model.Calendar;
+import net.fortuna.ical4j.model.Component;
+import net.fortuna.ical4j.model.Property;
+import net.fortuna.ical4j.model.TimeZoneRegistryFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the cost of building a calendar in full against building a projection of the calendar that retains only
+ * the scheduling properties of events.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProjectionBenchmark {
+
+    @Param({"all", "scheduling"})
+    public String projection;
+
+    private String data;
+
+    private ContentHandlerContext context;
+
+    @Setup
+    public void setup() {
+        data = BenchmarkCalendars.generate(1000, true);
+        context = new ContentHandlerContext();
+        if ("scheduling".equals(projection)) {
+            context = context.withProjection(new ContentProjection()
+                    .withSkippedComponentNames(List.of(Component.VALARM, Component.VJOURNAL,
+                            Component.EXPERIMENTAL_PREFIX))
+                    .withPropertyNames(Component.VEVENT, List.of(Property.UID, Property.DTSTART, Property.DTEND,
+                            Property.RRULE, Property.EXDATE, Property.RECURRENCE_ID)));
+        }
+    }
+
+    @Benchmark
+    public Calendar build() throws IOException, ParserException {
+        return new CalendarBuilder(CalendarParserFactory.getInstance().get(), context,
+                TimeZoneRegistryFactory.getInstance().createRegistry()).build(new StringReader(data));
+    }
+}
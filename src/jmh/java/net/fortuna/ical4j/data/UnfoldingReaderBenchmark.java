@@ -0,0 +1,56 @@
+package net.fortuna.ical4j.data;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares unfolding throughput of {@link UnfoldingReader} against the {@link PatternUnfoldingReader} baseline, for
+ * heavily folded content in both strict (CRLF) and relaxed (LF) modes. Unfolded content is read in blocks, as
+ * the parser does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UnfoldingReaderBenchmark {
+
+    @Param({"block", "pattern"})
+    public String reader;
+
+    @Param({"false", "true"})
+    public boolean relaxed;
+
+    @Param({"description", "attach"})
+    public String content;
+
+    private String data;
+
+    private final char[] buffer = new char[8192];
+
+    @Setup
+    public void setup() {
+        data = "attach".equals(content) ? BenchmarkCalendars.generateAttachments(100, 16 * 1024)
+                : BenchmarkCalendars.generateDescriptions(1000, 2000);
+        if (relaxed) {
+            // relaxed unfolding applies to content with LF line breaks..
+            data = data.replace("\r\n", "\n");
+        }
+    }
+
+    @Benchmark
+    public void unfold(Blackhole blackhole) throws IOException {
+        Reader in = "pattern".equals(reader) ? new PatternUnfoldingReader(new StringReader(data), 3, relaxed)
+                : new UnfoldingReader(new StringReader(data), relaxed);
+        int read;
+        while ((read = in.read(buffer, 0, buffer.length)) >= 0) {
+            blackhole.consume(read);
+        }
+    }
+}
@@ -73,9 +73,7 @@ public abstract class AbstractOutputter {
      * @param validating indicates whether to validate calendar when outputting to stream
      */
     public AbstractOutputter(final boolean validating) {
-        this(validating, CompatibilityHints.isHintEnabled(CompatibilityHints.KEY_OUTLOOK_COMPATIBILITY)
-                ? FoldingWriter.MAX_FOLD_LENGTH
-                        : FoldingWriter.REDUCED_FOLD_LENGTH);
+        this(validating, getDefaultFoldLength());
     }
 
     /**
@@ -87,6 +85,15 @@ public abstract class AbstractOutputter {
         this.foldLength = foldLength;
     }
 
+    /**
+     * @return the fold length used where a fold length isn't specified
+     */
+    static int getDefaultFoldLength() {
+        return CompatibilityHints.isHintEnabled(CompatibilityHints.KEY_OUTLOOK_COMPATIBILITY)
+                ? FoldingWriter.MAX_FOLD_LENGTH
+                        : FoldingWriter.REDUCED_FOLD_LENGTH;
+    }
+
     /**
      * @return Returns the validating.
      */
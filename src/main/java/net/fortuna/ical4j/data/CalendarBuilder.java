@@ -32,15 +32,27 @@
 package net.fortuna.ical4j.data;
 
 import net.fortuna.ical4j.model.*;
+import net.fortuna.ical4j.model.component.CalendarComponent;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Parses and builds an iCalendar model from an input stream. Note that this class is not thread-safe.
@@ -62,6 +74,8 @@ public class CalendarBuilder {
 
     private final ContentHandler contentHandler;
 
+    private final ContentHandlerContext contentHandlerContext;
+
     private final TimeZoneRegistry tzRegistry;
 
     /**
@@ -75,7 +89,9 @@ public class CalendarBuilder {
     public CalendarBuilder() {
         this.parser = CalendarParserFactory.getInstance().get();
         this.tzRegistry = TimeZoneRegistryFactory.getInstance().createRegistry();
-        this.contentHandler = new DefaultContentHandler(calendar -> {this.calendar = calendar;}, tzRegistry);
+        this.contentHandlerContext = new ContentHandlerContext();
+        this.contentHandler = new DefaultContentHandler(calendar -> {this.calendar = calendar;}, tzRegistry,
+                contentHandlerContext);
     }
 
     /**
@@ -86,7 +102,9 @@ public class CalendarBuilder {
     public CalendarBuilder(final CalendarParser parser) {
         this.parser = parser;
         this.tzRegistry = TimeZoneRegistryFactory.getInstance().createRegistry();
-        this.contentHandler = new DefaultContentHandler(calendar -> {this.calendar = calendar;}, tzRegistry);
+        this.contentHandlerContext = new ContentHandlerContext();
+        this.contentHandler = new DefaultContentHandler(calendar -> {this.calendar = calendar;}, tzRegistry,
+                contentHandlerContext);
     }
 
     /**
@@ -97,7 +115,9 @@ public class CalendarBuilder {
     public CalendarBuilder(final TimeZoneRegistry tzRegistry) {
         this.parser = CalendarParserFactory.getInstance().get();
         this.tzRegistry = tzRegistry;
-        this.contentHandler = new DefaultContentHandler(calendar -> {this.calendar = calendar;}, tzRegistry);
+        this.contentHandlerContext = new ContentHandlerContext();
+        this.contentHandler = new DefaultContentHandler(calendar -> {this.calendar = calendar;}, tzRegistry,
+                contentHandlerContext);
     }
 
     /**
@@ -111,7 +131,9 @@ public class CalendarBuilder {
     public CalendarBuilder(CalendarParser parser, TimeZoneRegistry tzRegistry) {
         this.parser = parser;
         this.tzRegistry = tzRegistry;
-        this.contentHandler = new DefaultContentHandler(calendar -> {this.calendar = calendar;}, tzRegistry);
+        this.contentHandlerContext = new ContentHandlerContext();
+        this.contentHandler = new DefaultContentHandler(calendar -> {this.calendar = calendar;}, tzRegistry,
+                contentHandlerContext);
     }
 
     /**
@@ -124,9 +146,10 @@ public class CalendarBuilder {
 
         this.parser = parser;
         this.tzRegistry = tzRegistry;
+        this.contentHandlerContext = new ContentHandlerContext().withParameterFactorySupplier(parameterFactoryRegistry)
+                .withPropertyFactorySupplier(propertyFactoryRegistry);
         this.contentHandler = new DefaultContentHandler(calendar -> {this.calendar = calendar;}, tzRegistry,
-                new ContentHandlerContext().withParameterFactorySupplier(parameterFactoryRegistry)
-                        .withPropertyFactorySupplier(propertyFactoryRegistry));
+                contentHandlerContext);
     }
 
     /**
@@ -142,10 +165,11 @@ public class CalendarBuilder {
 
         this.parser = parser;
         this.tzRegistry = tzRegistry;
-        this.contentHandler = new DefaultContentHandler(calendar -> {this.calendar = calendar;}, tzRegistry,
-                new ContentHandlerContext().withParameterFactorySupplier(parameterFactorySupplier)
+        this.contentHandlerContext = new ContentHandlerContext().withParameterFactorySupplier(parameterFactorySupplier)
                 .withPropertyFactorySupplier(propertyFactorySupplier)
-                .withComponentFactorySupplier(componentFactorySupplier));
+                .withComponentFactorySupplier(componentFactorySupplier);
+        this.contentHandler = new DefaultContentHandler(calendar -> {this.calendar = calendar;}, tzRegistry,
+                contentHandlerContext);
     }
 
     /**
@@ -157,6 +181,7 @@ public class CalendarBuilder {
 
         this.parser = parser;
         this.tzRegistry = tzRegistry;
+        this.contentHandlerContext = contentHandlerContext;
         this.contentHandler = new DefaultContentHandler(calendar -> {this.calendar = calendar;}, tzRegistry, contentHandlerContext);
     }
 
@@ -172,6 +197,83 @@ public class CalendarBuilder {
         return build(new InputStreamReader(in, DEFAULT_CHARSET));
     }
 
+    /**
+     * Builds an iCalendar model from the specified data.
+     *
+     * @param data UTF-8 encoded calendar data
+     * @return a calendar parsed from the specified data
+     * @throws IOException     where an error occurs reading the specified data
+     * @throws ParserException where an error occurs parsing the data
+     * @see #build(ByteBuffer)
+     */
+    public Calendar build(final byte[] data) throws IOException, ParserException {
+        return build(ByteBuffer.wrap(data));
+    }
+
+    /**
+     * Builds an iCalendar model from the remaining content of the specified buffer, without modifying the position
+     * of the buffer. Where the builder's parser is a {@link CalendarParserImpl} the data is unfolded and tokenised
+     * at the octet level, such that only the text of names and values is decoded.
+     *
+     * @param in a buffer containing UTF-8 encoded calendar data
+     * @return a calendar parsed from the specified buffer
+     * @throws IOException     where an error occurs reading the specified data
+     * @throws ParserException where an error occurs parsing the data
+     */
+    public Calendar build(final ByteBuffer in) throws IOException, ParserException {
+        if (parser instanceof CalendarParserImpl) {
+            return buildOctets(new OctetReader(in));
+        }
+        return build(new StringReader(DEFAULT_CHARSET.decode(in.duplicate()).toString()));
+    }
+
+    /**
+     * Builds an iCalendar model from the specified channel. Where the builder's parser is a
+     * {@link CalendarParserImpl} the data is unfolded and tokenised at the octet level, such that only the text of
+     * names and values is decoded.
+     *
+     * @param in a blocking channel to read UTF-8 encoded calendar data from
+     * @return a calendar parsed from the specified channel
+     * @throws IOException     where an error occurs reading data from the specified channel
+     * @throws ParserException where an error occurs parsing data from the channel
+     */
+    public Calendar build(final ReadableByteChannel in) throws IOException, ParserException {
+        if (parser instanceof CalendarParserImpl) {
+            return buildOctets(new OctetReader(in));
+        }
+        return build(Channels.newInputStream(in));
+    }
+
+    private Calendar buildOctets(final OctetReader in) throws IOException, ParserException {
+        if (contentHandlerContext.isPassthrough()) {
+            final var sourceReader = new ComponentSourceReader(in, true);
+            return buildWithSource(sourceReader,
+                    () -> ((CalendarParserImpl) parser).parseOctets(new UnfoldingReader(sourceReader), contentHandler));
+        }
+        ((CalendarParserImpl) parser).parseOctets(new UnfoldingReader(in), contentHandler);
+        return calendar;
+    }
+
+    /**
+     * Builds an iCalendar model retaining the source text of top-level components read via the specified reader.
+     */
+    private Calendar buildWithSource(final ComponentSourceReader sourceReader, final ParseAction action)
+            throws IOException, ParserException {
+        final var handler = (DefaultContentHandler) contentHandler;
+        handler.setSourceReader(sourceReader);
+        try {
+            action.parse();
+        } finally {
+            handler.setSourceReader(null);
+        }
+        return calendar;
+    }
+
+    @FunctionalInterface
+    private interface ParseAction {
+        void parse() throws IOException, ParserException;
+    }
+
     /**
      * Builds an iCalendar model from the specified reader. An <code>UnfoldingReader</code> is applied to the
      * specified reader to ensure the data stream is correctly unfolded where appropriate.
@@ -182,6 +284,10 @@ public class CalendarBuilder {
      * @throws ParserException where an error occurs parsing data from the reader
      */
     public Calendar build(final Reader in) throws IOException, ParserException {
+        if (contentHandlerContext.isPassthrough()) {
+            final var sourceReader = new ComponentSourceReader(in, false);
+            return buildWithSource(sourceReader, () -> parser.parse(new UnfoldingReader(sourceReader), contentHandler));
+        }
         return build(new UnfoldingReader(in));
     }
 
@@ -198,6 +304,181 @@ public class CalendarBuilder {
         return calendar;
     }
 
+    /**
+     * Builds an iCalendar model from the specified file, parsing chunks of the file concurrently using the common
+     * fork-join pool.
+     *
+     * @param path a file containing UTF-8 encoded calendar data
+     * @return a calendar parsed from the specified file
+     * @throws IOException     where an error occurs reading data from the specified file
+     * @throws ParserException where an error occurs parsing data from the file
+     * @see #buildParallel(Path, ForkJoinPool)
+     */
+    public Calendar buildParallel(final Path path) throws IOException, ParserException {
+        return buildParallel(path, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Builds an iCalendar model from the specified file, parsing chunks of the file concurrently. The file is
+     * memory-mapped and split at top-level VEVENT and VTODO boundaries, and all VTIMEZONE definitions are
+     * registered in the builder's timezone registry before the chunks are parsed. Components are returned in the
+     * order in which they appear in the file.
+     *
+     * Small files, files larger than 2GB, and files containing multiple VCALENDAR objects are parsed sequentially.
+     * The builder's parser must be thread-safe, as is the case for the default {@link CalendarParserImpl}.
+     *
+     * @param path a file containing UTF-8 encoded calendar data
+     * @param pool the pool used to parse chunks of the file
+     * @return a calendar parsed from the specified file
+     * @throws IOException     where an error occurs reading data from the specified file
+     * @throws ParserException where an error occurs parsing data from the file
+     */
+    public Calendar buildParallel(final Path path, ForkJoinPool pool) throws IOException, ParserException {
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                return build(Channels.newInputStream(channel));
+            }
+            var data = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new ChunkedCalendarBuilder(parser, contentHandlerContext, tzRegistry, pool).build(data);
+        }
+    }
+
+    /**
+     * Builds an iCalendar model from the specified data, parsing chunks of the data concurrently using the common
+     * fork-join pool.
+     *
+     * @param data UTF-8 encoded calendar data
+     * @return a calendar parsed from the specified data
+     * @throws IOException     where an error occurs reading the specified data
+     * @throws ParserException where an error occurs parsing the data
+     * @see #buildParallel(Path, ForkJoinPool)
+     */
+    public Calendar buildParallel(final byte[] data) throws IOException, ParserException {
+        return buildParallel(data, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Builds an iCalendar model from the specified data, parsing chunks of the data concurrently.
+     *
+     * @param data UTF-8 encoded calendar data
+     * @param pool the pool used to parse chunks of the data
+     * @return a calendar parsed from the specified data
+     * @throws IOException     where an error occurs reading the specified data
+     * @throws ParserException where an error occurs parsing the data
+     * @see #buildParallel(Path, ForkJoinPool)
+     */
+    public Calendar buildParallel(final byte[] data, ForkJoinPool pool) throws IOException, ParserException {
+        return new ChunkedCalendarBuilder(parser, contentHandlerContext, tzRegistry, pool)
+                .build(ByteBuffer.wrap(data));
+    }
+
+    /**
+     * Returns a stream of the top-level components parsed from the specified input stream. Components are parsed
+     * lazily as the stream is consumed, such that memory usage is bounded by the largest component rather than the
+     * size of the input. Calendar properties are discarded, and timezone definitions are registered in the builder's
+     * timezone registry as they are parsed (see {@link #getRegistry()}).
+     *
+     * @param in an input stream to read calendar data from
+     * @return a stream of components parsed from the specified input stream
+     * @see #stream(UnfoldingReader, Consumer)
+     */
+    public Stream<CalendarComponent> stream(final InputStream in) {
+        return stream(in, property -> {});
+    }
+
+    /**
+     * Returns a stream of the top-level components parsed from the specified input stream.
+     *
+     * @param in an input stream to read calendar data from
+     * @param calendarPropertyConsumer a consumer of calendar properties as they are parsed
+     * @return a stream of components parsed from the specified input stream
+     * @see #stream(UnfoldingReader, Consumer)
+     */
+    public Stream<CalendarComponent> stream(final InputStream in, Consumer<Property> calendarPropertyConsumer) {
+        return stream(new InputStreamReader(in, DEFAULT_CHARSET), calendarPropertyConsumer);
+    }
+
+    /**
+     * Returns a stream of the top-level components parsed from the specified reader. An <code>UnfoldingReader</code>
+     * is applied to the specified reader to ensure the data stream is correctly unfolded where appropriate.
+     *
+     * @param in a reader to read calendar data from
+     * @param calendarPropertyConsumer a consumer of calendar properties as they are parsed
+     * @return a stream of components parsed from the specified reader
+     * @see #stream(UnfoldingReader, Consumer)
+     */
+    public Stream<CalendarComponent> stream(final Reader in, Consumer<Property> calendarPropertyConsumer) {
+        return stream(new UnfoldingReader(in), calendarPropertyConsumer);
+    }
+
+    /**
+     * Returns a stream of the top-level components parsed from the specified reader. Each component is provided to
+     * the stream as soon as its END line is parsed, and components from all VCALENDAR objects in the input are
+     * included in the order they appear.
+     *
+     * Calendar properties are passed to the specified consumer as they are parsed, which for conforming data is
+     * before any components. Timezone definitions are included in the stream, and are also registered in the
+     * builder's timezone registry before any subsequent components are parsed.
+     *
+     * Errors reading or parsing data are thrown from the stream's terminal operation as an
+     * {@link java.io.UncheckedIOException} or {@link CalendarException} respectively.
+     *
+     * @param uin an unfolding reader to read data from
+     * @param calendarPropertyConsumer a consumer of calendar properties as they are parsed
+     * @return a stream of components parsed from the specified reader
+     */
+    public Stream<CalendarComponent> stream(final UnfoldingReader uin, Consumer<Property> calendarPropertyConsumer) {
+        return StreamSupport.stream(new CalendarComponentSpliterator(parser, uin, tzRegistry, contentHandlerContext,
+                calendarPropertyConsumer), false);
+    }
+
+    /**
+     * Returns a stream of the VCALENDAR objects parsed from the specified input stream, as found in concatenated
+     * feeds and archives. Timezone definitions are registered in the builder's timezone registry.
+     *
+     * @param in an input stream to read calendar data from
+     * @return a stream of calendars parsed from the specified input stream
+     * @see #buildAll(UnfoldingReader, boolean)
+     */
+    public Stream<Calendar> buildAll(final InputStream in) {
+        return buildAll(new InputStreamReader(in, DEFAULT_CHARSET));
+    }
+
+    /**
+     * Returns a stream of the VCALENDAR objects parsed from the specified reader. An <code>UnfoldingReader</code> is
+     * applied to the specified reader to ensure the data stream is correctly unfolded where appropriate.
+     *
+     * @param in a reader to read calendar data from
+     * @return a stream of calendars parsed from the specified reader
+     * @see #buildAll(UnfoldingReader, boolean)
+     */
+    public Stream<Calendar> buildAll(final Reader in) {
+        return buildAll(new UnfoldingReader(in), true);
+    }
+
+    /**
+     * Returns a stream of the VCALENDAR objects parsed from the specified reader. Calendars are parsed lazily as the
+     * stream is consumed, and each calendar is provided to the stream as soon as its END line is parsed, such that
+     * memory usage is bounded by the largest calendar rather than the size of the input.
+     *
+     * Where the timezone registry is shared, timezone definitions are registered in the builder's timezone registry
+     * (see {@link #getRegistry()}) and are available to subsequent calendars. Otherwise each calendar is built with
+     * a new registry, such that timezone definitions aren't retained beyond the calendar that defines them.
+     *
+     * Errors reading or parsing data are thrown from the stream's terminal operation as an
+     * {@link java.io.UncheckedIOException} or {@link CalendarException} respectively.
+     *
+     * @param uin an unfolding reader to read data from
+     * @param sharedRegistry if true, the builder's timezone registry is used for all calendars
+     * @return a stream of calendars parsed from the specified reader
+     */
+    public Stream<Calendar> buildAll(final UnfoldingReader uin, boolean sharedRegistry) {
+        final Supplier<TimeZoneRegistry> tzRegistrySupplier = sharedRegistry ? () -> tzRegistry
+                : () -> TimeZoneRegistryFactory.getInstance().createRegistry();
+        return StreamSupport.stream(new CalendarSpliterator(parser, uin, tzRegistrySupplier, contentHandlerContext),
+                false);
+    }
+
     /**
      * Returns the timezone registry used in the construction of calendars.
      *
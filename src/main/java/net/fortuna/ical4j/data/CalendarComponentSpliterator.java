@@ -0,0 +1,116 @@
+package net.fortuna.ical4j.data;
+
+import net.fortuna.ical4j.model.CalendarException;
+import net.fortuna.ical4j.model.Property;
+import net.fortuna.ical4j.model.TimeZoneRegistry;
+import net.fortuna.ical4j.model.component.CalendarComponent;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+/**
+ * A spliterator that parses top-level calendar components on demand. Each component is made available as soon as
+ * its END line is parsed, and is not retained once it has been consumed.
+ *
+ * Where the parser doesn't support incremental parsing the input is parsed in full on the first advance.
+ */
+final class CalendarComponentSpliterator extends Spliterators.AbstractSpliterator<CalendarComponent> {
+
+    private final CalendarParser parser;
+
+    private final Reader in;
+
+    private final StreamingContentHandler handler;
+
+    private final CalendarParserImpl.Session session;
+
+    private final Consumer<Property> calendarPropertyConsumer;
+
+    private boolean parsed;
+
+    /**
+     * @param parser a calendar parser
+     * @param in a reader to parse calendar data from
+     * @param tzRegistry a registry to populate with parsed timezone definitions
+     * @param context the context for building components
+     * @param calendarPropertyConsumer a consumer of calendar properties
+     */
+    CalendarComponentSpliterator(CalendarParser parser, Reader in, TimeZoneRegistry tzRegistry,
+                                 ContentHandlerContext context, Consumer<Property> calendarPropertyConsumer) {
+        super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+        this.parser = parser;
+        this.in = in;
+        this.handler = new StreamingContentHandler(tzRegistry, context);
+        this.calendarPropertyConsumer = calendarPropertyConsumer;
+        if (parser instanceof CalendarParserImpl) {
+            this.session = ((CalendarParserImpl) parser).newSession(in, handler);
+        } else {
+            this.session = null;
+        }
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super CalendarComponent> action) {
+        try {
+            while (handler.calendarComponents.isEmpty()) {
+                if (!parseNext()) {
+                    return false;
+                }
+                drainProperties();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (ParserException e) {
+            throw new CalendarException(e);
+        }
+        action.accept(handler.calendarComponents.remove(0));
+        return true;
+    }
+
+    private boolean parseNext() throws IOException, ParserException {
+        if (session != null) {
+            return session.next();
+        } else if (!parsed) {
+            parser.parse(in, handler);
+            parsed = true;
+            return true;
+        }
+        return false;
+    }
+
+    private void drainProperties() {
+        if (!handler.calendarProperties.isEmpty()) {
+            handler.calendarProperties.forEach(calendarPropertyConsumer);
+            handler.calendarProperties.clear();
+        }
+    }
+
+    /**
+     * Builds calendar components without retaining them in a calendar instance.
+     */
+    private static class StreamingContentHandler extends DefaultContentHandler {
+
+        StreamingContentHandler(TimeZoneRegistry tzRegistry, ContentHandlerContext context) {
+            super(calendar -> {}, tzRegistry, context);
+            calendarProperties = new ArrayList<>();
+            calendarComponents = new LinkedList<>();
+        }
+
+        @Override
+        public void startCalendar() {
+            // retain unconsumed content across multiple calendars..
+            components.clear();
+        }
+
+        @Override
+        public void endCalendar() {
+            // components and properties are consumed as they are parsed..
+        }
+    }
+}
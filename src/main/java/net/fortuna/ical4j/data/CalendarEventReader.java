@@ -0,0 +1,362 @@
+package net.fortuna.ical4j.data;
+
+import net.fortuna.ical4j.model.Calendar;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * A pull parser for iCalendar data, in the style of a StAX stream reader. Each call to {@link #next()} parses only as
+ * much input as is required to report the next event, such that the consumer controls the pace of parsing and may
+ * stop at any point (e.g. once a component with a specific UID has been read) without reading the remaining input.
+ * <p/>
+ * Calendars are reported as components named {@link Calendar#VCALENDAR}. The accessors return the names and values
+ * as parsed, such that no content objects are built unless requested. Events may be delivered to a
+ * {@link ContentHandler} via {@link #forward(ContentHandler)}, for example to build the components of interest with
+ * a {@link DefaultContentHandler}:
+ * <pre>
+ * try (CalendarEventReader reader = new CalendarEventReader(in)) {
+ *     while (reader.hasNext()) {
+ *         if (reader.next() == CalendarEventReader.EventType.PROPERTY &amp;&amp; reader.getName().equals("UID")) {
+ *             ...
+ *         }
+ *     }
+ * }
+ * </pre>
+ * Note that this class is not thread-safe.
+ */
+public class CalendarEventReader implements Closeable {
+
+    /**
+     * The types of events reported by the reader.
+     */
+    public enum EventType {
+        /**
+         * The start of a component, including the VCALENDAR object.
+         */
+        START_COMPONENT,
+        /**
+         * A property, including its parameters and value.
+         */
+        PROPERTY,
+        /**
+         * The end of a component, including the VCALENDAR object.
+         */
+        END_COMPONENT
+    }
+
+    private final Reader in;
+
+    private final CalendarParserImpl.Session session;
+
+    /**
+     * Events reported by the parser for the most recently parsed content line. Events are reused once they have been
+     * consumed, such that reading content doesn't allocate beyond the parsed strings.
+     */
+    private Event[] events = new Event[0];
+
+    private int eventCount;
+
+    private int eventIndex;
+
+    private boolean ended;
+
+    /**
+     * The current event, which is exchanged with the next event such that it isn't reused while current.
+     */
+    private Event current = new Event();
+
+    private int depth;
+
+    /**
+     * @param in an input stream to read UTF-8 encoded calendar data from
+     */
+    public CalendarEventReader(InputStream in) {
+        this(new InputStreamReader(in, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param in a reader to read calendar data from. An {@link UnfoldingReader} is applied where necessary
+     */
+    public CalendarEventReader(Reader in) {
+        this(defaultParser(), in);
+    }
+
+    /**
+     * @param parser the parser used to read calendar data
+     * @param in a reader to read calendar data from. An {@link UnfoldingReader} is applied where necessary
+     */
+    public CalendarEventReader(CalendarParserImpl parser, Reader in) {
+        this.in = in instanceof UnfoldingReader ? in : new UnfoldingReader(in);
+        this.session = parser.newSession(this.in, new EventRecorder());
+    }
+
+    /**
+     * @return true if another event is available, otherwise false
+     * @throws IOException where an error occurs reading data
+     * @throws ParserException where an error occurs parsing data
+     */
+    public boolean hasNext() throws IOException, ParserException {
+        while (eventIndex == eventCount) {
+            if (ended) {
+                return false;
+            }
+            eventCount = 0;
+            eventIndex = 0;
+            if (!session.next()) {
+                ended = true;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Parses the next event.
+     * @return the type of the next event
+     * @throws IOException where an error occurs reading data
+     * @throws ParserException where an error occurs parsing data
+     * @throws NoSuchElementException where no more events are available
+     */
+    public EventType next() throws IOException, ParserException {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        if (current.type == EventType.END_COMPONENT) {
+            depth--;
+        }
+        final var event = events[eventIndex];
+        events[eventIndex++] = current;
+        current = event;
+        if (current.type == EventType.START_COMPONENT) {
+            depth++;
+        }
+        return current.type;
+    }
+
+    /**
+     * @return the type of the current event
+     */
+    public EventType getEventType() {
+        return currentEvent().type;
+    }
+
+    /**
+     * @return the number of components (including the VCALENDAR object) containing the current event. For the
+     * start and end of a component, the component itself is included
+     */
+    public int getDepth() {
+        currentEvent();
+        return depth;
+    }
+
+    /**
+     * @return the name of the current component or property
+     */
+    public String getName() {
+        return currentEvent().name;
+    }
+
+    /**
+     * @return the value of the current property, or null if the current event is not a property
+     */
+    public String getValue() {
+        return currentEvent().value;
+    }
+
+    /**
+     * @return the number of parameters of the current property
+     */
+    public int getParameterCount() {
+        return currentEvent().parameterCount;
+    }
+
+    /**
+     * @param index the index of a parameter of the current property
+     * @return the name of the specified parameter
+     */
+    public String getParameterName(int index) {
+        return currentEvent().parameters[parameterIndex(index)];
+    }
+
+    /**
+     * @param index the index of a parameter of the current property
+     * @return the value of the specified parameter as parsed, including any quotes
+     */
+    public String getParameterValue(int index) {
+        return currentEvent().parameters[parameterIndex(index) + 1];
+    }
+
+    /**
+     * @param name a parameter name
+     * @return the value of the first parameter of the current property with the specified name (irrespective of
+     * case), or null if no such parameter exists
+     */
+    public String getParameterValue(String name) {
+        var event = currentEvent();
+        for (int i = 0; i < event.parameterCount; i++) {
+            if (event.parameters[i * 2].equalsIgnoreCase(name)) {
+                return event.parameters[i * 2 + 1];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Reports the current event to the specified handler, such that content may be built selectively from the
+     * events read. The start and end of the VCALENDAR object are reported as the start and end of a calendar.
+     * Exceptions thrown by the handler are propagated unchanged.
+     * @param handler a content handler
+     * @throws IOException where the handler fails to complete a calendar
+     */
+    public void forward(ContentHandler handler) throws IOException {
+        var event = currentEvent();
+        switch (event.type) {
+            case START_COMPONENT:
+                if (depth == 1) {
+                    handler.startCalendar();
+                } else {
+                    handler.startComponent(event.name);
+                }
+                break;
+            case END_COMPONENT:
+                if (depth == 1) {
+                    handler.endCalendar();
+                } else {
+                    handler.endComponent(event.name);
+                }
+                break;
+            default:
+                handler.startProperty(event.name);
+                for (int i = 0; i < event.parameterCount; i++) {
+                    handler.parameter(event.parameters[i * 2], event.parameters[i * 2 + 1]);
+                }
+                handler.propertyValue(event.value);
+                handler.endProperty(event.name);
+        }
+    }
+
+    /**
+     * Closes the underlying reader. Unread input is discarded.
+     * @throws IOException where an error occurs closing the reader
+     */
+    @Override
+    public void close() throws IOException {
+        ended = true;
+        eventCount = 0;
+        eventIndex = 0;
+        in.close();
+    }
+
+    private static CalendarParserImpl defaultParser() {
+        final var parser = CalendarParserFactory.getInstance().get();
+        return parser instanceof CalendarParserImpl ? (CalendarParserImpl) parser : new CalendarParserImpl();
+    }
+
+    private Event currentEvent() {
+        if (current.type == null) {
+            throw new IllegalStateException("No current event");
+        }
+        return current;
+    }
+
+    private int parameterIndex(int index) {
+        if (index < 0 || index >= currentEvent().parameterCount) {
+            throw new IndexOutOfBoundsException("Parameter index: " + index);
+        }
+        return index * 2;
+    }
+
+    private Event nextEvent(EventType type, String name) {
+        if (eventCount == events.length) {
+            events = Arrays.copyOf(events, eventCount + 2);
+            for (int i = eventCount; i < events.length; i++) {
+                events[i] = new Event();
+            }
+        }
+        var event = events[eventCount++];
+        event.type = type;
+        event.name = name;
+        event.value = null;
+        event.parameterCount = 0;
+        return event;
+    }
+
+    private static final class Event {
+
+        private EventType type;
+
+        private String name;
+
+        private String value;
+
+        /**
+         * Parameter names and values, stored in adjacent elements.
+         */
+        private String[] parameters = new String[8];
+
+        private int parameterCount;
+
+        private void parameter(String name, String value) {
+            if (parameterCount * 2 == parameters.length) {
+                parameters = Arrays.copyOf(parameters, parameters.length * 2);
+            }
+            parameters[parameterCount * 2] = name;
+            parameters[parameterCount * 2 + 1] = value;
+            parameterCount++;
+        }
+    }
+
+    /**
+     * Records the events reported by the parser for the current content line.
+     */
+    private class EventRecorder implements ContentHandler {
+
+        private Event property;
+
+        @Override
+        public void startCalendar() {
+            nextEvent(EventType.START_COMPONENT, Calendar.VCALENDAR);
+        }
+
+        @Override
+        public void endCalendar() {
+            nextEvent(EventType.END_COMPONENT, Calendar.VCALENDAR);
+        }
+
+        @Override
+        public void startComponent(String name) {
+            nextEvent(EventType.START_COMPONENT, name);
+        }
+
+        @Override
+        public void endComponent(String name) {
+            nextEvent(EventType.END_COMPONENT, name);
+        }
+
+        @Override
+        public void startProperty(String name) {
+            property = nextEvent(EventType.PROPERTY, name);
+        }
+
+        @Override
+        public void propertyValue(String value) {
+            property.value = value;
+        }
+
+        @Override
+        public void endProperty(String name) {
+            property = null;
+        }
+
+        @Override
+        public void parameter(String name, String value) {
+            property.parameter(name, value);
+        }
+    }
+}
@@ -32,13 +32,22 @@
 package net.fortuna.ical4j.data;
 
 import net.fortuna.ical4j.model.Calendar;
+import net.fortuna.ical4j.model.component.CalendarComponent;
 import net.fortuna.ical4j.validate.ValidationException;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
 import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 /**
  * <pre>
@@ -50,6 +59,19 @@ import java.io.Writer;
  */
 public class CalendarOutputter extends AbstractOutputter {
 
+    /**
+     * The default number of components serialised by each task when serialising in parallel.
+     */
+    public static final int DEFAULT_PARTITION_SIZE = 256;
+
+    private boolean octetFolding;
+
+    private Executor executor;
+
+    private int partitionSize = DEFAULT_PARTITION_SIZE;
+
+    private int partitionWindow = Runtime.getRuntime().availableProcessors() * 2;
+
     /**
      * Default constructor.
      */
@@ -72,6 +94,79 @@ public class CalendarOutputter extends AbstractOutputter {
         super(validating, foldLength);
     }
 
+    /**
+     * @return true if lines are folded on the length of UTF-8 encoded octets when writing to an output stream or
+     * channel, otherwise false
+     */
+    public final boolean isOctetFolding() {
+        return octetFolding;
+    }
+
+    /**
+     * Specifies whether lines are folded on the length of UTF-8 encoded octets, as specified by RFC 5545, rather than
+     * the number of characters. Where enabled, output to an output stream or channel is encoded directly into a
+     * buffer of octets rather than via an {@link OutputStreamWriter}. Output to a writer is always folded on the
+     * number of characters.
+     * @param octetFolding true to fold lines on the length of encoded octets
+     */
+    public final void setOctetFolding(final boolean octetFolding) {
+        this.octetFolding = octetFolding;
+    }
+
+    /**
+     * @return the executor used to serialise components in parallel, or null if components are serialised
+     * sequentially
+     */
+    public final Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Specifies an executor used to serialise calendar components in parallel. Where specified, the components of
+     * a calendar are partitioned and each partition is serialised and folded into a buffer by the executor. Buffers
+     * are written to the output in the original order of the components, and are reused once written.
+     * @param executor an executor, or null to serialise components sequentially
+     */
+    public final void setExecutor(final Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * @return the number of components serialised by each task when serialising in parallel
+     */
+    public final int getPartitionSize() {
+        return partitionSize;
+    }
+
+    /**
+     * @param partitionSize the number of components serialised by each task when serialising in parallel
+     */
+    public final void setPartitionSize(final int partitionSize) {
+        if (partitionSize < 1) {
+            throw new IllegalArgumentException("Partition size must be positive");
+        }
+        this.partitionSize = partitionSize;
+    }
+
+    /**
+     * @return the maximum number of partitions serialised or awaiting output at any time
+     */
+    public final int getPartitionWindow() {
+        return partitionWindow;
+    }
+
+    /**
+     * Specifies the maximum number of partitions serialised or awaiting output at any time when serialising in
+     * parallel, which bounds the memory used for buffers independently of the size of the calendar.
+     * @param partitionWindow the maximum number of partitions in flight
+     */
+    public final void setPartitionWindow(final int partitionWindow) {
+        if (partitionWindow < 1) {
+            throw new IllegalArgumentException("Partition window must be positive");
+        }
+        this.partitionWindow = partitionWindow;
+    }
+
     /**
      * Outputs an iCalender string to the specified output stream.
      * @param calendar calendar to write to ouput stream
@@ -81,7 +176,27 @@ public class CalendarOutputter extends AbstractOutputter {
      */
     public final void output(final Calendar calendar, final OutputStream out)
             throws IOException, ValidationException {
-        output(calendar, new OutputStreamWriter(out, DEFAULT_CHARSET));
+        if (octetFolding) {
+            output(calendar, new CalendarWriter(out, foldLength, true));
+        } else {
+            output(calendar, new OutputStreamWriter(out, DEFAULT_CHARSET));
+        }
+    }
+
+    /**
+     * Outputs an iCalender string to the specified channel.
+     * @param calendar calendar to write to the channel
+     * @param out a blocking channel
+     * @throws IOException thrown when unable to write to the channel
+     * @throws ValidationException where calendar validation fails
+     */
+    public final void output(final Calendar calendar, final WritableByteChannel out)
+            throws IOException, ValidationException {
+        if (octetFolding) {
+            output(calendar, new CalendarWriter(out, foldLength));
+        } else {
+            output(calendar, Channels.newOutputStream(out));
+        }
     }
 
     /**
@@ -93,6 +208,10 @@ public class CalendarOutputter extends AbstractOutputter {
      */
     public final void output(final Calendar calendar, final Writer out)
             throws IOException, ValidationException {
+        output(calendar, new CalendarWriter(out, foldLength));
+    }
+
+    private void output(final Calendar calendar, final CalendarWriter out) throws IOException {
         if (isValidating()) {
             var result = calendar.validate();
             if (result.hasErrors()) {
@@ -100,8 +219,67 @@ public class CalendarOutputter extends AbstractOutputter {
             }
         }
 
-        try (var writer = new FoldingWriter(out, foldLength)) {
-            writer.write(calendar.toString());
+        try (var writer = out) {
+            writer.writeHeader(calendar.getPropertyList());
+            final List<CalendarComponent> components = calendar.getComponentList().getAll();
+            if (executor != null && components.size() > partitionSize) {
+                writeParallel(components, writer);
+            } else {
+                for (var component : components) {
+                    writer.write(component);
+                }
+            }
+            // the calendar is only ended where all components are written..
+            writer.writeFooter();
+        }
+    }
+
+    /**
+     * Serialises partitions of the specified components concurrently, and writes them in order as each partition
+     * at the head of the window completes. Where a partition fails, pending partitions are cancelled and the failure
+     * is thrown before the end of the calendar is written.
+     */
+    private void writeParallel(final List<CalendarComponent> components, final CalendarWriter writer)
+            throws IOException {
+
+        final var buffers = new ArrayDeque<ComponentBuffer>();
+        final var pending = new ArrayDeque<CompletableFuture<ComponentBuffer>>();
+        int next = 0;
+        try {
+            while (next < components.size() || !pending.isEmpty()) {
+                while (next < components.size() && pending.size() < partitionWindow) {
+                    final var partition = components.subList(next, Math.min(next + partitionSize, components.size()));
+                    final var buffer = buffers.isEmpty() ? writer.newBuffer() : buffers.pop();
+                    pending.add(CompletableFuture.supplyAsync(() -> {
+                        try {
+                            buffer.write(partition);
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                        return buffer;
+                    }, executor));
+                    next += partition.size();
+                }
+                final var buffer = join(pending.remove());
+                writer.write(buffer);
+                buffer.reset();
+                buffers.push(buffer);
+            }
+        } finally {
+            pending.forEach(f -> f.cancel(false));
+        }
+    }
+
+    private static ComponentBuffer join(final CompletableFuture<ComponentBuffer> partition) throws IOException {
+        try {
+            return partition.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) e.getCause()).getCause();
+            } else if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
         }
     }
 }
@@ -39,7 +39,11 @@ import org.slf4j.LoggerFactory;
 
 import java.io.*;
 import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
 import java.text.MessageFormat;
+import java.util.ArrayDeque;
+import java.util.Deque;
 
 /**
  * <pre>
@@ -48,31 +52,18 @@ import java.text.MessageFormat;
  *  Created [Nov 5, 2004]
  * </pre>
  * <p/>
- * The default implementation of a calendar parser.
+ * The default implementation of a calendar parser. Content lines are tokenised by a
+ * {@link ContentLineTokenizer} operating directly on a character buffer.
  *
  * @author Ben Fortuna
  */
 public class CalendarParserImpl implements CalendarParser {
 	private static final int IGNORE_BEGINNING_NON_WORD_COUNT = 10;
-	
-    private static final int WORD_CHAR_START = 32;
-
-    private static final int WORD_CHAR_END = 255;
-
-    private static final int WHITESPACE_CHAR_START = 0;
-
-    private static final int WHITESPACE_CHAR_END = 20;
 
     private static final String UNEXPECTED_TOKEN_MESSAGE = "Expected [{0}], read [{1}]";
 
     private final Logger log = LoggerFactory.getLogger(CalendarParserImpl.class);
 
-    private final ComponentListParser componentListParser = new ComponentListParser();
-
-    private final ComponentParser componentParser = new ComponentParser();
-
-    private final PropertyListParser propertyListParser = new PropertyListParser();
-
     private final PropertyParser propertyParser = new PropertyParser();
 
     private final ParameterListParser paramListParser = new ParameterListParser();
@@ -99,131 +90,283 @@ public class CalendarParserImpl implements CalendarParser {
     }
 
     /**
-     * Parses an iCalendar VCALENDAR from the specified stream tokeniser.
-     * 
-     * @param tokeniser
-     * @param in
-     * @param handler
-     * @throws IOException
-     * @throws URISyntaxException
-     * @throws ParserException
+     * {@inheritDoc}
      */
-    private void parseCalendar(final StreamTokenizer tokeniser, Reader in,
-            final ContentHandler handler) throws IOException,
-            URISyntaxException, ParserException {
-
-        assertToken(tokeniser, in, ':');
-
-        assertToken(tokeniser, in, Calendar.VCALENDAR, true, false);
-
-        assertToken(tokeniser, in, StreamTokenizer.TT_EOL);
-
-        handler.startCalendar();
-
-        absorbWhitespace(tokeniser, in);
-
-        // parse calendar properties..
-        propertyListParser.parse(tokeniser, in, handler);
-
-        // parse components..
-        componentListParser.parse(tokeniser, in, handler);
-
-        // END:VCALENDAR
-        // assertToken(tokeniser,Calendar.END);
-
-        assertToken(tokeniser, in, ':');
+    @Override
+    public final void parse(final Reader in, final ContentHandler handler)
+            throws IOException, ParserException {
 
-        assertToken(tokeniser, in, Calendar.VCALENDAR, true, false);
+        parse(new Session(in, handler, false));
+    }
 
-        handler.endCalendar();
+    /**
+     * Parses UTF-8 encoded iCalendar data from the remaining content of the specified buffer. Content is tokenised
+     * at the octet level, such that only the text of names and values is decoded. The position of the buffer is not
+     * modified.
+     * @param in a buffer containing UTF-8 encoded iCalendar data
+     * @param handler the content handler to notify during parsing
+     * @throws IOException where an error occurs reading data
+     * @throws ParserException where an error occurs parsing data
+     */
+    public final void parse(final ByteBuffer in, final ContentHandler handler)
+            throws IOException, ParserException {
+        parseOctets(new OctetReader(in), handler);
     }
+
     /**
-     * {@inheritDoc}
+     * Parses UTF-8 encoded iCalendar data from the specified channel. Content is tokenised at the octet level, such
+     * that only the text of names and values is decoded.
+     * @param in a blocking channel to read UTF-8 encoded iCalendar data from
+     * @param handler the content handler to notify during parsing
+     * @throws IOException where an error occurs reading data
+     * @throws ParserException where an error occurs parsing data
      */
-    @Override
-    public final void parse(final Reader in, final ContentHandler handler)
+    public final void parse(final ReadableByteChannel in, final ContentHandler handler)
             throws IOException, ParserException {
+        parseOctets(new OctetReader(in), handler);
+    }
 
-        final var tokeniser = new StreamTokenizer(in);
-        try {
-            tokeniser.resetSyntax();
-            tokeniser.wordChars(WORD_CHAR_START, WORD_CHAR_END);
-            tokeniser.whitespaceChars(WHITESPACE_CHAR_START,
-                    WHITESPACE_CHAR_END);
-            tokeniser.ordinaryChar(':');
-            tokeniser.ordinaryChar(';');
-            tokeniser.ordinaryChar('=');
-            tokeniser.ordinaryChar('\t');
-            tokeniser.eolIsSignificant(true);
-            tokeniser.whitespaceChars(0, 0);
-            tokeniser.quoteChar('"');
-
-            parseCalendarList(tokeniser, in, handler);
-        } catch (IOException | URISyntaxException | RuntimeException e) {
-
-            if (e instanceof IOException) {
-                throw (IOException) e;
-            } else {
-                throw new ParserException(e.getMessage(), getLineNumber(tokeniser, in), e);
-            }
+    /**
+     * @param in a reader supplying the octets of UTF-8 encoded iCalendar data (see {@link OctetReader}), optionally
+     *           via an {@link UnfoldingReader}
+     * @param handler the content handler to notify during parsing
+     */
+    void parseOctets(final Reader in, final ContentHandler handler) throws IOException, ParserException {
+        parse(new Session(in, handler, true));
+    }
+
+    private void parse(final Session session) throws IOException, ParserException {
+        while (session.next()) {
+            // content is reported to the handler as each content line is parsed..
         }
     }
 
     /**
-     * Parses multiple VCALENDARs from the specified stream tokeniser.
-     * 
-     * @param tokeniser
-     * @param handler
-     * @throws IOException
-     * @throws URISyntaxException
-     * @throws ParserException
+     * @param in a reader to read iCalendar data from
+     * @param handler the content handler to notify during parsing
+     * @return a session for parsing the specified reader incrementally
      */
-    private void parseCalendarList(final StreamTokenizer tokeniser, Reader in, 
-            final ContentHandler handler) throws IOException,
-            URISyntaxException, ParserException {
-
-        // BEGIN:VCALENDAR
-        int ntok = assertToken(tokeniser, in, Calendar.BEGIN, false, true);
-        while (ntok != StreamTokenizer.TT_EOF) {
-            parseCalendar(tokeniser, in, handler);
-            absorbWhitespace(tokeniser, in);
-            ntok = nextToken(tokeniser, in, true);
-        }
+    Session newSession(final Reader in, final ContentHandler handler) {
+        return new Session(in, handler, false);
     }
 
     /**
-     * Parses an iCalendar property list from the specified stream tokeniser.
+     * @param in a reader to read iCalendar data from
+     * @param handler the content handler to notify during parsing
+     * @param octets if true, the reader supplies the octets of UTF-8 encoded data
+     * @return a session for parsing the specified reader incrementally
      */
-    private class PropertyListParser {
+    Session newSession(final Reader in, final ContentHandler handler, final boolean octets) {
+        return new Session(in, handler, octets);
+    }
+
+    /**
+     * Parses iCalendar data from the specified reader incrementally, one content line at a time.
+     */
+    final class Session {
+
+        private static final int START = 0;
+
+        private static final int NEXT_CALENDAR = 1;
+
+        private static final int FIRST_LINE = 2;
+
+        private static final int NEXT_LINE = 3;
+
+        private static final int END = 4;
+
+        private final ContentLineTokenizer tokeniser;
+
+        private final Reader in;
+
+        private final ContentHandler handler;
 
         /**
-         * @param tokeniser
-         * @throws IOException
-         * @throws URISyntaxException
-         * @throws URISyntaxException
-         * @throws ParserException
+         * Names of the components currently open, innermost first.
          */
-        public void parse(final StreamTokenizer tokeniser, Reader in,
-                          final ContentHandler handler) throws IOException,
-                URISyntaxException, ParserException {
-
-            assertToken(tokeniser, in, StreamTokenizer.TT_WORD);
-
-            while (/*
-                     * !Component.BEGIN.equals(tokeniser.sval) &&
-                     */!Component.END.equals(tokeniser.sval)) {
-                // check for timezones observances or vevent/vtodo alarms..
-                if (Component.BEGIN.equals(tokeniser.sval)) {
-                    componentParser.parse(tokeniser, in, handler);
-                } else if (tokeniser.sval != null) {
-                    propertyParser.parse(tokeniser, in, handler);
-                } else if (absorbWhitespaceEnabled) {
-                    absorbWhitespace(tokeniser, in);
+        private final Deque<String> components = new ArrayDeque<>();
+
+        /**
+         * Names of the skipped components currently open, innermost first.
+         */
+        private final Deque<String> skipped = new ArrayDeque<>();
+
+        private int state = START;
+
+        /**
+         * @param in a reader to read iCalendar data from
+         * @param handler the content handler to notify during parsing
+         * @param octets if true, the reader supplies the octets of UTF-8 encoded data
+         */
+        Session(final Reader in, final ContentHandler handler, final boolean octets) {
+            this.tokeniser = new ContentLineTokenizer(in, octets);
+            this.in = in;
+            this.handler = handler;
+        }
+
+        /**
+         * Parses the next content line (or, for VCALENDAR boundaries, the next group of lines) and notifies the
+         * handler accordingly, without reading ahead to the following content line.
+         *
+         * @return false if the end of input has been reached, otherwise true
+         * @throws IOException where an error occurs reading data from the reader
+         * @throws ParserException where an error occurs parsing data from the reader
+         */
+        boolean next() throws IOException, ParserException {
+            try {
+                switch (state) {
+                    case START:
+                        // BEGIN:VCALENDAR
+                        if (assertToken(tokeniser, in, Calendar.BEGIN, false, true) == ContentLineTokenizer.TT_EOF) {
+                            state = END;
+                            return false;
+                        }
+                        startCalendar();
+                        return true;
+                    case NEXT_CALENDAR:
+                        absorbWhitespace(tokeniser, in);
+                        if (nextToken(tokeniser, in, true) == ContentLineTokenizer.TT_EOF) {
+                            state = END;
+                            return false;
+                        }
+                        startCalendar();
+                        return true;
+                    case FIRST_LINE:
+                        assertToken(tokeniser, in, ContentLineTokenizer.TT_WORD);
+                        parseContentLine();
+                        return true;
+                    case NEXT_LINE:
+                        nextToken(tokeniser, in, false);
+                        parseContentLine();
+                        return true;
+                    default:
+                        return false;
+                }
+            } catch (IOException | URISyntaxException | RuntimeException | ParserException e) {
+                state = END;
+                if (e instanceof IOException) {
+                    throw (IOException) e;
+                } else if (e instanceof ParserException) {
+                    throw (ParserException) e;
+                } else {
+                    throw new ParserException(e.getMessage(), getLineNumber(tokeniser, in), e);
+                }
+            }
+        }
+
+        /**
+         * @return the number of components currently open, excluding VCALENDAR
+         */
+        int getDepth() {
+            return components.size();
+        }
+
+        private void startCalendar() throws IOException, ParserException {
+            assertToken(tokeniser, in, ':');
+
+            assertToken(tokeniser, in, Calendar.VCALENDAR, true, false);
+
+            assertToken(tokeniser, in, ContentLineTokenizer.TT_EOL);
+
+            handler.startCalendar();
+
+            absorbWhitespace(tokeniser, in);
+            state = FIRST_LINE;
+        }
+
+        private void endCalendar() throws IOException, ParserException {
+            assertToken(tokeniser, in, ':');
+
+            assertToken(tokeniser, in, Calendar.VCALENDAR, true, false);
+
+            handler.endCalendar();
+            state = NEXT_CALENDAR;
+        }
+
+        private void startComponent() throws IOException, ParserException {
+            assertToken(tokeniser, in, ':');
+
+            assertToken(tokeniser, in, ContentLineTokenizer.TT_WORD);
+
+            final var name = tokeniser.getText();
+
+            if (handler.isSkippedComponent(name)) {
+                assertToken(tokeniser, in, ContentLineTokenizer.TT_EOL);
+                skipped.push(name);
+                state = NEXT_LINE;
+                return;
+            }
+
+            handler.startComponent(name);
+
+            assertToken(tokeniser, in, ContentLineTokenizer.TT_EOL);
+            absorbWhitespace(tokeniser, in);
+
+            components.push(name);
+            state = FIRST_LINE;
+        }
+
+        private void endComponent() throws IOException, ParserException {
+            final var name = components.pop();
+
+            assertToken(tokeniser, in, ':');
+
+            assertToken(tokeniser, in, name);
+
+            assertToken(tokeniser, in, ContentLineTokenizer.TT_EOL);
+
+            handler.endComponent(name);
+            state = NEXT_LINE;
+        }
+
+        private void parseContentLine() throws IOException, URISyntaxException, ParserException {
+            if (!skipped.isEmpty()) {
+                skipContentLine();
+            } else if (tokeniser.textEquals(Component.END, false)) {
+                if (components.isEmpty()) {
+                    endCalendar();
                 } else {
-                    throw new ParserException("Invalid property name", getLineNumber(tokeniser, in));
+                    endComponent();
                 }
-                nextToken(tokeniser, in, false);
-                // assertToken(tokeniser, StreamTokenizer.TT_WORD);
+            } else if (tokeniser.textEquals(Component.BEGIN, false)) {
+                // timezone observances, vevent/vtodo alarms, etc.
+                startComponent();
+            } else if (tokeniser.hasText()) {
+                if (handler.isSkippedProperty(components.isEmpty() ? Calendar.VCALENDAR : components.peek(),
+                        tokeniser.getText())) {
+                    propertyParser.skip(tokeniser, in);
+                } else {
+                    propertyParser.parse(tokeniser, in, handler);
+                }
+                state = NEXT_LINE;
+            } else if (absorbWhitespaceEnabled) {
+                absorbWhitespace(tokeniser, in);
+                state = NEXT_LINE;
+            } else {
+                throw new ParserException("Invalid property name", getLineNumber(tokeniser, in));
+            }
+        }
+
+        /**
+         * Reads past a content line of a skipped component, including the lines of any nested components. The
+         * component is closed by its END line.
+         */
+        private void skipContentLine() throws IOException, ParserException {
+            if (tokeniser.textEquals(Component.END, false)) {
+                assertToken(tokeniser, in, ':');
+                assertToken(tokeniser, in, skipped.pop());
+                assertToken(tokeniser, in, ContentLineTokenizer.TT_EOL);
+            } else if (tokeniser.textEquals(Component.BEGIN, false)) {
+                assertToken(tokeniser, in, ':');
+                assertToken(tokeniser, in, ContentLineTokenizer.TT_WORD);
+                skipped.push(tokeniser.getText());
+                assertToken(tokeniser, in, ContentLineTokenizer.TT_EOL);
+            } else if (tokeniser.hasText()) {
+                propertyParser.skip(tokeniser, in);
+            } else if (absorbWhitespaceEnabled || tokeniser.getType() == ContentLineTokenizer.TT_EOL) {
+                absorbWhitespace(tokeniser, in);
+            } else {
+                throw new ParserException("Invalid property name", getLineNumber(tokeniser, in));
             }
         }
     }
@@ -243,11 +386,11 @@ public class CalendarParserImpl implements CalendarParser {
          * @throws ParserException
          * @throws URISyntaxException
          */
-        private void parse(final StreamTokenizer tokeniser, Reader in,
+        private void parse(final ContentLineTokenizer tokeniser, Reader in,
                            final ContentHandler handler) throws IOException, ParserException,
                 URISyntaxException {
 
-            final var name = tokeniser.sval;
+            final var name = tokeniser.getText();
             // debugging..
             if (log.isTraceEnabled()) {
                 log.trace(MessageFormat.format(PARSE_DEBUG_MESSAGE, name));
@@ -261,36 +404,32 @@ public class CalendarParserImpl implements CalendarParser {
             // after the first instance on a line is used.. as such
             // we must continue appending to value until EOL is
             // reached..
-            // assertToken(tokeniser, StreamTokenizer.TT_WORD);
-
-            // String value = tokeniser.sval;
-            final var value = new StringBuilder();
-
-            // assertToken(tokeniser,StreamTokenizer.TT_EOL);
-
+            //
             // DQUOTE is ordinary char for property value
             // From sec 4.3.11 of rfc-2445:
             // text       = *(TSAFE-CHAR / ":" / DQUOTE / ESCAPED-CHAR)
             //
-            tokeniser.ordinaryChar('"');
-            int nextToken = nextToken(tokeniser, in);
+            final var value = tokeniser.readValue();
+            if (value == null) {
+                throw new ParserException("Unexpected end of file", getLineNumber(tokeniser, in));
+            }
 
-            while (nextToken != StreamTokenizer.TT_EOL) {
+            handler.propertyValue(value);
+            handler.endProperty(name);
+        }
 
-                if (tokeniser.ttype == StreamTokenizer.TT_WORD) {
-                    value.append(tokeniser.sval);
-                } else {
-                    value.append((char) tokeniser.ttype);
-                }
+        /**
+         * Reads past the parameters and value of a property without materialising them.
+         * @param tokeniser
+         * @throws IOException
+         * @throws ParserException
+         */
+        private void skip(final ContentLineTokenizer tokeniser, Reader in) throws IOException, ParserException {
+            paramListParser.skip(tokeniser, in);
 
-                nextToken = nextToken(tokeniser, in);
+            if (!tokeniser.skipValue()) {
+                throw new ParserException("Unexpected end of file", getLineNumber(tokeniser, in));
             }
-
-            // reset DQUOTE to be quote char
-            tokeniser.quoteChar('"');
-
-            handler.propertyValue(value.toString());
-            handler.endProperty(name);
         }
     }
 
@@ -305,7 +444,7 @@ public class CalendarParserImpl implements CalendarParser {
          * @throws ParserException
          * @throws URISyntaxException
          */
-        public void parse(final StreamTokenizer tokeniser, Reader in,
+        public void parse(final ContentLineTokenizer tokeniser, Reader in,
                           final ContentHandler handler) throws IOException, ParserException,
                 URISyntaxException {
 
@@ -313,6 +452,17 @@ public class CalendarParserImpl implements CalendarParser {
                 paramParser.parse(tokeniser, in, handler);
             }
         }
+
+        /**
+         * @param tokeniser
+         * @throws IOException
+         * @throws ParserException
+         */
+        public void skip(final ContentLineTokenizer tokeniser, Reader in) throws IOException, ParserException {
+            while (nextToken(tokeniser, in) == ';') {
+                paramParser.skip(tokeniser, in);
+            }
+        }
     }
 
     private class ParameterParser {
@@ -324,13 +474,13 @@ public class CalendarParserImpl implements CalendarParser {
          * @throws ParserException
          * @throws URISyntaxException
          */
-        private void parse(final StreamTokenizer tokeniser, Reader in,
+        private void parse(final ContentLineTokenizer tokeniser, Reader in,
                            final ContentHandler handler) throws IOException, ParserException,
                 URISyntaxException {
 
-            assertToken(tokeniser, in, StreamTokenizer.TT_WORD);
+            assertToken(tokeniser, in, ContentLineTokenizer.TT_WORD);
 
-            final var paramName = tokeniser.sval;
+            final var paramName = tokeniser.getText();
 
             // debugging..
             if (log.isTraceEnabled()) {
@@ -339,129 +489,38 @@ public class CalendarParserImpl implements CalendarParser {
 
             assertToken(tokeniser, in, '=');
 
-            final var paramValue = new StringBuilder();
-
-            // preserve quote chars..
-            if (nextToken(tokeniser, in) == '"') {
-                paramValue.append('"');
-                paramValue.append(tokeniser.sval);
-                paramValue.append('"');
-            } else if (tokeniser.sval != null) {
-                paramValue.append(tokeniser.sval);
-                // check for additional words to account for equals (=) in param-value
-                int nextToken = nextToken(tokeniser, in);
-
-                while (nextToken != ';' && nextToken != ':' && nextToken != ','
-                        || isEscapedSemicolon(nextToken, paramValue)) {
-
-                    if (tokeniser.ttype == StreamTokenizer.TT_WORD) {
-                        paramValue.append(tokeniser.sval);
-                    } else {
-                        paramValue.append((char) tokeniser.ttype);
-                    }
-
-                    nextToken = nextToken(tokeniser, in);
-                }
-                tokeniser.pushBack();
-            } else { //if (tokeniser.sval == null) {
-                tokeniser.pushBack();
+            // Apple's X-APPLE-STRUCTURED-LOCATION emits parameter values like
+            // `X-TITLE=Hauptstraße 1-5\; 4041 Linz`. RFC 5545 doesn't permit a
+            // semicolon (escaped or otherwise) inside a parameter value, so under
+            // relaxed parsing we treat `\;` as a literal part of the value rather
+            // than a parameter separator.
+            final var paramValue = tokeniser.readParameterValue(absorbWhitespaceEnabled);
+            if (paramValue == null) {
+                throw new ParserException("Unexpected end of file", getLineNumber(tokeniser, in));
             }
 
             try {
-                handler.parameter(paramName, paramValue.toString());
+                handler.parameter(paramName, paramValue);
             } catch (ClassCastException cce) {
                 throw new ParserException("Error parsing parameter", getLineNumber(tokeniser, in), cce);
             }
         }
 
-        // Apple's X-APPLE-STRUCTURED-LOCATION emits parameter values like
-        // `X-TITLE=Hauptstraße 1-5\; 4041 Linz`. RFC 5545 doesn't permit a
-        // semicolon (escaped or otherwise) inside a parameter value, so under
-        // relaxed parsing we treat `\;` as a literal part of the value rather
-        // than a parameter separator.
-        private boolean isEscapedSemicolon(int token, StringBuilder paramValue) {
-            return absorbWhitespaceEnabled && token == ';'
-                    && paramValue.length() > 0
-                    && paramValue.charAt(paramValue.length() - 1) == '\\';
-        }
-    }
-
-    /**
-     * Parses an iCalendar component list from the specified stream tokeniser.
-     */
-    private class ComponentListParser {
-
         /**
          * @param tokeniser
          * @throws IOException
-         * @throws URISyntaxException
          * @throws ParserException
          */
-        private void parse(final StreamTokenizer tokeniser, Reader in,
-                           final ContentHandler handler) throws IOException,
-                URISyntaxException, ParserException {
+        private void skip(final ContentLineTokenizer tokeniser, Reader in) throws IOException, ParserException {
+            assertToken(tokeniser, in, ContentLineTokenizer.TT_WORD);
+            assertToken(tokeniser, in, '=');
 
-            while (Component.BEGIN.equals(tokeniser.sval)) {
-                componentParser.parse(tokeniser, in, handler);
-                absorbWhitespace(tokeniser, in);
-                nextToken(tokeniser, in, false);
-                // assertToken(tokeniser, StreamTokenizer.TT_WORD);
+            if (!tokeniser.skipParameterValue(absorbWhitespaceEnabled)) {
+                throw new ParserException("Unexpected end of file", getLineNumber(tokeniser, in));
             }
         }
     }
 
-    /**
-     * Parses an iCalendar component from the specified stream tokeniser.
-     */
-    private class ComponentParser {
-
-        /**
-         * @param tokeniser
-         * @throws IOException
-         * @throws URISyntaxException
-         * @throws ParserException
-         */
-        private void parse(final StreamTokenizer tokeniser, Reader in,
-                           final ContentHandler handler) throws IOException,
-                URISyntaxException, ParserException {
-
-            assertToken(tokeniser, in, ':');
-
-            assertToken(tokeniser, in, StreamTokenizer.TT_WORD);
-
-            final var name = tokeniser.sval;
-
-            handler.startComponent(name);
-
-            assertToken(tokeniser, in, StreamTokenizer.TT_EOL);
-            absorbWhitespace(tokeniser, in);
-
-            propertyListParser.parse(tokeniser, in, handler);
-
-            /*
-             * // a special case for VTIMEZONE component which contains
-             * // sub-components.. 
-             * if (Component.VTIMEZONE.equals(name)) {
-             *     parseComponentList(tokeniser, handler);
-             * }
-             * // VEVENT/VTODO components may optionally have embedded VALARM
-             * // components.. 
-             * else if ((Component.VEVENT.equals(name) || Component.VTODO.equals(name))
-             *         &amp;&amp; Component.BEGIN.equals(tokeniser.sval)) {
-             *     parseComponentList(tokeniser, handler);
-             * }
-             */
-
-            assertToken(tokeniser, in, ':');
-
-            assertToken(tokeniser, in, name);
-
-            assertToken(tokeniser, in, StreamTokenizer.TT_EOL);
-
-            handler.endComponent(name);
-        }
-    }
-
     /**
      * Asserts that the next token in the stream matches the specified token.
      *
@@ -471,12 +530,12 @@ public class CalendarParserImpl implements CalendarParser {
      * @throws IOException     when unable to read from stream
      * @throws ParserException when next token in the stream does not match the expected token
      */
-    private int assertToken(final StreamTokenizer tokeniser, Reader in, final int token)
+    private int assertToken(final ContentLineTokenizer tokeniser, Reader in, final int token)
             throws IOException, ParserException {
 
         int ntok = nextToken(tokeniser, in);
         if (ntok != token) {
-            throw new ParserException(MessageFormat.format(UNEXPECTED_TOKEN_MESSAGE, token, tokeniser.ttype), getLineNumber(tokeniser, in));
+            throw new ParserException(MessageFormat.format(UNEXPECTED_TOKEN_MESSAGE, token, tokeniser.getType()), getLineNumber(tokeniser, in));
         }
 
         if (log.isTraceEnabled()) {
@@ -494,7 +553,7 @@ public class CalendarParserImpl implements CalendarParser {
      * @throws IOException
      * @throws ParserException
      */
-    private int assertToken(final StreamTokenizer tokeniser, Reader in, final String token)
+    private int assertToken(final ContentLineTokenizer tokeniser, Reader in, final String token)
             throws IOException, ParserException {
         return assertToken(tokeniser, in, token, false, false);
     }
@@ -511,28 +570,23 @@ public class CalendarParserImpl implements CalendarParser {
      * @throws IOException     when unable to read from stream
      * @throws ParserException when next token in the stream does not match the expected token
      */
-    private int assertToken(final StreamTokenizer tokeniser, Reader in,
+    private int assertToken(final ContentLineTokenizer tokeniser, Reader in,
             final String token, final boolean ignoreCase, final boolean isBeginToken) throws IOException,
             ParserException {
 
         // ensure next token is a word token..
-        String sval;
         int ntok;
+        boolean matches;
         if(isBeginToken) {
             ntok = skipNewLines(tokeniser, in, token);
-            sval = getSvalIgnoringBom(tokeniser, in, token);
+            matches = token.equals(getSvalIgnoringBom(tokeniser, in, token));
         } else {
-            ntok = assertToken(tokeniser, in, StreamTokenizer.TT_WORD);
-            sval = tokeniser.sval;
+            ntok = assertToken(tokeniser, in, ContentLineTokenizer.TT_WORD);
+            matches = tokeniser.textEquals(token, ignoreCase);
         }
 
-        if (ignoreCase) {
-            if (!token.equalsIgnoreCase(sval)) {
-                throw new ParserException(MessageFormat.format(UNEXPECTED_TOKEN_MESSAGE, token, sval), getLineNumber(tokeniser, in));
-            }
-        }
-        else if (!token.equals(sval)) {
-            throw new ParserException(MessageFormat.format(UNEXPECTED_TOKEN_MESSAGE, token, sval), getLineNumber(tokeniser, in));
+        if (!matches) {
+            throw new ParserException(MessageFormat.format(UNEXPECTED_TOKEN_MESSAGE, token, tokeniser.getText()), getLineNumber(tokeniser, in));
         }
 
         if (log.isTraceEnabled()) {
@@ -551,15 +605,18 @@ public class CalendarParserImpl implements CalendarParser {
      * @throws ParserException
      * @throws IOException
      */
-    private int skipNewLines(StreamTokenizer tokeniser, Reader in, String token) throws ParserException, IOException {
+    private int skipNewLines(ContentLineTokenizer tokeniser, Reader in, String token) throws ParserException, IOException {
+        //Skip a maximum of 10 newlines, linefeeds etc at the beginning
         for (int i = 0;; i++) {
-            try {
-                return assertToken(tokeniser, in, StreamTokenizer.TT_WORD);
-            } catch (ParserException exc) {
-                //Skip a maximum of 10 newlines, linefeeds etc at the beginning
-                if (i == IGNORE_BEGINNING_NON_WORD_COUNT) {
-                    throw exc;
+            final int ntok = nextToken(tokeniser, in, true);
+            if (ntok == ContentLineTokenizer.TT_WORD) {
+                return ntok;
+            } else if (i == IGNORE_BEGINNING_NON_WORD_COUNT) {
+                if (ntok == ContentLineTokenizer.TT_EOF) {
+                    throw new ParserException("Unexpected end of file", getLineNumber(tokeniser, in));
                 }
+                throw new ParserException(MessageFormat.format(UNEXPECTED_TOKEN_MESSAGE,
+                        ContentLineTokenizer.TT_WORD, ntok), getLineNumber(tokeniser, in));
             }
         }
     }
@@ -572,13 +629,14 @@ public class CalendarParserImpl implements CalendarParser {
      * @param token
      * @return
      */
-    private String getSvalIgnoringBom(StreamTokenizer tokeniser, Reader in, String token) {
-        if(tokeniser.sval != null) {
-            if(tokeniser.sval.contains(token)) {
+    private String getSvalIgnoringBom(ContentLineTokenizer tokeniser, Reader in, String token) {
+        final var sval = tokeniser.getText();
+        if(sval != null) {
+            if(sval.contains(token)) {
                 return token;
             }
         }
-        return tokeniser.sval;
+        return sval;
     }
 
     /**
@@ -589,8 +647,8 @@ public class CalendarParserImpl implements CalendarParser {
      * @return int value of the ttype field of the tokeniser
      * @throws IOException
      */
-    private void absorbWhitespace(final StreamTokenizer tokeniser, Reader in) throws IOException, ParserException {
-        while (nextToken(tokeniser, in, true) == StreamTokenizer.TT_EOL) {
+    private void absorbWhitespace(final ContentLineTokenizer tokeniser, Reader in) throws IOException, ParserException {
+        while (nextToken(tokeniser, in, true) == ContentLineTokenizer.TT_EOL) {
             if (log.isTraceEnabled()) {
                 log.trace("Absorbing extra whitespace..");
             }
@@ -609,15 +667,17 @@ public class CalendarParserImpl implements CalendarParser {
      * @param in
      * @return int value of the ttype field of the tokeniser
      */
-    private int getLineNumber(StreamTokenizer tokeniser, Reader in) {
-        int line = tokeniser.lineno();
-        if (tokeniser.ttype == StreamTokenizer.TT_EOL) {
+    private int getLineNumber(ContentLineTokenizer tokeniser, Reader in) {
+        int line = tokeniser.getLineNumber();
+        if (tokeniser.getType() == ContentLineTokenizer.TT_EOL) {
             line -= 1;
         }
         if (in instanceof UnfoldingReader) {
             // need to take unfolded lines into account
             final int unfolded = ((UnfoldingReader) in).getLinesUnfolded();
             line += unfolded;
+        } else if (in instanceof IncrementalCalendarParser.Input) {
+            line += ((IncrementalCalendarParser.Input) in).getLinesUnfolded();
         }
         return line;
     }
@@ -630,7 +690,7 @@ public class CalendarParserImpl implements CalendarParser {
      * @throws IOException
      * @throws ParserException
      */
-    private int nextToken(StreamTokenizer tokeniser, Reader in) throws IOException, ParserException {
+    private int nextToken(ContentLineTokenizer tokeniser, Reader in) throws IOException, ParserException {
         return nextToken(tokeniser, in, false);
     }
 
@@ -644,9 +704,9 @@ public class CalendarParserImpl implements CalendarParser {
      * @return int value of the ttype field of the tokeniser
      * @throws ParserException When reading EOF.
      */
-    private int nextToken(StreamTokenizer tokeniser, Reader in, boolean ignoreEOF) throws IOException, ParserException {
+    private int nextToken(ContentLineTokenizer tokeniser, Reader in, boolean ignoreEOF) throws IOException, ParserException {
         int token = tokeniser.nextToken();
-        if (!ignoreEOF && token == StreamTokenizer.TT_EOF) {
+        if (!ignoreEOF && token == ContentLineTokenizer.TT_EOF) {
             throw new ParserException("Unexpected end of file", getLineNumber(tokeniser, in));
         }
         return token;
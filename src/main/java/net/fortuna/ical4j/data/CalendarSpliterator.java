@@ -0,0 +1,155 @@
+package net.fortuna.ical4j.data;
+
+import net.fortuna.ical4j.model.Calendar;
+import net.fortuna.ical4j.model.CalendarException;
+import net.fortuna.ical4j.model.TimeZoneRegistry;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * A spliterator that parses VCALENDAR objects on demand. Each calendar is made available as soon as its END line is
+ * parsed, and is not retained once it has been consumed.
+ *
+ * Where the parser doesn't support incremental parsing the input is parsed in full on the first advance.
+ */
+final class CalendarSpliterator extends Spliterators.AbstractSpliterator<Calendar> {
+
+    private final CalendarParser parser;
+
+    private final Reader in;
+
+    private final CalendarHandler handler;
+
+    private final CalendarParserImpl.Session session;
+
+    private final Queue<Calendar> calendars = new ArrayDeque<>();
+
+    private boolean parsed;
+
+    /**
+     * @param parser a calendar parser
+     * @param in a reader to parse calendar data from
+     * @param tzRegistrySupplier supplies the timezone registry for each calendar
+     * @param context the context for building calendars
+     */
+    CalendarSpliterator(CalendarParser parser, Reader in, Supplier<TimeZoneRegistry> tzRegistrySupplier,
+                        ContentHandlerContext context) {
+        super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+        this.parser = parser;
+        this.in = in;
+        this.handler = new CalendarHandler(tzRegistrySupplier, context);
+        if (parser instanceof CalendarParserImpl) {
+            this.session = ((CalendarParserImpl) parser).newSession(in, handler);
+        } else {
+            this.session = null;
+        }
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super Calendar> action) {
+        try {
+            while (calendars.isEmpty()) {
+                if (!parseNext()) {
+                    return false;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (ParserException e) {
+            throw new CalendarException(e);
+        }
+        action.accept(calendars.remove());
+        return true;
+    }
+
+    private boolean parseNext() throws IOException, ParserException {
+        if (session != null) {
+            return session.next();
+        } else if (!parsed) {
+            parser.parse(in, handler);
+            parsed = true;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Builds each calendar with a new {@link DefaultContentHandler}, such that each calendar may use a different
+     * timezone registry.
+     */
+    private class CalendarHandler implements ContentHandler {
+
+        private final Supplier<TimeZoneRegistry> tzRegistrySupplier;
+
+        private final ContentHandlerContext context;
+
+        /**
+         * The handler for the current calendar, created at the start of each calendar.
+         */
+        private DefaultContentHandler delegate;
+
+        CalendarHandler(Supplier<TimeZoneRegistry> tzRegistrySupplier, ContentHandlerContext context) {
+            this.tzRegistrySupplier = tzRegistrySupplier;
+            this.context = context;
+        }
+
+        @Override
+        public void startCalendar() {
+            delegate = new DefaultContentHandler(calendars::add, tzRegistrySupplier.get(), context);
+            delegate.startCalendar();
+        }
+
+        @Override
+        public void endCalendar() throws IOException {
+            delegate.endCalendar();
+        }
+
+        @Override
+        public void startComponent(String name) {
+            delegate.startComponent(name);
+        }
+
+        @Override
+        public void endComponent(String name) {
+            delegate.endComponent(name);
+        }
+
+        @Override
+        public void startProperty(String name) {
+            delegate.startProperty(name);
+        }
+
+        @Override
+        public void propertyValue(String value) {
+            delegate.propertyValue(value);
+        }
+
+        @Override
+        public void endProperty(String name) {
+            delegate.endProperty(name);
+        }
+
+        @Override
+        public void parameter(String name, String value) {
+            delegate.parameter(name, value);
+        }
+
+        @Override
+        public boolean isSkippedComponent(String name) {
+            return delegate.isSkippedComponent(name);
+        }
+
+        @Override
+        public boolean isSkippedProperty(String componentName, String name) {
+            return delegate.isSkippedProperty(componentName, name);
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package net.fortuna.ical4j.data;
+
+import net.fortuna.ical4j.model.PropertyList;
+import net.fortuna.ical4j.model.component.CalendarComponent;
+import net.fortuna.ical4j.util.Strings;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+
+import static net.fortuna.ical4j.model.Calendar.BEGIN;
+import static net.fortuna.ical4j.model.Calendar.END;
+import static net.fortuna.ical4j.model.Calendar.VCALENDAR;
+
+/**
+ * Writes a VCALENDAR object incrementally, such that calendar components may be written as they are produced without
+ * first building a {@link net.fortuna.ical4j.model.Calendar}. Content lines are written directly to a folding
+ * writer, and components aren't retained once written. When writing to an output stream or channel, lines may be
+ * folded on the length of UTF-8 encoded octets (as specified by RFC 5545), in which case content is encoded directly
+ * into a reused buffer of octets.
+ * <pre>
+ * try (CalendarWriter writer = new CalendarWriter(out)) {
+ *     writer.writeHeader(new PropertyList(List.of(new ProdId("-//Example//EN"), ImmutableVersion.VERSION_2_0)));
+ *     for (VEvent event : (Iterable&lt;VEvent&gt;) events::iterator) {
+ *         writer.write(event);
+ *     }
+ *     writer.writeFooter();
+ * }
+ * </pre>
+ * The end of the calendar is written only by {@link #writeFooter()}, such that where writing fails (and the writer is
+ * closed without writing the footer) the output is not mistaken for a complete calendar. Note that components are
+ * not validated, and that this class is not thread-safe.
+ */
+public class CalendarWriter implements Closeable, Flushable {
+
+    private final Writer writer;
+
+    private final int foldLength;
+
+    private boolean started;
+
+    private boolean finished;
+
+    private boolean closed;
+
+    /**
+     * @param out an output stream to write UTF-8 encoded calendar data to
+     */
+    public CalendarWriter(OutputStream out) {
+        this(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param out an output stream to write UTF-8 encoded calendar data to
+     * @param foldLength maximum number of characters (or octets) before a line is folded
+     * @param octetFolding indicates whether lines are folded on the length of encoded octets, as specified by
+     *                     RFC 5545, rather than the number of characters
+     */
+    public CalendarWriter(OutputStream out, int foldLength, boolean octetFolding) {
+        this.foldLength = foldLength;
+        if (octetFolding) {
+            this.writer = new OctetFoldingWriter(out, foldLength);
+        } else {
+            this.writer = new FoldingWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), foldLength);
+        }
+    }
+
+    /**
+     * Creates a writer that folds lines on the length of encoded octets.
+     * @param out a blocking channel to write UTF-8 encoded calendar data to
+     * @param foldLength maximum number of octets before a line is folded
+     */
+    public CalendarWriter(WritableByteChannel out, int foldLength) {
+        this.foldLength = foldLength;
+        this.writer = new OctetFoldingWriter(out, foldLength);
+    }
+
+    /**
+     * @param out a writer to write calendar data to
+     */
+    public CalendarWriter(Writer out) {
+        this(out, AbstractOutputter.getDefaultFoldLength());
+    }
+
+    /**
+     * @param out a writer to write calendar data to
+     * @param foldLength maximum number of characters before a line is folded
+     */
+    public CalendarWriter(Writer out, int foldLength) {
+        this.foldLength = foldLength;
+        this.writer = new FoldingWriter(out, foldLength);
+    }
+
+    /**
+     * Writes the start of the calendar and the specified calendar properties. This method must be invoked once,
+     * prior to writing any components.
+     * @param properties the calendar properties
+     * @throws IOException where an error occurs writing to the underlying writer
+     * @throws IllegalStateException where the header has already been written
+     */
+    public void writeHeader(PropertyList properties) throws IOException {
+        if (started || closed) {
+            throw new IllegalStateException("Header already written");
+        }
+        writer.write(BEGIN);
+        writer.write(':');
+        writer.write(VCALENDAR);
+        writer.write(Strings.LINE_SEPARATOR);
+        properties.write(writer);
+        started = true;
+    }
+
+    /**
+     * Writes the specified component, including any sub-components. Where the component retains its source text and
+     * is unmodified (see {@link net.fortuna.ical4j.model.Component#getSource()}) the source text is written as is.
+     * @param component a calendar component
+     * @throws IOException where an error occurs writing to the underlying writer
+     * @throws IllegalStateException where the header hasn't been written, or the footer has been written or the writer
+     * is closed
+     */
+    public void write(CalendarComponent component) throws IOException {
+        ensureStarted();
+        write(component, writer);
+    }
+
+    /**
+     * @return a new buffer for serialising components independently of this writer, folded consistent with this writer
+     */
+    ComponentBuffer newBuffer() {
+        if (writer instanceof OctetFoldingWriter) {
+            return ComponentBuffer.octets(foldLength);
+        }
+        return ComponentBuffer.chars(foldLength);
+    }
+
+    /**
+     * Writes the components serialised in the specified buffer.
+     * @param buffer a buffer created by {@link #newBuffer()}
+     * @throws IOException where an error occurs writing to the underlying writer
+     */
+    void write(ComponentBuffer buffer) throws IOException {
+        ensureStarted();
+        buffer.writeTo(writer);
+    }
+
+    /**
+     * Writes the end of the calendar. This method must be invoked once, after all components are written and prior to
+     * closing the writer.
+     * @throws IOException where an error occurs writing to the underlying writer
+     * @throws IllegalStateException where the header hasn't been written, or the footer has been written or the writer
+     * is closed
+     */
+    public void writeFooter() throws IOException {
+        ensureStarted();
+        finished = true;
+        writer.write(END);
+        writer.write(':');
+        writer.write(VCALENDAR);
+        writer.write(Strings.LINE_SEPARATOR);
+    }
+
+    private void ensureStarted() {
+        if (!started || finished || closed) {
+            throw new IllegalStateException(closed ? "Writer closed"
+                    : finished ? "Footer already written" : "Header not written");
+        }
+    }
+
+    /**
+     * Writes the specified component to a folding writer, or the retained source text of an unmodified component as
+     * is (as it is already folded).
+     */
+    static void write(CalendarComponent component, Writer writer) throws IOException {
+        final var source = component.getSource();
+        if (source.isEmpty()) {
+            component.write(writer);
+        } else if (writer instanceof OctetFoldingWriter) {
+            ((OctetFoldingWriter) writer).writeVerbatim(source.get());
+        } else {
+            ((FoldingWriter) writer).writeVerbatim(source.get());
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    /**
+     * Closes the underlying writer. Note that the end of the calendar is not written where {@link #writeFooter()}
+     * hasn't been invoked.
+     * @throws IOException where an error occurs closing the underlying writer
+     */
+    @Override
+    public void close() throws IOException {
+        if (!closed) {
+            closed = true;
+            writer.close();
+        }
+    }
+}
@@ -0,0 +1,414 @@
+package net.fortuna.ical4j.data;
+
+import net.fortuna.ical4j.model.*;
+import net.fortuna.ical4j.model.component.CalendarComponent;
+
+import java.io.CharArrayReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneId;
+import java.time.zone.ZoneRules;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Builds a calendar from UTF-8 encoded iCalendar data by parsing chunks of the data concurrently.
+ *
+ * The data is split at top-level <code>BEGIN:VEVENT</code> and <code>BEGIN:VTODO</code> lines, and each chunk is
+ * parsed as a standalone calendar before the components are reassembled in their original order. To ensure
+ * timezone references can be resolved in any chunk, all VTIMEZONE definitions are parsed and registered before
+ * any chunks are parsed.
+ *
+ * Data that can't be safely split (such as input containing multiple VCALENDAR objects) is parsed sequentially.
+ */
+final class ChunkedCalendarBuilder {
+
+    /**
+     * Inputs smaller than twice this size are parsed sequentially.
+     */
+    static final int MIN_CHUNK_SIZE = 256 * 1024;
+
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    private static final String CALENDAR_HEADER = "BEGIN:VCALENDAR\r\n";
+
+    private static final String CALENDAR_FOOTER = "END:VCALENDAR\r\n";
+
+    private static final byte[] BEGIN_VEVENT = bytes("BEGIN:VEVENT");
+
+    private static final byte[] BEGIN_VTODO = bytes("BEGIN:VTODO");
+
+    private static final byte[] BEGIN_VTIMEZONE = bytes("BEGIN:VTIMEZONE");
+
+    private static final byte[] END_VTIMEZONE = bytes("END:VTIMEZONE");
+
+    private static final byte[] BEGIN_VCALENDAR = bytes("BEGIN:VCALENDAR");
+
+    private static final int SPLIT = 0;
+
+    private static final int TIMEZONE_BEGIN = 1;
+
+    private static final int TIMEZONE_END = 2;
+
+    private static final int CALENDAR_BEGIN = 3;
+
+    private final CalendarParser parser;
+
+    private final ContentHandlerContext context;
+
+    private final TimeZoneRegistry tzRegistry;
+
+    private final ForkJoinPool pool;
+
+    /**
+     * @param parser a thread-safe calendar parser
+     * @param context the context for building calendar content
+     * @param tzRegistry a timezone registry to populate with parsed timezone definitions
+     * @param pool the pool used to parse chunks
+     */
+    ChunkedCalendarBuilder(CalendarParser parser, ContentHandlerContext context, TimeZoneRegistry tzRegistry,
+                           ForkJoinPool pool) {
+        this.parser = parser;
+        this.context = context;
+        this.tzRegistry = tzRegistry;
+        this.pool = pool;
+    }
+
+    /**
+     * @param data UTF-8 encoded iCalendar data
+     * @return the calendar parsed from the data
+     * @throws IOException where an error occurs reading the data
+     * @throws ParserException where an error occurs parsing the data
+     */
+    Calendar build(ByteBuffer data) throws IOException, ParserException {
+        var size = data.limit();
+        var chunkCount = Math.min(size / MIN_CHUNK_SIZE, pool.getParallelism() * CHUNKS_PER_THREAD);
+        if (chunkCount < 2) {
+            return parse(data, 0, size, false, false, tzRegistry);
+        }
+
+        final List<int[]> markers;
+        try {
+            markers = findMarkers(data, chunkCount);
+        } catch (ExecutionException e) {
+            return parse(data, 0, size, false, false, tzRegistry);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        }
+
+        var splits = new ArrayList<Integer>();
+        var timezones = new ArrayList<int[]>();
+        int calendars = 0;
+        int timezoneStart = -1;
+        for (int[] marker : markers) {
+            switch (marker[1]) {
+                case SPLIT:
+                    splits.add(marker[0]);
+                    break;
+                case TIMEZONE_BEGIN:
+                    timezoneStart = marker[0];
+                    break;
+                case TIMEZONE_END:
+                    if (timezoneStart >= 0) {
+                        timezones.add(new int[] {timezoneStart, lineEnd(data, marker[0])});
+                        timezoneStart = -1;
+                    }
+                    break;
+                default:
+                    calendars++;
+            }
+        }
+        if (calendars > 1 || timezoneStart >= 0 || splits.isEmpty()) {
+            return parse(data, 0, size, false, false, tzRegistry);
+        }
+
+        // register timezone definitions prior to parsing any chunks..
+        parseTimeZones(data, timezones);
+
+        // select the first split point beyond each chunk's target size..
+        var boundaries = new ArrayList<Integer>();
+        boundaries.add(0);
+        var targetSize = size / chunkCount;
+        for (Integer split : splits) {
+            if (split - boundaries.get(boundaries.size() - 1) >= targetSize) {
+                boundaries.add(split);
+            }
+        }
+        boundaries.add(size);
+
+        var registry = new ReadOnlyTimeZoneRegistry(tzRegistry);
+        var tasks = new ArrayList<Callable<Chunk>>();
+        for (int i = 0; i < boundaries.size() - 1; i++) {
+            var start = boundaries.get(i);
+            var end = boundaries.get(i + 1);
+            var first = i == 0;
+            var last = i == boundaries.size() - 2;
+            tasks.add(() -> {
+                var chunk = new Chunk(start, !first);
+                try {
+                    chunk.calendar = parse(data, start, end, !first, !last, registry);
+                } catch (IOException | ParserException | RuntimeException e) {
+                    chunk.failure = e;
+                }
+                return chunk;
+            });
+        }
+
+        var properties = new ArrayList<Property>();
+        var components = new ArrayList<CalendarComponent>();
+        for (Future<Chunk> result : pool.invokeAll(tasks)) {
+            Chunk chunk;
+            try {
+                chunk = result.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            } catch (ExecutionException e) {
+                throw new IOException(e.getCause());
+            }
+            if (chunk.failure != null) {
+                throw translate(chunk, data);
+            }
+            properties.addAll(chunk.calendar.getProperties());
+            components.addAll(chunk.calendar.getComponents());
+        }
+        return new Calendar(new PropertyList(properties), new ComponentList<>(components));
+    }
+
+    /**
+     * Finds the position of split points and other structural lines, scanning segments of the data concurrently.
+     */
+    private List<int[]> findMarkers(ByteBuffer data, int segmentCount) throws ExecutionException,
+            InterruptedException {
+        var segmentSize = data.limit() / segmentCount + 1;
+        return pool.submit(() -> IntStream.range(0, segmentCount).parallel()
+                .mapToObj(i -> findMarkers(data, i * segmentSize,
+                        (int) Math.min((long) (i + 1) * segmentSize, data.limit())))
+                .flatMap(List::stream).collect(Collectors.toList())).get();
+    }
+
+    private static List<int[]> findMarkers(ByteBuffer data, int start, int end) {
+        var markers = new ArrayList<int[]>();
+        if (start == 0) {
+            addMarker(data, 0, markers);
+        }
+        for (int i = Math.max(start, 1); i < end; i++) {
+            if (data.get(i - 1) == '\n') {
+                addMarker(data, i, markers);
+            }
+        }
+        return markers;
+    }
+
+    private static void addMarker(ByteBuffer data, int lineStart, List<int[]> markers) {
+        var first = lineStart < data.limit() ? data.get(lineStart) : 0;
+        if (first == 'B') {
+            if (isLine(data, lineStart, BEGIN_VEVENT) || isLine(data, lineStart, BEGIN_VTODO)) {
+                markers.add(new int[] {lineStart, SPLIT});
+            } else if (isLine(data, lineStart, BEGIN_VTIMEZONE)) {
+                markers.add(new int[] {lineStart, TIMEZONE_BEGIN});
+            } else if (isLine(data, lineStart, BEGIN_VCALENDAR)) {
+                markers.add(new int[] {lineStart, CALENDAR_BEGIN});
+            }
+        } else if (first == 'E' && isLine(data, lineStart, END_VTIMEZONE)) {
+            markers.add(new int[] {lineStart, TIMEZONE_END});
+        }
+    }
+
+    /**
+     * @return true if the line at the specified position consists only of the specified content, and is not
+     * continued by a folded line
+     */
+    private static boolean isLine(ByteBuffer data, int lineStart, byte[] content) {
+        var end = lineStart + content.length;
+        if (end >= data.limit()) {
+            return false;
+        }
+        for (int i = 0; i < content.length; i++) {
+            if (data.get(lineStart + i) != content[i]) {
+                return false;
+            }
+        }
+        if (data.get(end) != '\r' && data.get(end) != '\n') {
+            return false;
+        }
+        var next = lineEnd(data, lineStart);
+        return next >= data.limit() || data.get(next) != ' ' && data.get(next) != '\t';
+    }
+
+    /**
+     * @return the position following the line break of the line at the specified position
+     */
+    private static int lineEnd(ByteBuffer data, int lineStart) {
+        var i = lineStart;
+        while (i < data.limit() && data.get(i) != '\r' && data.get(i) != '\n') {
+            i++;
+        }
+        if (i < data.limit() && data.get(i) == '\r') {
+            i++;
+        }
+        if (i < data.limit() && data.get(i) == '\n') {
+            i++;
+        }
+        return i;
+    }
+
+    private void parseTimeZones(ByteBuffer data, List<int[]> timezones) throws IOException, ParserException {
+        if (timezones.isEmpty()) {
+            return;
+        }
+        var content = new StringBuilder(CALENDAR_HEADER);
+        for (int[] timezone : timezones) {
+            content.append(decode(data, timezone[0], timezone[1]));
+        }
+        content.append(CALENDAR_FOOTER);
+        parser.parse(new UnfoldingReader(new CharArrayReader(
+                content.toString().toCharArray())), new DefaultContentHandler(calendar -> {}, tzRegistry, context));
+    }
+
+    private Calendar parse(ByteBuffer data, int start, int end, boolean header, boolean footer,
+                        TimeZoneRegistry registry) throws IOException, ParserException {
+
+        var chars = CharBuffer.allocate(end - start + CALENDAR_HEADER.length() + CALENDAR_FOOTER.length());
+        if (header) {
+            chars.put(CALENDAR_HEADER);
+        }
+        var decoder = StandardCharsets.UTF_8.newDecoder().onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        decoder.decode(slice(data, start, end), chars, true);
+        decoder.flush(chars);
+        if (footer) {
+            chars.put(CALENDAR_FOOTER);
+        }
+
+        var result = new Calendar[1];
+        // the chunk is already decoded in full, so the reader only requires the default buffer..
+        var reader = new UnfoldingReader(new CharArrayReader(chars.array(), 0, chars.position()));
+        parser.parse(reader, new DefaultContentHandler(calendar -> result[0] = calendar, registry, context));
+        return result[0];
+    }
+
+    private static String decode(ByteBuffer data, int start, int end) {
+        try {
+            return StandardCharsets.UTF_8.newDecoder().onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE).decode(slice(data, start, end)).toString();
+        } catch (CharacterCodingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static ByteBuffer slice(ByteBuffer data, int start, int end) {
+        var slice = data.duplicate();
+        slice.position(start).limit(end);
+        return slice;
+    }
+
+    /**
+     * Translates an exception thrown parsing a chunk, adjusting line numbers to be relative to the original data.
+     */
+    private static ParserException translate(Chunk chunk, ByteBuffer data) throws IOException {
+        if (chunk.failure instanceof IOException) {
+            throw (IOException) chunk.failure;
+        } else if (chunk.failure instanceof RuntimeException) {
+            throw (RuntimeException) chunk.failure;
+        }
+        var cause = (ParserException) chunk.failure;
+        var lineNo = cause.getLineNo() + countLines(data, chunk.start) - (chunk.header ? 1 : 0);
+        var message = cause.getMessage();
+        return new ParserException(message.substring(message.indexOf(':') + 1), lineNo, cause);
+    }
+
+    private static int countLines(ByteBuffer data, int end) {
+        int lines = 0;
+        for (int i = 0; i < end; i++) {
+            if (data.get(i) == '\n') {
+                lines++;
+            }
+        }
+        return lines;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * The result of parsing a chunk of data.
+     */
+    private static class Chunk {
+
+        private final int start;
+
+        private final boolean header;
+
+        private Calendar calendar;
+
+        private Exception failure;
+
+        Chunk(int start, boolean header) {
+            this.start = start;
+            this.header = header;
+        }
+    }
+
+    /**
+     * Provides access to registered timezones without allowing concurrent registration, which would otherwise
+     * occur when parsing chunks containing VTIMEZONE definitions.
+     */
+    private static class ReadOnlyTimeZoneRegistry implements TimeZoneRegistry {
+
+        private final TimeZoneRegistry delegate;
+
+        ReadOnlyTimeZoneRegistry(TimeZoneRegistry delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void register(TimeZone timezone) {
+            // timezones are registered prior to parsing chunks..
+        }
+
+        @Override
+        public void register(TimeZone timezone, boolean update) {
+            // timezones are registered prior to parsing chunks..
+        }
+
+        @Override
+        public void clear() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public TimeZone getTimeZone(String id) {
+            return delegate.getTimeZone(id);
+        }
+
+        @Override
+        public Map<String, ZoneRules> getZoneRules() {
+            return delegate.getZoneRules();
+        }
+
+        @Override
+        public ZoneId getZoneId(String tzId) {
+            return delegate.getZoneId(tzId);
+        }
+
+        @Override
+        public String getTzId(String zoneId) {
+            return delegate.getTzId(zoneId);
+        }
+    }
+}
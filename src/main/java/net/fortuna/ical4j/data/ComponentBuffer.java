@@ -0,0 +1,138 @@
+package net.fortuna.ical4j.data;
+
+import net.fortuna.ical4j.model.component.CalendarComponent;
+
+import java.io.ByteArrayOutputStream;
+import java.io.CharArrayWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+/**
+ * A reusable buffer of serialised and folded components, such that components may be serialised independently of
+ * the writer they are ultimately written to (see {@link CalendarWriter#newBuffer()}). As each component ends with a
+ * line break, folding of the buffered text is consistent with writing the components directly.
+ * <p/>
+ * Note that this class is not thread-safe, but may be filled and written by different threads where access is
+ * otherwise synchronised.
+ */
+abstract class ComponentBuffer {
+
+    /**
+     * @param foldLength the maximum line length in characters
+     * @return a buffer of folded characters
+     */
+    static ComponentBuffer chars(final int foldLength) {
+        return new Chars(foldLength);
+    }
+
+    /**
+     * @param foldLength the maximum line length in octets
+     * @return a buffer of UTF-8 encoded octets, folded on the length of encoded octets
+     */
+    static ComponentBuffer octets(final int foldLength) {
+        return new Octets(foldLength);
+    }
+
+    /**
+     * Serialises and folds the specified components, appending them to the buffer.
+     * @param components the components to serialise
+     * @throws IOException where an error occurs serialising a component
+     */
+    final void write(final List<? extends CalendarComponent> components) throws IOException {
+        final var writer = getWriter();
+        for (var component : components) {
+            CalendarWriter.write(component, writer);
+        }
+        writer.flush();
+    }
+
+    /**
+     * @return the folding writer used to append components to the buffer
+     */
+    abstract Writer getWriter();
+
+    /**
+     * Writes the content of the buffer, as is, to the specified writer.
+     * @param out the folding writer of a {@link CalendarWriter}
+     * @throws IOException where an error occurs writing to the writer
+     */
+    abstract void writeTo(Writer out) throws IOException;
+
+    /**
+     * Discards the content of the buffer, retaining allocated capacity for reuse.
+     */
+    abstract void reset();
+
+    private static final class Chars extends ComponentBuffer {
+
+        private final Buffer buffer = new Buffer();
+
+        private final FoldingWriter writer;
+
+        Chars(final int foldLength) {
+            this.writer = new FoldingWriter(buffer, foldLength);
+        }
+
+        @Override
+        Writer getWriter() {
+            return writer;
+        }
+
+        @Override
+        void writeTo(final Writer out) throws IOException {
+            ((FoldingWriter) out).writeVerbatim(buffer.getChars(), 0, buffer.size());
+        }
+
+        @Override
+        void reset() {
+            buffer.reset();
+        }
+
+        /**
+         * Provides access to buffered characters without copying.
+         */
+        private static final class Buffer extends CharArrayWriter {
+
+            char[] getChars() {
+                return buf;
+            }
+        }
+    }
+
+    private static final class Octets extends ComponentBuffer {
+
+        private final Buffer buffer = new Buffer();
+
+        private final OctetFoldingWriter writer;
+
+        Octets(final int foldLength) {
+            this.writer = new OctetFoldingWriter(buffer, foldLength);
+        }
+
+        @Override
+        Writer getWriter() {
+            return writer;
+        }
+
+        @Override
+        void writeTo(final Writer out) throws IOException {
+            ((OctetFoldingWriter) out).writeVerbatim(buffer.getBytes(), 0, buffer.size());
+        }
+
+        @Override
+        void reset() {
+            buffer.reset();
+        }
+
+        /**
+         * Provides access to buffered octets without copying.
+         */
+        private static final class Buffer extends ByteArrayOutputStream {
+
+            byte[] getBytes() {
+                return buf;
+            }
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package net.fortuna.ical4j.data;
+
+import net.fortuna.ical4j.model.Component;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Queue;
+
+/**
+ * A reader that retains the source text of each top-level component (i.e. each component of a VCALENDAR object) read
+ * through it, in its original folded form. The source text of a component extends from its BEGIN line to its END line
+ * inclusive, including the line breaks of each line, and is available once the END line has been read. Line breaks
+ * are normalised to CRLF, such that the source text of components parsed from data with LF line breaks is consistent
+ * with the output of other components.
+ * <p/>
+ * Component boundaries are located independently of the parser, and so the source text of a component should be
+ * verified against the component name reported by the parser (see {@link #poll(String)}).
+ * <p/>
+ * Note that this class is not thread-safe.
+ */
+final class ComponentSourceReader extends Reader {
+
+    /**
+     * The maximum length of a content line recognised as a component boundary.
+     */
+    private static final int MAX_BOUNDARY_LENGTH = 256;
+
+    private final Reader in;
+
+    private final boolean octets;
+
+    /**
+     * The text of the current top-level component, or of the current content line outside a top-level component.
+     */
+    private final StringBuilder text = new StringBuilder();
+
+    private final Queue<String[]> sources = new ArrayDeque<>();
+
+    /**
+     * The start of the current content line within the text.
+     */
+    private int lineStart;
+
+    private boolean lineBreak;
+
+    /**
+     * The number of open components, including VCALENDAR.
+     */
+    private int depth;
+
+    /**
+     * The name of the current top-level component, or null if a top-level component isn't open.
+     */
+    private String name;
+
+    /**
+     * @param in a reader to read from
+     * @param octets if true, the reader supplies the octets of UTF-8 encoded data (see {@link OctetReader})
+     */
+    ComponentSourceReader(final Reader in, final boolean octets) {
+        this.in = in;
+        this.octets = octets;
+    }
+
+    @Override
+    public int read(final char[] cbuf, final int off, final int len) throws IOException {
+        final int count = in.read(cbuf, off, len);
+        if (count < 0) {
+            if (text.length() > lineStart) {
+                endLine();
+            }
+        } else {
+            for (int i = off; i < off + count; i++) {
+                record(cbuf[i]);
+            }
+        }
+        return count;
+    }
+
+    private void record(final char c) {
+        if (lineBreak) {
+            lineBreak = false;
+            // a line break followed by whitespace is a fold..
+            if (c != ' ' && c != '\t') {
+                endLine();
+            }
+        }
+        if (c == '\n') {
+            if (text.length() == 0 || text.charAt(text.length() - 1) != '\r') {
+                text.append('\r');
+            }
+            lineBreak = true;
+        }
+        text.append(c);
+    }
+
+    private void endLine() {
+        final var begin = getBoundaryValue(Component.BEGIN);
+        if (begin != null) {
+            if (depth == 1) {
+                // start of a top-level component..
+                text.delete(0, lineStart);
+                name = begin;
+            }
+            depth++;
+        } else if (depth > 0) {
+            final var end = getBoundaryValue(Component.END);
+            if (end != null) {
+                depth--;
+                if (depth == 1 && name != null) {
+                    sources.add(new String[] {name, getText()});
+                    name = null;
+                }
+            }
+        }
+        if (name == null) {
+            text.setLength(0);
+        }
+        lineStart = text.length();
+    }
+
+    /**
+     * @param keyword a BEGIN or END keyword
+     * @return the (unfolded) value of the current content line if it is a component boundary of the specified type,
+     * otherwise null
+     */
+    private String getBoundaryValue(final String keyword) {
+        final int length = text.length() - lineStart;
+        if (length <= keyword.length() || length > MAX_BOUNDARY_LENGTH
+                || Character.toUpperCase(text.charAt(lineStart)) != keyword.charAt(0)) {
+            return null;
+        }
+        final var line = new StringBuilder(length);
+        for (int i = lineStart; i < text.length(); i++) {
+            final char c = text.charAt(i);
+            if (c == '\n') {
+                // skip the whitespace of a fold..
+                i++;
+            } else if (c != '\r') {
+                line.append(c);
+            }
+        }
+        if (line.length() > keyword.length() && line.charAt(keyword.length()) == ':'
+                && line.substring(0, keyword.length()).equalsIgnoreCase(keyword)) {
+            return line.substring(keyword.length() + 1).trim();
+        }
+        return null;
+    }
+
+    private String getText() {
+        if (octets) {
+            final var bytes = new byte[text.length()];
+            for (int i = 0; i < bytes.length; i++) {
+                bytes[i] = (byte) text.charAt(i);
+            }
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+        return text.toString();
+    }
+
+    /**
+     * Removes the source text of the next top-level component read.
+     * @param componentName the name of the component as parsed
+     * @return the source text of the next top-level component, or null if not available or the source text isn't of
+     * a component with the specified name
+     */
+    String poll(final String componentName) {
+        final var source = sources.poll();
+        if (source != null && source[0].equalsIgnoreCase(componentName)) {
+            return source[1];
+        }
+        return null;
+    }
+
+    /**
+     * Removes the source text of the next top-level component read, such as where the component is skipped.
+     */
+    void discard() {
+        sources.poll();
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+}
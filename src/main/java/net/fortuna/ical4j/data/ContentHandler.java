@@ -92,4 +92,25 @@ public interface ContentHandler {
      * @throws IllegalArgumentException where the parameter value is not a valid URI for applicable parameters
      */
     void parameter(String name, String value);
+
+    /**
+     * Indicates whether a component may be skipped. The content of a skipped component (including any nested
+     * components) is not reported to the handler.
+     * @param name a component name
+     * @return true if the specified component may be skipped
+     */
+    default boolean isSkippedComponent(String name) {
+        return false;
+    }
+
+    /**
+     * Indicates whether a property may be skipped. A skipped property is not reported to the handler.
+     * @param componentName the name of the component containing the property, or
+     *                      {@link net.fortuna.ical4j.model.Calendar#VCALENDAR} for calendar properties
+     * @param name a property name
+     * @return true if the specified property may be skipped
+     */
+    default boolean isSkippedProperty(String componentName, String name) {
+        return false;
+    }
 }
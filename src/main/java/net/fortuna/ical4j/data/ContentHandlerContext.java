@@ -6,90 +6,228 @@ import net.fortuna.ical4j.model.PropertyFactory;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.function.Supplier;
 
 /**
  * Customize behaviour of {@link ContentHandler} implementations.
+ *
+ * Factories are obtained from each supplier once per context (and shared with contexts derived from it), and the
+ * factories supporting each content name are cached so that repeated lookups don't allocate or scan the full list.
  */
 public class ContentHandlerContext {
 
-    private Supplier<List<ParameterFactory<?>>> parameterFactorySupplier = new DefaultParameterFactorySupplier();
+    private static final FactoryResolver<ParameterFactory<?>> DEFAULT_PARAMETER_FACTORIES =
+            parameterFactoryResolver(new DefaultParameterFactorySupplier());
 
-    private Supplier<List<PropertyFactory<?>>> propertyFactorySupplier = new DefaultPropertyFactorySupplier();
+    private static final FactoryResolver<PropertyFactory<?>> DEFAULT_PROPERTY_FACTORIES =
+            propertyFactoryResolver(new DefaultPropertyFactorySupplier());
 
-    private Supplier<List<ComponentFactory<?>>> componentFactorySupplier = new DefaultComponentFactorySupplier();
+    private static final FactoryResolver<ComponentFactory<?>> DEFAULT_COMPONENT_FACTORIES =
+            componentFactoryResolver(new DefaultComponentFactorySupplier());
+
+    private static final ContentProjection DEFAULT_PROJECTION = new ContentProjection();
+
+    private FactoryResolver<ParameterFactory<?>> parameterFactories = DEFAULT_PARAMETER_FACTORIES;
+
+    private FactoryResolver<PropertyFactory<?>> propertyFactories = DEFAULT_PROPERTY_FACTORIES;
+
+    private FactoryResolver<ComponentFactory<?>> componentFactories = DEFAULT_COMPONENT_FACTORIES;
 
     private List<String> ignoredPropertyNames = Collections.emptyList();
 
+    private Set<String> ignoredPropertyNameSet = Collections.emptySet();
+
     private boolean suppressInvalidProperties;
 
+    private boolean lazyValues;
+
+    private boolean passthrough;
+
+    private ContentProjection projection = DEFAULT_PROJECTION;
+
     public ContentHandlerContext withParameterFactorySupplier(Supplier<List<ParameterFactory<?>>> parameterFactorySupplier) {
-        var context = new ContentHandlerContext();
-        context.parameterFactorySupplier = parameterFactorySupplier;
-        context.propertyFactorySupplier = this.propertyFactorySupplier;
-        context.componentFactorySupplier = this.componentFactorySupplier;
-        context.ignoredPropertyNames = this.ignoredPropertyNames;
-        context.suppressInvalidProperties = this.suppressInvalidProperties;
+        var context = copy();
+        context.parameterFactories = parameterFactoryResolver(parameterFactorySupplier);
         return context;
     }
 
     public ContentHandlerContext withPropertyFactorySupplier(Supplier<List<PropertyFactory<?>>> propertyFactorySupplier) {
-        var context = new ContentHandlerContext();
-        context.parameterFactorySupplier = this.parameterFactorySupplier;
-        context.propertyFactorySupplier = propertyFactorySupplier;
-        context.componentFactorySupplier = this.componentFactorySupplier;
-        context.ignoredPropertyNames = this.ignoredPropertyNames;
-        context.suppressInvalidProperties = this.suppressInvalidProperties;
+        var context = copy();
+        context.propertyFactories = propertyFactoryResolver(propertyFactorySupplier);
         return context;
     }
 
     public ContentHandlerContext withComponentFactorySupplier(Supplier<List<ComponentFactory<?>>> componentFactorySupplier) {
-        var context = new ContentHandlerContext();
-        context.parameterFactorySupplier = this.parameterFactorySupplier;
-        context.propertyFactorySupplier = this.propertyFactorySupplier;
-        context.componentFactorySupplier = componentFactorySupplier;
-        context.ignoredPropertyNames = this.ignoredPropertyNames;
-        context.suppressInvalidProperties = this.suppressInvalidProperties;
+        var context = copy();
+        context.componentFactories = componentFactoryResolver(componentFactorySupplier);
         return context;
     }
 
     public ContentHandlerContext withIgnoredPropertyNames(List<String> ignoredPropertyNames) {
-        var context = new ContentHandlerContext();
-        context.parameterFactorySupplier = this.parameterFactorySupplier;
-        context.propertyFactorySupplier = this.propertyFactorySupplier;
-        context.componentFactorySupplier = this.componentFactorySupplier;
+        var context = copy();
         context.ignoredPropertyNames = ignoredPropertyNames;
-        context.suppressInvalidProperties = this.suppressInvalidProperties;
+        context.ignoredPropertyNameSet = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        context.ignoredPropertyNameSet.addAll(ignoredPropertyNames);
         return context;
     }
 
     public ContentHandlerContext withSuppressInvalidProperties(boolean suppressInvalidProperties) {
+        var context = copy();
+        context.suppressInvalidProperties = suppressInvalidProperties;
+        return context;
+    }
+
+    /**
+     * Specify whether to defer decoding of property values until first access. Where enabled, properties with typed
+     * values (such as dates, recurrence rules, durations and URIs) retain the parsed value string and decode it on
+     * demand, which avoids the cost of decoding values that are never read.
+     *
+     * Note that an invalid value of such a property is reported when the value is first accessed rather than when it
+     * is parsed, and as such is not subject to {@link #withSuppressInvalidProperties(boolean)}.
+     *
+     * @param lazyValues true to defer decoding of property values
+     * @return a new context instance
+     */
+    public ContentHandlerContext withLazyValues(boolean lazyValues) {
+        var context = copy();
+        context.lazyValues = lazyValues;
+        return context;
+    }
+
+    /**
+     * Specify whether to retain the source text of each top-level component parsed (see
+     * {@link net.fortuna.ical4j.model.Component#setSource(String)}), such that an unmodified component is written
+     * byte-for-byte as it was parsed by {@link CalendarOutputter} and {@link CalendarWriter}. Source text is retained
+     * for calendars built from a reader, input stream, buffer or channel via {@link CalendarBuilder}, and only for
+     * components whose content is parsed in full (i.e. without skipped, ignored or suppressed content).
+     *
+     * A component is checked for modification by comparing the value of each property with its parsed value, and so
+     * where source text is retained the decoding of property values is deferred as per
+     * {@link #withLazyValues(boolean)}, such that unmodified values needn't be decoded to perform the check.
+     *
+     * @param passthrough true to retain the source text of top-level components
+     * @return a new context instance
+     */
+    public ContentHandlerContext withPassthrough(boolean passthrough) {
+        var context = copy();
+        context.passthrough = passthrough;
+        return context;
+    }
+
+    /**
+     * Specify the subset of content to materialise. Skipped components and properties are read past by the parser
+     * without building properties, parameters or value strings.
+     *
+     * @param projection the content to materialise
+     * @return a new context instance
+     */
+    public ContentHandlerContext withProjection(ContentProjection projection) {
+        var context = copy();
+        context.projection = projection;
+        return context;
+    }
+
+    private ContentHandlerContext copy() {
         var context = new ContentHandlerContext();
-        context.parameterFactorySupplier = this.parameterFactorySupplier;
-        context.propertyFactorySupplier = this.propertyFactorySupplier;
-        context.componentFactorySupplier = this.componentFactorySupplier;
+        context.parameterFactories = this.parameterFactories;
+        context.propertyFactories = this.propertyFactories;
+        context.componentFactories = this.componentFactories;
         context.ignoredPropertyNames = this.ignoredPropertyNames;
-        context.suppressInvalidProperties = suppressInvalidProperties;
+        context.ignoredPropertyNameSet = this.ignoredPropertyNameSet;
+        context.suppressInvalidProperties = this.suppressInvalidProperties;
+        context.lazyValues = this.lazyValues;
+        context.passthrough = this.passthrough;
+        context.projection = this.projection;
         return context;
     }
 
     public Supplier<List<ParameterFactory<?>>> getParameterFactorySupplier() {
-        return parameterFactorySupplier;
+        return parameterFactories.getFactorySupplier();
     }
 
     public Supplier<List<PropertyFactory<?>>> getPropertyFactorySupplier() {
-        return propertyFactorySupplier;
+        return propertyFactories.getFactorySupplier();
     }
 
     public Supplier<List<ComponentFactory<?>>> getComponentFactorySupplier() {
-        return componentFactorySupplier;
+        return componentFactories.getFactorySupplier();
+    }
+
+    /**
+     * @param name a parameter name
+     * @return an unmodifiable list of the supplied parameter factories supporting the specified name
+     */
+    public List<ParameterFactory<?>> getParameterFactories(String name) {
+        return parameterFactories.resolve(name);
+    }
+
+    /**
+     * @param name a property name, optionally including a group prefix
+     * @return an unmodifiable list of the supplied property factories supporting the specified name
+     */
+    public List<PropertyFactory<?>> getPropertyFactories(String name) {
+        return propertyFactories.resolve(name);
+    }
+
+    /**
+     * @param name a component name
+     * @return an unmodifiable list of the supplied component factories supporting the specified name
+     */
+    public List<ComponentFactory<?>> getComponentFactories(String name) {
+        return componentFactories.resolve(name);
     }
 
     public List<String> getIgnoredPropertyNames() {
         return ignoredPropertyNames;
     }
 
+    /**
+     * @param name a property name
+     * @return true if the specified property should be ignored, irrespective of case
+     */
+    public boolean isIgnoredPropertyName(String name) {
+        return !ignoredPropertyNameSet.isEmpty() && ignoredPropertyNameSet.contains(name);
+    }
+
     public boolean isSuppressInvalidProperties() {
         return suppressInvalidProperties;
     }
+
+    public boolean isLazyValues() {
+        return lazyValues;
+    }
+
+    public boolean isPassthrough() {
+        return passthrough;
+    }
+
+    public ContentProjection getProjection() {
+        return projection;
+    }
+
+    private static FactoryResolver<ParameterFactory<?>> parameterFactoryResolver(
+            Supplier<List<ParameterFactory<?>>> supplier) {
+        // consistent with ParameterBuilder.name()..
+        return new FactoryResolver<>(supplier, ParameterFactory::supports, String::toUpperCase);
+    }
+
+    private static FactoryResolver<PropertyFactory<?>> propertyFactoryResolver(
+            Supplier<List<PropertyFactory<?>>> supplier) {
+        // consistent with PropertyBuilder.name(), group prefixes aren't considered..
+        return new FactoryResolver<>(supplier, PropertyFactory::supports, name -> {
+            if (name.indexOf('.') < 0) {
+                return name;
+            }
+            var nameParts = name.split("\\.");
+            return nameParts.length > 1 ? nameParts[nameParts.length - 1] : name;
+        });
+    }
+
+    private static FactoryResolver<ComponentFactory<?>> componentFactoryResolver(
+            Supplier<List<ComponentFactory<?>>> supplier) {
+        // consistent with ComponentBuilder.name()..
+        return new FactoryResolver<>(supplier, ComponentFactory::supports, String::toUpperCase);
+    }
 }
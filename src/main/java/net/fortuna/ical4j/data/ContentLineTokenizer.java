@@ -0,0 +1,689 @@
+package net.fortuna.ical4j.data;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * A tokeniser for iCalendar content lines that operates directly on a character buffer filled from the
+ * underlying reader. Names are tracked as slices of the buffer and only materialised as strings on request,
+ * and parameter and property values are scanned in a single pass rather than being assembled from individual
+ * tokens. Names of standard content are resolved to canonical string instances (see {@link NameTable}).
+ * <p/>
+ * Where constructed in octet mode the characters read are expected to be the octets of UTF-8 encoded data (see
+ * {@link OctetReader}), and the text of tokens is decoded as UTF-8 when it is materialised. Text consisting only of
+ * US-ASCII characters is copied directly.
+ * <p/>
+ * The token syntax matches the {@link java.io.StreamTokenizer} configuration historically used by
+ * {@link CalendarParserImpl}:
+ * <ul>
+ *     <li>the characters <code>:</code>, <code>;</code>, <code>=</code>, TAB and control characters
+ *     in the range 21-31 are returned as ordinary (single character) tokens,</li>
+ *     <li>CR, LF and CRLF are returned as an end-of-line token,</li>
+ *     <li>all other control characters are ignored, and</li>
+ *     <li>a double-quoted string is returned as a single token with the quotes removed and backslash
+ *     escapes processed.</li>
+ * </ul>
+ * <p/>
+ * Note that this class is not thread-safe.
+ */
+final class ContentLineTokenizer {
+
+    /**
+     * Indicates the end of the stream has been reached.
+     */
+    static final int TT_EOF = -1;
+
+    /**
+     * Indicates the end of a line has been read.
+     */
+    static final int TT_EOL = '\n';
+
+    /**
+     * Indicates a word token has been read.
+     */
+    static final int TT_WORD = -3;
+
+    private static final int TT_NOTHING = -4;
+
+    private static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    private static final int WORD_CHAR_START = 32;
+
+    private static final int ORDINARY_CHAR_START = 21;
+
+    private final Reader in;
+
+    private final boolean octets;
+
+    private char[] buffer;
+
+    private int position;
+
+    private int limit;
+
+    /**
+     * The start of buffered text that must be retained when the buffer is refilled, or -1 if none.
+     */
+    private int mark = -1;
+
+    private boolean eof;
+
+    private boolean skipLineFeed;
+
+    private boolean pushedBack;
+
+    private int ttype = TT_NOTHING;
+
+    private int textOffset;
+
+    private int textLength;
+
+    private boolean hasText;
+
+    private String text;
+
+    private int lineNumber = 1;
+
+    /**
+     * @param in the reader to tokenise
+     */
+    ContentLineTokenizer(Reader in) {
+        this(in, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * @param in the reader to tokenise
+     * @param bufferSize the initial size of the character buffer
+     */
+    ContentLineTokenizer(Reader in, int bufferSize) {
+        this(in, bufferSize, false);
+    }
+
+    /**
+     * @param in the reader to tokenise
+     * @param octets if true, the characters read are the octets of UTF-8 encoded data
+     */
+    ContentLineTokenizer(Reader in, boolean octets) {
+        this(in, DEFAULT_BUFFER_SIZE, octets);
+    }
+
+    /**
+     * @param in the reader to tokenise
+     * @param bufferSize the initial size of the character buffer
+     * @param octets if true, the characters read are the octets of UTF-8 encoded data
+     */
+    ContentLineTokenizer(Reader in, int bufferSize, boolean octets) {
+        this.in = in;
+        this.buffer = new char[bufferSize];
+        this.octets = octets;
+    }
+
+    /**
+     * Reads the next token.
+     * @return the type of token read. One of {@link #TT_WORD}, {@link #TT_EOL}, {@link #TT_EOF} or the
+     * ordinary character read
+     * @throws IOException where an error occurs reading from the underlying stream
+     */
+    int nextToken() throws IOException {
+        if (pushedBack) {
+            pushedBack = false;
+            return ttype;
+        }
+        clearText();
+
+        final int c = skipIgnorable();
+        if (c < 0) {
+            return ttype = TT_EOF;
+        } else if (c == '\r' || c == '\n') {
+            consumeLineBreak((char) c);
+            return ttype = TT_EOL;
+        } else if (c == '"') {
+            position++;
+            readQuoted();
+            return ttype = '"';
+        } else if (isWordChar((char) c)) {
+            readWord();
+            return ttype = TT_WORD;
+        }
+        position++;
+        return ttype = c;
+    }
+
+    /**
+     * Causes the next call to {@link #nextToken()} to return the current token again.
+     */
+    void pushBack() {
+        if (ttype != TT_NOTHING) {
+            pushedBack = true;
+        }
+    }
+
+    /**
+     * @return the type of the current token
+     */
+    int getType() {
+        return ttype;
+    }
+
+    /**
+     * @return the current line number
+     */
+    int getLineNumber() {
+        return lineNumber;
+    }
+
+    /**
+     * @return true if the current token is a word or quoted string
+     */
+    boolean hasText() {
+        return hasText;
+    }
+
+    /**
+     * @return the text of the current word or quoted string token, otherwise null
+     */
+    String getText() {
+        if (!hasText) {
+            return null;
+        }
+        if (text == null) {
+            text = NameTable.lookup(buffer, textOffset, textLength);
+            if (text == null) {
+                text = newString(textOffset, textLength);
+            }
+        }
+        return text;
+    }
+
+    /**
+     * Compares the text of the current token without materialising it as a string.
+     * @param value the value to compare
+     * @param ignoreCase indicates whether the comparison is case-insensitive
+     * @return true if the current token is a word or quoted string matching the specified value
+     */
+    boolean textEquals(String value, boolean ignoreCase) {
+        if (!hasText) {
+            return false;
+        } else if (text != null) {
+            return ignoreCase ? text.equalsIgnoreCase(value) : text.equals(value);
+        } else if (textLength != value.length()) {
+            return false;
+        }
+        for (int i = 0; i < textLength; i++) {
+            final char c = buffer[textOffset + i];
+            final char v = value.charAt(i);
+            if (c != v && (!ignoreCase || Character.toUpperCase(c) != Character.toUpperCase(v))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Reads the remainder of the current line as a property value, consuming the line break. Double-quotes
+     * have no special meaning in a property value. Any pushed back token is discarded.
+     * @return the property value, or null if the end of the stream is reached before the end of the line
+     * @throws IOException where an error occurs reading from the underlying stream
+     */
+    String readValue() throws IOException {
+        return readValue(true);
+    }
+
+    /**
+     * Skips the remainder of the current line as a property value, consuming the line break. Skipped content is
+     * not retained in the buffer.
+     * @return false if the end of the stream is reached before the end of the line, otherwise true
+     * @throws IOException where an error occurs reading from the underlying stream
+     */
+    boolean skipValue() throws IOException {
+        return readValue(false) != null;
+    }
+
+    private String readValue(boolean materialise) throws IOException {
+        pushedBack = false;
+        clearText();
+
+        if (peek() < 0) {
+            ttype = TT_EOF;
+            return null;
+        }
+
+        // skipped content needn't be retained when the buffer is refilled..
+        mark = materialise ? position : -1;
+        int p = position;
+        boolean filter = false;
+        for (;;) {
+            while (p < limit) {
+                final char c = buffer[p];
+                if (c < ORDINARY_CHAR_START) {
+                    if (c == '\n' || c == '\r') {
+                        break;
+                    } else if (c != '\t') {
+                        filter = true;
+                    }
+                }
+                p++;
+            }
+            if (p < limit) {
+                break;
+            }
+            position = p;
+            if (!fill()) {
+                mark = -1;
+                ttype = TT_EOF;
+                return null;
+            }
+            p = position;
+        }
+
+        final String value;
+        if (!materialise) {
+            value = "";
+        } else if (filter) {
+            value = filteredString(mark, p);
+        } else {
+            value = newString(mark, p - mark);
+        }
+        mark = -1;
+        position = p;
+        consumeLineBreak(buffer[p]);
+        ttype = TT_EOL;
+        return value;
+    }
+
+    /**
+     * Reads a parameter value following the <code>=</code> delimiter. A quoted value is returned including
+     * the quotes. An unquoted value extends up to (but not including) the next <code>;</code> or
+     * <code>:</code> delimiter, which is not consumed. Any pushed back token is discarded.
+     * @param allowEscapedSemicolon if true a semicolon preceded by a backslash is considered part of an
+     *                              unquoted value rather than a delimiter
+     * @return the parameter value, or null if the end of the stream is reached before the value is terminated
+     * @throws IOException where an error occurs reading from the underlying stream
+     */
+    String readParameterValue(boolean allowEscapedSemicolon) throws IOException {
+        return readParameterValue(allowEscapedSemicolon, true);
+    }
+
+    /**
+     * Skips a parameter value following the <code>=</code> delimiter, as read by
+     * {@link #readParameterValue(boolean)}.
+     * @param allowEscapedSemicolon if true a semicolon preceded by a backslash is considered part of an
+     *                              unquoted value
+     * @return false if the end of the stream is reached before the value is terminated, otherwise true
+     * @throws IOException where an error occurs reading from the underlying stream
+     */
+    boolean skipParameterValue(boolean allowEscapedSemicolon) throws IOException {
+        return readParameterValue(allowEscapedSemicolon, false) != null;
+    }
+
+    private String readParameterValue(boolean allowEscapedSemicolon, boolean materialise) throws IOException {
+        pushedBack = false;
+        clearText();
+
+        final int first = skipIgnorable();
+        if (first < 0) {
+            ttype = TT_EOF;
+            return null;
+        } else if (first == '"') {
+            position++;
+            readQuoted();
+            ttype = '"';
+            return materialise ? '"' + getText() + '"' : "";
+        } else if (!isWordChar((char) first)) {
+            // empty value..
+            ttype = TT_NOTHING;
+            return "";
+        }
+
+        StringBuilder b = null;
+        mark = position;
+        int runStart = position;
+        int p = position;
+        boolean lineFeedPending = false;
+        for (;;) {
+            if (p >= limit) {
+                position = p;
+                if (b != null) {
+                    b.append(buffer, runStart, p - runStart);
+                    mark = -1;
+                }
+                if (!fill()) {
+                    mark = -1;
+                    ttype = TT_EOF;
+                    return null;
+                }
+                p = position;
+                runStart = b != null ? p : mark;
+            }
+            final char c = buffer[p];
+            if (lineFeedPending) {
+                lineFeedPending = false;
+                if (c == '\n') {
+                    runStart = ++p;
+                    continue;
+                }
+            }
+            if (c == ';' || c == ':') {
+                if (c == ':' || !allowEscapedSemicolon || lastChar(b, runStart, p) != '\\') {
+                    break;
+                }
+            } else if (c == '"') {
+                // a quoted string is read as a single token, of which only the quote is retained..
+                if (b == null) {
+                    b = new StringBuilder();
+                }
+                b.append(buffer, runStart, p - runStart).append('"');
+                mark = -1;
+                position = p + 1;
+                readQuoted();
+                clearText();
+                p = position;
+                runStart = p;
+                continue;
+            } else if (c < ORDINARY_CHAR_START && c != '\t') {
+                if (b == null) {
+                    b = new StringBuilder();
+                }
+                b.append(buffer, runStart, p - runStart);
+                if (c == '\r' || c == '\n') {
+                    // a line break doesn't terminate an unquoted value..
+                    b.append('\n');
+                    lineNumber++;
+                    lineFeedPending = c == '\r';
+                }
+                runStart = ++p;
+                continue;
+            }
+            p++;
+        }
+
+        final String value;
+        if (!materialise) {
+            value = "";
+        } else if (b != null) {
+            value = decode(b.append(buffer, runStart, p - runStart).toString());
+        } else {
+            value = newString(runStart, p - runStart);
+        }
+        mark = -1;
+        position = p;
+        ttype = TT_NOTHING;
+        return value;
+    }
+
+    private char lastChar(StringBuilder b, int runStart, int p) {
+        if (p > runStart) {
+            return buffer[p - 1];
+        } else if (b != null && b.length() > 0) {
+            return b.charAt(b.length() - 1);
+        }
+        return 0;
+    }
+
+    private String filteredString(int start, int end) {
+        final var b = new StringBuilder(end - start);
+        for (int i = start; i < end; i++) {
+            final char c = buffer[i];
+            if (!isIgnorable(c)) {
+                b.append(c);
+            }
+        }
+        return decode(b.toString());
+    }
+
+    private String newString(int offset, int length) {
+        if (octets) {
+            for (int i = offset; i < offset + length; i++) {
+                if (buffer[i] >= 0x80) {
+                    return decodeOctets(buffer, offset, length);
+                }
+            }
+        }
+        return new String(buffer, offset, length);
+    }
+
+    private String decode(String value) {
+        if (octets) {
+            for (int i = 0; i < value.length(); i++) {
+                if (value.charAt(i) >= 0x80) {
+                    return decodeOctets(value.toCharArray(), 0, value.length());
+                }
+            }
+        }
+        return value;
+    }
+
+    private static String decodeOctets(char[] chars, int offset, int length) {
+        final var bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = (byte) chars[offset + i];
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private void readWord() throws IOException {
+        mark = position;
+        int p = position;
+        for (;;) {
+            while (p < limit && isWordChar(buffer[p])) {
+                p++;
+            }
+            if (p < limit) {
+                break;
+            }
+            position = p;
+            final boolean filled = fill();
+            p = position;
+            if (!filled) {
+                break;
+            }
+        }
+        setText(mark, p - mark);
+        mark = -1;
+        position = p;
+    }
+
+    private void readQuoted() throws IOException {
+        mark = position;
+        int p = position;
+        for (;;) {
+            while (p < limit) {
+                final char c = buffer[p];
+                if (c == '"' || c == '\n' || c == '\r' || c == '\\') {
+                    break;
+                }
+                p++;
+            }
+            if (p < limit) {
+                break;
+            }
+            position = p;
+            final boolean filled = fill();
+            p = position;
+            if (!filled) {
+                break;
+            }
+        }
+        if (p < limit && buffer[p] == '\\') {
+            final var b = new StringBuilder().append(buffer, mark, p - mark);
+            mark = -1;
+            position = p;
+            readEscaped(b);
+            return;
+        }
+        setText(mark, p - mark);
+        mark = -1;
+        position = p;
+        // an unterminated string is closed by a line break, which is retained as the next token..
+        if (position < limit && buffer[position] == '"') {
+            position++;
+        }
+    }
+
+    /**
+     * Reads the remainder of a quoted string containing escape sequences, as processed by
+     * {@link java.io.StreamTokenizer}.
+     */
+    private void readEscaped(StringBuilder b) throws IOException {
+        int d = read();
+        while (d >= 0 && d != '"' && d != '\n' && d != '\r') {
+            int c;
+            if (d == '\\') {
+                c = read();
+                final int first = c;
+                if (c >= '0' && c <= '7') {
+                    c = c - '0';
+                    int c2 = read();
+                    if ('0' <= c2 && c2 <= '7') {
+                        c = (c << 3) + (c2 - '0');
+                        c2 = read();
+                        if ('0' <= c2 && c2 <= '7' && first <= '3') {
+                            c = (c << 3) + (c2 - '0');
+                            d = read();
+                        } else {
+                            d = c2;
+                        }
+                    } else {
+                        d = c2;
+                    }
+                } else {
+                    switch (c) {
+                        case 'a':
+                            c = 0x7;
+                            break;
+                        case 'b':
+                            c = '\b';
+                            break;
+                        case 'f':
+                            c = 0xC;
+                            break;
+                        case 'n':
+                            c = '\n';
+                            break;
+                        case 'r':
+                            c = '\r';
+                            break;
+                        case 't':
+                            c = '\t';
+                            break;
+                        case 'v':
+                            c = 0xB;
+                            break;
+                        default:
+                    }
+                    d = read();
+                }
+            } else {
+                c = d;
+                d = read();
+            }
+            b.append((char) c);
+        }
+        // an unterminated string is closed by a line break, which is retained as the next token..
+        if (d >= 0 && d != '"') {
+            position--;
+        }
+        hasText = true;
+        text = decode(b.toString());
+    }
+
+    /**
+     * @return the next character, or -1 if the end of the stream is reached
+     */
+    private int read() throws IOException {
+        if (position >= limit && !fill()) {
+            return -1;
+        }
+        return buffer[position++];
+    }
+
+    private void setText(int offset, int length) {
+        textOffset = offset;
+        textLength = length;
+        hasText = true;
+        text = null;
+    }
+
+    private void clearText() {
+        hasText = false;
+        text = null;
+    }
+
+    private void consumeLineBreak(char c) {
+        position++;
+        lineNumber++;
+        skipLineFeed = c == '\r';
+    }
+
+    /**
+     * @return the next character without consuming it, or -1 if the end of the stream is reached
+     */
+    private int peek() throws IOException {
+        if (position >= limit && !fill()) {
+            return -1;
+        }
+        if (skipLineFeed) {
+            skipLineFeed = false;
+            if (buffer[position] == '\n') {
+                position++;
+                return peek();
+            }
+        }
+        return buffer[position];
+    }
+
+    /**
+     * Skips ignorable control characters.
+     * @return the next character without consuming it, or -1 if the end of the stream is reached
+     */
+    private int skipIgnorable() throws IOException {
+        int c = peek();
+        while (c >= 0 && isIgnorable((char) c)) {
+            position++;
+            c = peek();
+        }
+        return c;
+    }
+
+    /**
+     * Reads more data into the buffer, retaining any marked text.
+     * @return false if the end of the stream has been reached
+     */
+    private boolean fill() throws IOException {
+        if (eof) {
+            return false;
+        }
+        if (mark > 0) {
+            System.arraycopy(buffer, mark, buffer, 0, limit - mark);
+            limit -= mark;
+            position -= mark;
+            mark = 0;
+        } else if (mark < 0) {
+            position = 0;
+            limit = 0;
+        }
+        if (limit == buffer.length) {
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        }
+        int read;
+        do {
+            read = in.read(buffer, limit, buffer.length - limit);
+        } while (read == 0);
+        if (read < 0) {
+            eof = true;
+            return false;
+        }
+        limit += read;
+        return true;
+    }
+
+    private static boolean isWordChar(char c) {
+        return c >= WORD_CHAR_START && c != ':' && c != ';' && c != '=' && c != '"';
+    }
+
+    private static boolean isIgnorable(char c) {
+        return c < ORDINARY_CHAR_START && c != '\t' && c != '\n' && c != '\r';
+    }
+}
@@ -0,0 +1,106 @@
+package net.fortuna.ical4j.data;
+
+import net.fortuna.ical4j.model.Calendar;
+import net.fortuna.ical4j.model.Component;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Specifies the subset of iCalendar content to materialise when parsing. Components may be skipped in their entirety
+ * (including any nested components), and the properties of a component may be restricted to an allow-list. Where
+ * content is skipped {@link CalendarParserImpl} reads past the corresponding content lines without reporting them
+ * to the {@link ContentHandler}, such that no properties, parameters or value strings are built.
+ * <p/>
+ * Names are matched irrespective of case, and the component name {@link Component#EXPERIMENTAL_PREFIX} matches all
+ * experimental components. Calendar properties are restricted using the component name {@link Calendar#VCALENDAR}.
+ * For example:
+ * <pre>
+ * ContentProjection projection = new ContentProjection()
+ *         .withSkippedComponentNames(List.of(Component.VALARM, Component.VJOURNAL, Component.EXPERIMENTAL_PREFIX))
+ *         .withPropertyNames(Component.VEVENT, List.of(Property.UID, Property.DTSTART, Property.DTEND));
+ * </pre>
+ * Note that a projection is applied by the parser, and is not supported by parsers that don't consult
+ * {@link ContentHandler#isSkippedComponent(String)} and {@link ContentHandler#isSkippedProperty(String, String)}.
+ *
+ * @see ContentHandlerContext#withProjection(ContentProjection)
+ */
+public class ContentProjection {
+
+    private Set<String> skippedComponentNames = Collections.emptySet();
+
+    private boolean skipExperimentalComponents;
+
+    private Map<String, Set<String>> propertyNames = Collections.emptyMap();
+
+    /**
+     * @param skippedComponentNames the names of components to skip
+     * @return a new projection instance
+     */
+    public ContentProjection withSkippedComponentNames(List<String> skippedComponentNames) {
+        var projection = copy();
+        projection.skippedComponentNames = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        projection.skippedComponentNames.addAll(skippedComponentNames);
+        projection.skipExperimentalComponents = projection.skippedComponentNames.contains(
+                Component.EXPERIMENTAL_PREFIX);
+        return projection;
+    }
+
+    /**
+     * @param componentName the name of a component
+     * @param propertyNames the names of the properties of the component to retain
+     * @return a new projection instance
+     */
+    public ContentProjection withPropertyNames(String componentName, List<String> propertyNames) {
+        var projection = copy();
+        projection.propertyNames = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        projection.propertyNames.putAll(this.propertyNames);
+        Set<String> names = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        names.addAll(propertyNames);
+        projection.propertyNames.put(componentName, names);
+        return projection;
+    }
+
+    private ContentProjection copy() {
+        var projection = new ContentProjection();
+        projection.skippedComponentNames = this.skippedComponentNames;
+        projection.skipExperimentalComponents = this.skipExperimentalComponents;
+        projection.propertyNames = this.propertyNames;
+        return projection;
+    }
+
+    /**
+     * @param name a component name
+     * @return true if the specified component is skipped
+     */
+    public boolean isSkippedComponent(String name) {
+        if (skipExperimentalComponents && name.regionMatches(true, 0, Component.EXPERIMENTAL_PREFIX, 0,
+                Component.EXPERIMENTAL_PREFIX.length())) {
+            return true;
+        }
+        return !skippedComponentNames.isEmpty() && skippedComponentNames.contains(name);
+    }
+
+    /**
+     * @param componentName the name of the component containing the property, or {@link Calendar#VCALENDAR} for
+     *                      calendar properties
+     * @param name a property name, optionally including a group prefix
+     * @return true if the specified property is skipped
+     */
+    public boolean isSkippedProperty(String componentName, String name) {
+        if (propertyNames.isEmpty()) {
+            return false;
+        }
+        var names = propertyNames.get(componentName);
+        if (names == null) {
+            return false;
+        }
+        // consistent with PropertyBuilder.name(), group prefixes aren't considered..
+        var groupIndex = name.lastIndexOf('.');
+        return !names.contains(groupIndex < 0 ? name : name.substring(groupIndex + 1));
+    }
+}
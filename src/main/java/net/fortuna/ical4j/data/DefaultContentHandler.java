@@ -9,8 +9,10 @@ import net.fortuna.ical4j.util.Constants;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
@@ -38,6 +40,33 @@ public class DefaultContentHandler implements ContentHandler {
 
     protected List<CalendarComponent> calendarComponents;
 
+    /**
+     * Supplies the source text of top-level components, where source text is retained.
+     */
+    private ComponentSourceReader sourceReader;
+
+    /**
+     * The number of skipped top-level components for which source text is to be discarded.
+     */
+    private int skippedSources;
+
+    /**
+     * Indicates whether any content of the current top-level component is not materialised.
+     */
+    private boolean partialComponent;
+
+    /**
+     * Parameters of the current calendar keyed by name and value. As parameters are immutable, repeated parameters
+     * (e.g. TZID, CN, ROLE) share a single instance rather than being built for every property.
+     */
+    private final Map<String, Map<String, Parameter>> parameters = new HashMap<>();
+
+    /**
+     * Property names of the current calendar, such that non-standard properties (e.g. X-ALT-DESC) of each component
+     * share a single name rather than retaining the parsed name of every property.
+     */
+    private final Map<String, String> propertyNames = new HashMap<>();
+
     public DefaultContentHandler(Consumer<Calendar> consumer, TimeZoneRegistry tzRegistry) {
         this(consumer, tzRegistry, new ContentHandlerContext());
     }
@@ -69,6 +98,14 @@ public class DefaultContentHandler implements ContentHandler {
         this.context = context;
     }
 
+    /**
+     * @param sourceReader supplies the source text of top-level components, or null to not retain source text
+     */
+    void setSourceReader(ComponentSourceReader sourceReader) {
+        this.sourceReader = sourceReader;
+        this.skippedSources = 0;
+    }
+
     public ComponentBuilder<Component> getComponentBuilder() {
         if (components.isEmpty()) {
             return null;
@@ -85,12 +122,16 @@ public class DefaultContentHandler implements ContentHandler {
         calendarProperties = new ArrayList<>();
         calendarComponents = new ArrayList<>();
         components.clear();
+        parameters.clear();
+        propertyNames.clear();
     }
 
     @Override
     public void endCalendar() {
         Calendar calendar = new Calendar(new PropertyList(calendarProperties),
                 new ComponentList<>(calendarComponents));
+        parameters.clear();
+        propertyNames.clear();
         consumer.accept(calendar);
     }
 
@@ -99,9 +140,12 @@ public class DefaultContentHandler implements ContentHandler {
         if (components.size() > 10) {
             throw new RuntimeException("Components nested too deep");
         }
+        if (components.isEmpty()) {
+            partialComponent = false;
+        }
 
         ComponentBuilder<Component> componentBuilder = new ComponentBuilder<>(
-                context.getComponentFactorySupplier().get());
+                context.getComponentFactories(name));
         componentBuilder.name(name);
         components.push(componentBuilder);
     }
@@ -123,6 +167,9 @@ public class DefaultContentHandler implements ContentHandler {
             parent.subComponent(subComponent);
         } else {
             CalendarComponent component = (CalendarComponent) componentBuilder.build();
+            if (sourceReader != null) {
+                retainSource(component);
+            }
             calendarComponents.add(component);
             if (component instanceof VTimeZone && tzRegistry != null) {
                 // register the timezone for use with iCalendar objects..
@@ -131,11 +178,22 @@ public class DefaultContentHandler implements ContentHandler {
         }
     }
 
+    private void retainSource(Component component) {
+        for (; skippedSources > 0; skippedSources--) {
+            sourceReader.discard();
+        }
+        var source = sourceReader.poll(component.getName());
+        if (source != null && !partialComponent) {
+            component.setSource(source);
+        }
+    }
+
     @Override
     public void startProperty(String name) {
-        if (!context.getIgnoredPropertyNames().contains(name.toUpperCase())) {
-            propertyBuilder = new PropertyBuilder(context.getPropertyFactorySupplier().get()).name(name)
-                    .timeZoneRegistry(tzRegistry);
+        if (!context.isIgnoredPropertyName(name)) {
+            propertyBuilder = new PropertyBuilder(context.getPropertyFactories(name))
+                    .name(propertyNames.computeIfAbsent(name, k -> k))
+                    .timeZoneRegistry(tzRegistry).lazy(context.isLazyValues() || sourceReader != null);
         } else {
             propertyBuilder = null;
         }
@@ -150,13 +208,14 @@ public class DefaultContentHandler implements ContentHandler {
 
     @Override
     public void endProperty(String name) {
-        if (!context.getIgnoredPropertyNames().contains(name.toUpperCase())) {
+        if (!context.isIgnoredPropertyName(name)) {
             assertProperty(propertyBuilder);
             Property property;
             try {
                 property = propertyBuilder.build();
             } catch (RuntimeException e) {
                 if (context.isSuppressInvalidProperties()) {
+                    partialComponent = true;
                     LoggerFactory.getLogger(DefaultContentHandler.class).warn("Suppressing invalid property", e);
                     return;
                 } else {
@@ -171,20 +230,27 @@ public class DefaultContentHandler implements ContentHandler {
             } else if (calendarProperties != null) {
                 calendarProperties.add(property);
             }
+        } else {
+            partialComponent = true;
         }
     }
 
     @Override
     public void parameter(String name, String value) {
         if (propertyBuilder != null) {
-            var parameter = new ParameterBuilder(context.getParameterFactorySupplier().get())
-                    .name(name).value(value).build();
+            var parameter = parameters.computeIfAbsent(name, k -> new HashMap<>()).get(value);
+            if (parameter == null) {
+                parameter = new ParameterBuilder(context.getParameterFactories(name))
+                        .name(name).value(value).build();
+                parameters.get(name).put(value, parameter);
+            }
 
             if (parameter instanceof TzId) {
                 if (getComponentBuilder() != null && (getComponentBuilder().hasName(Observance.STANDARD)
                         || getComponentBuilder().hasName(Observance.DAYLIGHT))) {
                     // we don't allow TZID parameter in ANY properties VTIMEZONE definitions as it causes StackOverflowError..
                     // e.g. DTSTART, RDATE, etc.
+                    partialComponent = true;
                     return;
                 }
             }
@@ -192,6 +258,29 @@ public class DefaultContentHandler implements ContentHandler {
         }
     }
 
+    @Override
+    public boolean isSkippedComponent(String name) {
+        final var skipped = context.getProjection().isSkippedComponent(name);
+        if (skipped && sourceReader != null) {
+            if (components.isEmpty()) {
+                skippedSources++;
+            } else {
+                partialComponent = true;
+            }
+        }
+        return skipped;
+    }
+
+    @Override
+    public boolean isSkippedProperty(String componentName, String name) {
+        final var skipped = context.isIgnoredPropertyName(name)
+                || context.getProjection().isSkippedProperty(componentName, name);
+        if (skipped && !components.isEmpty()) {
+            partialComponent = true;
+        }
+        return skipped;
+    }
+
     private void assertComponent(ComponentBuilder<?> component) {
         if (component == null) {
             throw new CalendarException("Expected component not initialised");
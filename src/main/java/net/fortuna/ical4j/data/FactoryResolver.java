@@ -0,0 +1,90 @@
+package net.fortuna.ical4j.data;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiPredicate;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Resolves the factories supporting a content name. The factory list is obtained from the supplier once, and
+ * the factories matching each distinct name are remembered so that subsequent lookups don't need to scan the
+ * full list. Instances are thread-safe and may be shared across parsers.
+ *
+ * @param <T> the factory type
+ */
+final class FactoryResolver<T> {
+
+    /**
+     * Limits the number of cached names, as experimental names are unbounded in arbitrary input.
+     */
+    private static final int MAX_CACHED_NAMES = 1024;
+
+    private final Supplier<List<T>> factorySupplier;
+
+    private final BiPredicate<T, String> supports;
+
+    private final UnaryOperator<String> supportedName;
+
+    private final Map<String, List<T>> resolved = new ConcurrentHashMap<>();
+
+    private volatile List<T> factories;
+
+    /**
+     * @param factorySupplier provides the list of available factories
+     * @param supports tests whether a factory supports a name
+     * @param supportedName maps a content name to the form a builder will test for support
+     */
+    FactoryResolver(Supplier<List<T>> factorySupplier, BiPredicate<T, String> supports,
+                    UnaryOperator<String> supportedName) {
+        this.factorySupplier = factorySupplier;
+        this.supports = supports;
+        this.supportedName = supportedName;
+    }
+
+    Supplier<List<T>> getFactorySupplier() {
+        return factorySupplier;
+    }
+
+    /**
+     * @param name a content name
+     * @return an unmodifiable list of factories supporting the specified name, in supplier order
+     */
+    List<T> resolve(String name) {
+        var matching = resolved.get(name);
+        if (matching == null) {
+            matching = match(supportedName.apply(name));
+            if (resolved.size() < MAX_CACHED_NAMES) {
+                resolved.put(name, matching);
+            }
+        }
+        return matching;
+    }
+
+    private List<T> match(String name) {
+        List<T> matching = new ArrayList<>(1);
+        for (T factory : getFactories()) {
+            if (supports.test(factory, name)) {
+                matching.add(factory);
+            }
+        }
+        return matching.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(matching);
+    }
+
+    private List<T> getFactories() {
+        var result = factories;
+        if (result == null) {
+            synchronized (this) {
+                result = factories;
+                if (result == null) {
+                    result = new ArrayList<>(factorySupplier.get());
+                    factories = result;
+                }
+            }
+        }
+        return result;
+    }
+}
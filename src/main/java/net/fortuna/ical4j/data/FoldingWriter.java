@@ -61,10 +61,17 @@ public class FoldingWriter extends FilterWriter {
 
     private static final char[] FOLD_PATTERN = {'\r', '\n', ' '};
 
+    /**
+     * The size of the buffer used to write strings and single characters.
+     */
+    private static final int BUFFER_SIZE = 1024;
+
     private final Logger log = LoggerFactory.getLogger(FoldingWriter.class);
 
     private int lineLength;
 
+    private char[] charBuffer;
+
     private final int foldLength;
 
     /**
@@ -88,12 +95,9 @@ public class FoldingWriter extends FilterWriter {
      */
     @Override
     public final void write(final int c) throws IOException {
-
-        /*
-         * super.write(c); if (c == '\n') { lineLength = 0; } else { lineLength += 1; } if (lineLength >= FOLD_LENGTH) {
-         * super.write(FOLD_PATTERN); }
-         */
-        write(new char[]{(char) c}, 0, 1);
+        final char[] chars = getBuffer();
+        chars[0] = (char) c;
+        write(chars, 0, 1, false);
     }
 
     /**
@@ -102,49 +106,104 @@ public class FoldingWriter extends FilterWriter {
     @Override
     public final void write(final char[] buffer, final int offset,
             final int length) throws IOException {
-        final int maxIndex = offset + length - 1;
-        for (int i = offset; i <= maxIndex; i++) {
+        write(buffer, offset, offset + length, false);
+    }
 
-            // debugging..
-            if (log.isTraceEnabled()) {
-                log.trace("char [" + buffer[i] + "], line length ["
-                        + lineLength + "]");
-            }
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final void write(final String str, final int off, final int len)
+            throws IOException {
+        final char[] chars = getBuffer();
+        final int end = off + len;
+        int start = off;
+        while (start < end) {
+            final int count = Math.min(chars.length, end - start);
+            str.getChars(start, start + count, chars, 0);
+            start += count;
+            // a surrogate pair may span chunks of the string..
+            write(chars, 0, count, start < end && Character.isLowSurrogate(str.charAt(start)));
+        }
+    }
 
-            // Detect surrogate pairs (such as emojis) to avoid splitting them.
-            boolean isHighSurrogate = Character.isHighSurrogate(buffer[i]);
-            boolean hasLowSurrogate = i < maxIndex && Character.isLowSurrogate(buffer[i + 1]);
+    /**
+     * Writes the specified characters, folding lines where required. Characters are written to the underlying
+     * writer in runs between fold points, rather than individually.
+     * @param chars the characters to write
+     * @param offset the index of the first character to write
+     * @param end the index following the last character to write
+     * @param lowSurrogateFollows indicates whether the character following the last character is a low surrogate
+     * @throws IOException where an error occurs writing to the underlying writer
+     */
+    private void write(final char[] chars, final int offset, final int end, final boolean lowSurrogateFollows)
+            throws IOException {
+
+        // debugging..
+        if (log.isTraceEnabled()) {
+            log.trace("chars [" + new String(chars, offset, Math.max(end - offset, 0)) + "], line length ["
+                    + lineLength + "]");
+        }
 
+        int start = offset;
+        for (int i = offset; i < end; i++) {
             // Don't fold before line endings - RFC 5545 says "excluding the line break"
             // so a line of exactly foldLength chars + CRLF is valid.
-            boolean isLineEnding = buffer[i] == '\r' || buffer[i] == '\n';
+            if (chars[i] == '\r' || chars[i] == '\n') {
+                lineLength = 0;
+                continue;
+            }
 
-            // If we are at the fold limit and have a surrogate pair, fold before writing
-            // the complete pair.
-            // OR Normal folding when the limit is reached
-            // BUT skip folding if we're about to write a line ending
-            if (!isLineEnding && (lineLength >= foldLength - 1 && isHighSurrogate && hasLowSurrogate || lineLength >= foldLength)) {
+            // Normal folding when the limit is reached, OR if we are at the fold limit and have a surrogate pair
+            // (such as an emoji), fold before writing the complete pair to avoid splitting it.
+            if (lineLength >= foldLength - 1 && (lineLength >= foldLength || Character.isHighSurrogate(chars[i])
+                    && (i + 1 < end ? Character.isLowSurrogate(chars[i + 1]) : lowSurrogateFollows))) {
+                if (i > start) {
+                    super.write(chars, start, i - start);
+                }
                 super.write(FOLD_PATTERN, 0, FOLD_PATTERN.length);
                 lineLength = 1;
+                start = i;
             }
-
-            super.write(buffer[i]);
-
-            if (buffer[i] == '\r' || buffer[i] == '\n') {
-                lineLength = 0;
-            } else {
-                lineLength += 1;
-            }
+            lineLength += 1;
+        }
+        if (end > start) {
+            super.write(chars, start, end - start);
         }
     }
 
     /**
-     * {@inheritDoc}
+     * Writes the specified text as is, such as text that is already folded.
+     * @param str the text to write
+     * @throws IOException where an error occurs writing to the underlying writer
      */
-    @Override
-    public final void write(final String str, final int off, final int len)
-            throws IOException {
-        write(str.toCharArray(), off, len);
+    final void writeVerbatim(final String str) throws IOException {
+        super.write(str, 0, str.length());
+        final int lineBreak = str.lastIndexOf('\n');
+        lineLength = lineBreak < 0 ? lineLength + str.length() : str.length() - lineBreak - 1;
+    }
+
+    /**
+     * Writes the specified characters as is, such as text that is already folded.
+     * @param chars the characters to write
+     * @param off the index of the first character to write
+     * @param len the number of characters to write
+     * @throws IOException where an error occurs writing to the underlying writer
+     */
+    final void writeVerbatim(final char[] chars, final int off, final int len) throws IOException {
+        super.write(chars, off, len);
+        int lineBreak = off + len - 1;
+        while (lineBreak >= off && chars[lineBreak] != '\n') {
+            lineBreak--;
+        }
+        lineLength = lineBreak < off ? lineLength + len : off + len - lineBreak - 1;
+    }
+
+    private char[] getBuffer() {
+        if (charBuffer == null) {
+            charBuffer = new char[BUFFER_SIZE];
+        }
+        return charBuffer;
     }
 
     /*
@@ -36,21 +36,24 @@ import net.fortuna.ical4j.model.parameter.Value;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.w3c.dom.*;
+import org.xml.sax.Attributes;
 import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
 import org.xml.sax.SAXParseException;
+import org.xml.sax.helpers.DefaultHandler;
 
 import javax.xml.XMLConstants;
-import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
-import javax.xml.xpath.*;
+import javax.xml.parsers.SAXParser;
+import javax.xml.parsers.SAXParserFactory;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
 
 import static net.fortuna.ical4j.model.property.immutable.ImmutableVersion.VERSION_2_0;
@@ -116,94 +119,57 @@ import static net.fortuna.ical4j.model.property.immutable.ImmutableVersion.VERSI
  * Therefore, this parser does not set any property parameters except as implied by property value data (e.g.
  * VALUE=DATE-TIME or VALUE=DATE for date-time properties).
  * </p>
+ * <h3>Streaming</h3>
+ * <p>
+ * The document is parsed in a single pass with a SAX parser, such that no DOM is built. Each event is reported to the
+ * content handler once its element is closed (or, for nested events, once the outermost event is closed), and the
+ * <code>METHOD</code> property is reported once its element is closed. The parser retains no state between
+ * documents, and may be used to parse multiple documents concurrently.
+ * </p>
  */
 public class HCalendarParser implements CalendarParser {
 
     private static final Logger LOG = LoggerFactory.getLogger(HCalendarParser.class);
 
-    private static final DocumentBuilderFactory BUILDER_FACTORY = DocumentBuilderFactory.newInstance();
-    private static final XPath XPATH = XPathFactory.newInstance().newXPath();
-    private static final XPathExpression XPATH_METHOD;
-    private static final XPathExpression XPATH_VEVENTS;
-    private static final XPathExpression XPATH_DTSTART;
-    private static final XPathExpression XPATH_DTEND;
-    private static final XPathExpression XPATH_DURATION;
-    private static final XPathExpression XPATH_SUMMARY;
-    private static final XPathExpression XPATH_UID;
-    private static final XPathExpression XPATH_DTSTAMP;
-    private static final XPathExpression XPATH_CATEGORY;
-    private static final XPathExpression XPATH_LOCATION;
-    private static final XPathExpression XPATH_URL;
-    private static final XPathExpression XPATH_DESCRIPTION;
-    private static final XPathExpression XPATH_LAST_MODIFIED;
-    private static final XPathExpression XPATH_STATUS;
-    private static final XPathExpression XPATH_CLASS;
-    private static final XPathExpression XPATH_ATTENDEE;
-    private static final XPathExpression XPATH_CONTACT;
-    private static final XPathExpression XPATH_ORGANIZER;
-    private static final XPathExpression XPATH_SEQUENCE;
-    private static final XPathExpression XPATH_ATTACH;
+    private static final SAXParserFactory PARSER_FACTORY = SAXParserFactory.newInstance();
     private static final String HCAL_DATE_PATTERN = "yyyy-MM-dd";
-    private static final SimpleDateFormat HCAL_DATE_FORMAT = new SimpleDateFormat(HCAL_DATE_PATTERN);
     private static final String HCAL_DATE_TIME_PATTERN = "yyyy-MM-dd'T'HH:mm:ssz";
-    private static final SimpleDateFormat HCAL_DATE_TIME_FORMAT = new SimpleDateFormat(HCAL_DATE_TIME_PATTERN);
+
+    private static final String CLASS_METHOD = "method";
+    private static final String CLASS_VEVENT = "vevent";
+
+    /**
+     * The class names of event properties, in the order the corresponding properties are reported.
+     */
+    private static final String[] EVENT_CLASS_NAMES = {"dtstart", "dtend", "duration", "summary", "uid", "dtstamp",
+            "category", "location", "url", "description", "last-modified", "status", "class", "attendee", "contact",
+            "organizer", "sequence", "attach"};
+
+    private static final String[] EVENT_PROPERTY_NAMES = {Property.DTSTART, Property.DTEND, Property.DURATION,
+            Property.SUMMARY, Property.UID, Property.DTSTAMP, Property.CATEGORIES, Property.LOCATION, Property.URL,
+            Property.DESCRIPTION, Property.LAST_MODIFIED, Property.STATUS, Property.CLASS, Property.ATTENDEE,
+            Property.CONTACT, Property.ORGANIZER, Property.SEQUENCE, Property.ATTACH};
 
     static {
-        BUILDER_FACTORY.setNamespaceAware(true);
-        BUILDER_FACTORY.setIgnoringComments(true);
+        PARSER_FACTORY.setNamespaceAware(true);
         try {
             // Prevent XXE attacks - see https://github.com/ical4j/ical4j/issues/802
-            BUILDER_FACTORY.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
-        } catch (ParserConfigurationException e) {
+            PARSER_FACTORY.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+        } catch (ParserConfigurationException | SAXException e) {
             throw new CalendarException(e);
         }
         // Additional hardening against XXE: disable DTDs and external entities where supported.
         try {
-            BUILDER_FACTORY.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
-        } catch (ParserConfigurationException e) {
+            PARSER_FACTORY.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+        } catch (ParserConfigurationException | SAXException e) {
             LOG.warn("XML parser does not support disallow-doctype-decl; XXE protection may be reduced.", e);
         }
         try {
-            BUILDER_FACTORY.setFeature("http://xml.org/sax/features/external-general-entities", false);
-            BUILDER_FACTORY.setFeature("http://xml.org/sax/features/external-parameter-entities", false);
-        } catch (ParserConfigurationException e) {
+            PARSER_FACTORY.setFeature("http://xml.org/sax/features/external-general-entities", false);
+            PARSER_FACTORY.setFeature("http://xml.org/sax/features/external-parameter-entities", false);
+        } catch (ParserConfigurationException | SAXException e) {
             LOG.warn("XML parser does not support disabling external entities; XXE protection may be reduced.", e);
         }
-        try {
-            BUILDER_FACTORY.setAttribute(XMLConstants.ACCESS_EXTERNAL_DTD, "");
-            BUILDER_FACTORY.setAttribute(XMLConstants.ACCESS_EXTERNAL_SCHEMA, "");
-        } catch (IllegalArgumentException e) {
-            LOG.warn("XML parser does not support ACCESS_EXTERNAL_* attributes; XXE protection may be reduced.", e);
-        }
-
-        XPATH_METHOD = compileExpression("//*[contains(@class, 'method')]");
-        XPATH_VEVENTS = compileExpression("//*[contains(@class, 'vevent')]");
-        XPATH_DTSTART = compileExpression(".//*[contains(@class, 'dtstart')]");
-        XPATH_DTEND = compileExpression(".//*[contains(@class, 'dtend')]");
-        XPATH_DURATION = compileExpression(".//*[contains(@class, 'duration')]");
-        XPATH_SUMMARY = compileExpression(".//*[contains(@class, 'summary')]");
-        XPATH_UID = compileExpression(".//*[contains(@class, 'uid')]");
-        XPATH_DTSTAMP = compileExpression(".//*[contains(@class, 'dtstamp')]");
-        XPATH_CATEGORY = compileExpression(".//*[contains(@class, 'category')]");
-        XPATH_LOCATION = compileExpression(".//*[contains(@class, 'location')]");
-        XPATH_URL = compileExpression(".//*[contains(@class, 'url')]");
-        XPATH_DESCRIPTION = compileExpression(".//*[contains(@class, 'description')]");
-        XPATH_LAST_MODIFIED = compileExpression(".//*[contains(@class, 'last-modified')]");
-        XPATH_STATUS = compileExpression(".//*[contains(@class, 'status')]");
-        XPATH_CLASS = compileExpression(".//*[contains(@class, 'class')]");
-        XPATH_ATTENDEE = compileExpression(".//*[contains(@class, 'attendee')]");
-        XPATH_CONTACT = compileExpression(".//*[contains(@class, 'contact')]");
-        XPATH_ORGANIZER = compileExpression(".//*[contains(@class, 'organizer')]");
-        XPATH_SEQUENCE = compileExpression(".//*[contains(@class, 'sequence')]");
-        XPATH_ATTACH = compileExpression(".//*[contains(@class, 'attach')]");
-    }
-
-    private static XPathExpression compileExpression(String expr) {
-        try {
-            return XPATH.compile(expr);
-        } catch (XPathException e) {
-            throw new CalendarException(e);
-        }
     }
 
     /**
@@ -224,10 +190,14 @@ public class HCalendarParser implements CalendarParser {
 
     private void parse(InputSource in, ContentHandler handler) throws IOException, ParserException {
         try {
-            var d = BUILDER_FACTORY.newDocumentBuilder().parse(in);
-            buildCalendar(d, handler);
+            newParser().parse(in, new HCalendarHandler(handler));
         } catch (ParserConfigurationException e) {
             throw new CalendarException(e);
+        } catch (HandlerException e) {
+            if (e.getException() instanceof ParserException) {
+                throw (ParserException) e.getException();
+            }
+            throw (IOException) e.getException();
         } catch (SAXException e) {
             if (e instanceof SAXParseException) {
                 SAXParseException pe = (SAXParseException) e;
@@ -237,139 +207,50 @@ public class HCalendarParser implements CalendarParser {
         }
     }
 
-    private static NodeList findNodes(XPathExpression expr, Object context) throws ParserException {
-        try {
-            return (NodeList) expr.evaluate(context, XPathConstants.NODESET);
-        } catch (XPathException e) {
-            throw new ParserException("Unable to find nodes", -1, e);
+    private static SAXParser newParser() throws ParserConfigurationException, SAXException {
+        final SAXParser parser;
+        // factories aren't guaranteed to be thread-safe..
+        synchronized (PARSER_FACTORY) {
+            parser = PARSER_FACTORY.newSAXParser();
         }
-    }
-
-    private static Node findNode(XPathExpression expr, Object context) throws ParserException {
-        try {
-            return (Node) expr.evaluate(context, XPathConstants.NODE);
-        } catch (XPathException e) {
-            throw new ParserException("Unable to find node", -1, e);
-        }
-    }
-
-    private static List<Element> findElements(XPathExpression expr, Object context) throws ParserException {
-        var nodes = findNodes(expr, context);
-        List<Element> elements = new ArrayList<Element>();
-        for (int i = 0; i < nodes.getLength(); i++) {
-            var n = nodes.item(i);
-            if (n instanceof Element)
-                elements.add((Element) n);
-        }
-        return elements;
-    }
-
-    private static Element findElement(XPathExpression expr, Object context) throws ParserException {
-        var n = findNode(expr, context);
-        if ((!(n instanceof Element)))
-            return null;
-        return (Element) n;
-    }
-
-    private static String getTextContent(Element element) throws ParserException {
         try {
-            String content = element.getFirstChild().getNodeValue();
-            if (content != null) {
-                return content.trim().replaceAll("\\s+", " ");
-            }
-            return null;
-        } catch (DOMException e) {
-            throw new ParserException("Unable to get text content for element " + element.getNodeName(), -1, e);
+            parser.setProperty(XMLConstants.ACCESS_EXTERNAL_DTD, "");
+            parser.setProperty(XMLConstants.ACCESS_EXTERNAL_SCHEMA, "");
+        } catch (SAXException e) {
+            LOG.warn("XML parser does not support ACCESS_EXTERNAL_* properties; XXE protection may be reduced.", e);
         }
+        return parser;
     }
 
-    private void buildCalendar(Document d, ContentHandler handler) throws ParserException, IOException {
-        // "The root class name for hCalendar is "vcalendar". An element with a
-        // class name of "vcalendar" is itself called an hCalendar.
-        //
-        // The root class name for events is "vevent". An element with a class
-        // name of "vevent" is itself called an hCalender event.
-        //
-        // For authoring convenience, both "vevent" and "vcalendar" are
-        // treated as root class names for parsing purposes. If a document
-        // contains elements with class name "vevent" but not "vcalendar", the
-        // entire document has an implied "vcalendar" context."
-
-        // XXX: We assume that the entire document has a single vcalendar
-        // context. It is possible that the document contains more than one
-        // vcalendar element. In this case, we should probably only process
-        // that element and log a warning about skipping the others.
-
-        if (LOG.isDebugEnabled())
-            LOG.debug("Building calendar");
-
-        handler.startCalendar();
-
-        // no PRODID, as the using application should set that itself
-
-        handler.startProperty(Property.VERSION);
-        handler.propertyValue(VERSION_2_0.getValue());
-        handler.endProperty(Property.VERSION);
-
-        var method = findElement(XPATH_METHOD, d);
-        if (method != null) {
-            buildProperty(method, Property.METHOD, handler);
-        }
-
-        List<Element> vevents = findElements(XPATH_VEVENTS, d);
-        for (var vevent : vevents) {
-            buildEvent(vevent, handler);
+    private static String getTextContent(PropertyElement element) {
+        if (element.text != null) {
+            return element.text.toString().trim().replaceAll("\\s+", " ");
         }
-
-        // XXX: support other "first class components": vjournal, vtodo,
-        // vfreebusy, vavailability, vvenue
-
-        handler.endCalendar();
+        return null;
     }
 
-    private void buildEvent(Element element, ContentHandler handler) throws ParserException {
+    private void buildEvent(EventElement element, ContentHandler handler) throws ParserException {
         if (LOG.isDebugEnabled())
             LOG.debug("Building event");
 
         handler.startComponent(Component.VEVENT);
 
-        buildProperty(findElement(XPATH_DTSTART, element), Property.DTSTART, handler);
-        buildProperty(findElement(XPATH_DTEND, element), Property.DTEND, handler);
-        buildProperty(findElement(XPATH_DURATION, element), Property.DURATION, handler);
-        buildProperty(findElement(XPATH_SUMMARY, element), Property.SUMMARY, handler);
-        buildProperty(findElement(XPATH_UID, element), Property.UID, handler);
-        buildProperty(findElement(XPATH_DTSTAMP, element), Property.DTSTAMP, handler);
-        List<Element> categories = findElements(XPATH_CATEGORY, element);
-        for (var category : categories) {
-            buildProperty(category, Property.CATEGORIES, handler);
-        }
-        buildProperty(findElement(XPATH_LOCATION, element), Property.LOCATION, handler);
-        buildProperty(findElement(XPATH_URL, element), Property.URL, handler);
-        buildProperty(findElement(XPATH_DESCRIPTION, element), Property.DESCRIPTION, handler);
-        buildProperty(findElement(XPATH_LAST_MODIFIED, element), Property.LAST_MODIFIED, handler);
-        buildProperty(findElement(XPATH_STATUS, element), Property.STATUS, handler);
-        buildProperty(findElement(XPATH_CLASS, element), Property.CLASS, handler);
-        List<Element> attendees = findElements(XPATH_ATTENDEE, element);
-        for (var attendee : attendees) {
-            buildProperty(attendee, Property.ATTENDEE, handler);
+        for (int i = 0; i < EVENT_PROPERTY_NAMES.length; i++) {
+            for (var property : element.properties.get(i)) {
+                buildProperty(property, EVENT_PROPERTY_NAMES[i], handler);
+            }
         }
-        buildProperty(findElement(XPATH_CONTACT, element), Property.CONTACT, handler);
-        buildProperty(findElement(XPATH_ORGANIZER, element), Property.ORGANIZER, handler);
-        buildProperty(findElement(XPATH_SEQUENCE, element), Property.SEQUENCE, handler);
-        buildProperty(findElement(XPATH_ATTACH, element), Property.ATTACH, handler);
 
         handler.endComponent(Component.VEVENT);
     }
 
-    private void buildProperty(Element element, String propName, ContentHandler handler) throws ParserException {
-        if (element == null)
-            return;
-
+    private void buildProperty(PropertyElement element, String propName, ContentHandler handler)
+            throws ParserException {
         if (LOG.isDebugEnabled())
             LOG.debug("Building property " + propName);
 
         var className = className(propName);
-        var elementName = element.getLocalName().toLowerCase();
+        var elementName = element.name.toLowerCase();
 
         String value;
         if (elementName.equals("abbr")) {
@@ -377,14 +258,14 @@ public class HCalendarParser implements CalendarParser {
             // attribute of the <abbr> element is the value of the property,
             // instead of the contents of the element, which instead provide a
             // human presentable version of the value."
-            value = element.getAttribute("title");
+            value = element.title;
             if (StringUtils.isBlank(value))
                 throw new ParserException("Abbr element '" + className + "' requires a non-empty title", -1);
             if (LOG.isDebugEnabled())
                 LOG.debug("Setting value '" + value + "' from title attribute");
         } else if (isHeaderElement(elementName)) {
             // try title first. if that's not set, fall back to text content.
-            value = element.getAttribute("title");
+            value = element.title;
             if (!StringUtils.isBlank(value)) {
                 if (LOG.isDebugEnabled())
                     LOG.debug("Setting value '" + value + "' from title attribute");
@@ -394,20 +275,20 @@ public class HCalendarParser implements CalendarParser {
                     LOG.debug("Setting value '" + value + "' from text content");
             }
         } else if (elementName.equals("a") && isUrlProperty(propName)) {
-            value = element.getAttribute("href");
+            value = element.href;
             if (StringUtils.isBlank(value))
                 throw new ParserException("A element '" + className + "' requires a non-empty href", -1);
             if (LOG.isDebugEnabled())
                 LOG.debug("Setting value '" + value + "' from href attribute");
         } else if (elementName.equals("img")) {
             if (isUrlProperty(propName)) {
-                value = element.getAttribute("src");
+                value = element.src;
                 if (StringUtils.isBlank(value))
                     throw new ParserException("Img element '" + className + "' requires a non-empty src", -1);
                 if (LOG.isDebugEnabled())
                     LOG.debug("Setting value '" + value + "' from src attribute");
             } else {
-                value = element.getAttribute("alt");
+                value = element.alt;
                 if (StringUtils.isBlank(value))
                     throw new ParserException("Img element '" + className + "' requires a non-empty alt", -1);
                 if (LOG.isDebugEnabled())
@@ -444,7 +325,7 @@ public class HCalendarParser implements CalendarParser {
         }
 
         if (isTextProperty(propName)) {
-            var lang = element.getAttributeNS(XMLConstants.XML_NS_URI, "lang");
+            var lang = element.lang;
             if (!StringUtils.isBlank(lang))
                 handler.parameter(Parameter.LANGUAGE, lang);
         }
@@ -502,7 +383,7 @@ public class HCalendarParser implements CalendarParser {
             } catch (ParseException e) {
                 LOG.warn("Caught exception", e);
             }
-            return new Date(HCAL_DATE_FORMAT.parse(original));
+            return new Date(new SimpleDateFormat(HCAL_DATE_PATTERN).parse(original));
         }
 
         try {
@@ -533,7 +414,7 @@ public class HCalendarParser implements CalendarParser {
             normalized = original;
         }
 
-        var dt = new DateTime(HCAL_DATE_TIME_FORMAT.parse(normalized));
+        var dt = new DateTime(new SimpleDateFormat(HCAL_DATE_TIME_PATTERN).parse(normalized));
 
         // hCalendar does not specify a representation for timezone ids
         // or any other sort of timezone information. the best it does is
@@ -545,4 +426,226 @@ public class HCalendarParser implements CalendarParser {
 
         return dt;
     }
+
+    /**
+     * An element representing a property, of which the attributes and the text of the first child node (if any)
+     * are retained.
+     */
+    private static final class PropertyElement {
+
+        private final String name;
+
+        private final String title;
+
+        private final String href;
+
+        private final String src;
+
+        private final String alt;
+
+        private final String lang;
+
+        private final int depth;
+
+        private StringBuilder text;
+
+        private PropertyElement(String name, Attributes attributes, int depth) {
+            this.name = name;
+            this.title = attributes.getValue("title");
+            this.href = attributes.getValue("href");
+            this.src = attributes.getValue("src");
+            this.alt = attributes.getValue("alt");
+            this.lang = attributes.getValue(XMLConstants.XML_NS_URI, "lang");
+            this.depth = depth;
+        }
+    }
+
+    /**
+     * An element representing an event, and the property elements found within it.
+     */
+    private static final class EventElement {
+
+        private final int depth;
+
+        /**
+         * Property elements for each of {@link #EVENT_CLASS_NAMES}, in document order.
+         */
+        private final List<List<PropertyElement>> properties = new ArrayList<>(EVENT_CLASS_NAMES.length);
+
+        private EventElement(int depth) {
+            this.depth = depth;
+            for (int i = 0; i < EVENT_CLASS_NAMES.length; i++) {
+                properties.add(new ArrayList<>(1));
+            }
+        }
+
+        /**
+         * @param i an index of {@link #EVENT_CLASS_NAMES}
+         * @return true if the property may be added
+         */
+        private boolean accepts(int i) {
+            // only the first element is used, except for properties that may occur more than once..
+            return properties.get(i).isEmpty() || EVENT_PROPERTY_NAMES[i].equals(Property.CATEGORIES)
+                    || EVENT_PROPERTY_NAMES[i].equals(Property.ATTENDEE);
+        }
+    }
+
+    /**
+     * Wraps exceptions thrown when notifying the content handler.
+     */
+    private static final class HandlerException extends SAXException {
+
+        private static final long serialVersionUID = -4253137208245498415L;
+
+        private HandlerException(Exception e) {
+            super(e);
+        }
+    }
+
+    /**
+     * Recognises hCalendar elements in a single pass of the document. Consistent with the hCalendar specification
+     * class names are matched as substrings of the class attribute, and event properties are found in all descendants
+     * of an event element (including nested events).
+     */
+    private final class HCalendarHandler extends DefaultHandler {
+
+        private final ContentHandler handler;
+
+        /**
+         * Event elements currently open, innermost first.
+         */
+        private final Deque<EventElement> events = new ArrayDeque<>();
+
+        /**
+         * Event elements not yet reported, in document order.
+         */
+        private final List<EventElement> pendingEvents = new ArrayList<>();
+
+        private PropertyElement method;
+
+        private boolean methodFound;
+
+        /**
+         * The property element for which text is currently accumulated.
+         */
+        private PropertyElement textElement;
+
+        private int depth;
+
+        private HCalendarHandler(ContentHandler handler) {
+            this.handler = handler;
+        }
+
+        @Override
+        public void startDocument() {
+            // "The root class name for hCalendar is "vcalendar". An element with a
+            // class name of "vcalendar" is itself called an hCalendar.
+            //
+            // The root class name for events is "vevent". An element with a class
+            // name of "vevent" is itself called an hCalender event.
+            //
+            // For authoring convenience, both "vevent" and "vcalendar" are
+            // treated as root class names for parsing purposes. If a document
+            // contains elements with class name "vevent" but not "vcalendar", the
+            // entire document has an implied "vcalendar" context."
+
+            // XXX: We assume that the entire document has a single vcalendar
+            // context. It is possible that the document contains more than one
+            // vcalendar element. In this case, we should probably only process
+            // that element and log a warning about skipping the others.
+
+            if (LOG.isDebugEnabled())
+                LOG.debug("Building calendar");
+
+            handler.startCalendar();
+
+            // no PRODID, as the using application should set that itself
+
+            handler.startProperty(Property.VERSION);
+            handler.propertyValue(VERSION_2_0.getValue());
+            handler.endProperty(Property.VERSION);
+        }
+
+        @Override
+        public void startElement(String uri, String localName, String qName, Attributes attributes) {
+            depth++;
+            // only text preceding any child element is retained..
+            textElement = null;
+
+            var classes = attributes.getValue("class");
+            if (classes == null) {
+                return;
+            }
+            PropertyElement element = null;
+            if (!methodFound && classes.contains(CLASS_METHOD)) {
+                element = new PropertyElement(localName, attributes, depth);
+                method = element;
+                methodFound = true;
+            }
+            for (var event : events) {
+                for (int i = 0; i < EVENT_CLASS_NAMES.length; i++) {
+                    if (classes.contains(EVENT_CLASS_NAMES[i]) && event.accepts(i)) {
+                        if (element == null) {
+                            element = new PropertyElement(localName, attributes, depth);
+                        }
+                        event.properties.get(i).add(element);
+                    }
+                }
+            }
+            textElement = element;
+
+            if (classes.contains(CLASS_VEVENT)) {
+                var event = new EventElement(depth);
+                events.push(event);
+                pendingEvents.add(event);
+            }
+        }
+
+        @Override
+        public void characters(char[] ch, int start, int length) {
+            if (textElement != null) {
+                if (textElement.text == null) {
+                    textElement.text = new StringBuilder();
+                }
+                textElement.text.append(ch, start, length);
+            }
+        }
+
+        @Override
+        public void endElement(String uri, String localName, String qName) throws SAXException {
+            textElement = null;
+            try {
+                if (method != null && method.depth == depth) {
+                    buildProperty(method, Property.METHOD, handler);
+                    method = null;
+                }
+                if (!events.isEmpty() && events.peek().depth == depth) {
+                    events.pop();
+                }
+                // nested events are reported in document order once the outermost event is complete, and events
+                // within the method element are reported after the method..
+                if (events.isEmpty() && method == null && !pendingEvents.isEmpty()) {
+                    for (var event : pendingEvents) {
+                        buildEvent(event, handler);
+                    }
+                    pendingEvents.clear();
+                }
+            } catch (ParserException e) {
+                throw new HandlerException(e);
+            }
+            depth--;
+        }
+
+        @Override
+        public void endDocument() throws SAXException {
+            // XXX: support other "first class components": vjournal, vtodo,
+            // vfreebusy, vavailability, vvenue
+
+            try {
+                handler.endCalendar();
+            } catch (IOException e) {
+                throw new HandlerException(e);
+            }
+        }
+    }
 }
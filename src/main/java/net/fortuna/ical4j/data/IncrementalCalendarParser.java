@@ -0,0 +1,397 @@
+package net.fortuna.ical4j.data;
+
+import net.fortuna.ical4j.util.CompatibilityHints;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * A non-blocking parser for UTF-8 encoded iCalendar data that is supplied incrementally, for example as the chunks
+ * of a request body received by an asynchronous server. Data is supplied via {@link #feed(ByteBuffer)}, and the end
+ * of the data is indicated via {@link #endOfInput()}. Neither method blocks waiting for data.
+ * <p/>
+ * Data is unfolded as it is supplied, and content is reported to the {@link ContentHandler} as soon as the content
+ * lines are complete. As the parser may look ahead to the first token of the following content line, a content line
+ * is reported once the following two content lines are complete (or the end of input is reached). Only incomplete content lines
+ * are retained between chunks, such that memory usage is bounded by the length of the longest content line (in
+ * addition to the size of the chunks supplied).
+ * <p/>
+ * A line that doesn't contain a colon (outside of a quoted string) isn't a complete content line, as the parser
+ * continues such a line (e.g. an unquoted parameter value) onto the following line. Such lines are therefore
+ * retained until a line containing a colon is supplied.
+ * <pre>
+ * IncrementalCalendarParser parser = new IncrementalCalendarParser(
+ *         new DefaultContentHandler(calendars::add, TimeZoneRegistryFactory.getInstance().createRegistry()));
+ * // for each chunk received..
+ * parser.feed(chunk);
+ * // once all chunks are received..
+ * parser.endOfInput();
+ * </pre>
+ * Note that this class is not thread-safe, although successive calls may be made from different threads.
+ */
+public class IncrementalCalendarParser {
+
+    /**
+     * The number of complete content lines not yet supplied to the parser that are required to parse the next
+     * content line without blocking. This accounts for the current content line and the content line read ahead
+     * after the start of a component, although the current content line may already have been read ahead.
+     */
+    private static final int LOOKAHEAD_LINES = 2;
+
+    private final Input input;
+
+    private final CalendarParserImpl.Session session;
+
+    private boolean ended;
+
+    private boolean parsed;
+
+    /**
+     * @param handler the content handler to notify during parsing
+     */
+    public IncrementalCalendarParser(ContentHandler handler) {
+        this(new CalendarParserImpl(), handler);
+    }
+
+    /**
+     * @param parser the parser used to parse content lines
+     * @param handler the content handler to notify during parsing
+     */
+    public IncrementalCalendarParser(CalendarParserImpl parser, ContentHandler handler) {
+        this(parser, handler, CompatibilityHints.isHintEnabled(CompatibilityHints.KEY_RELAXED_UNFOLDING));
+    }
+
+    /**
+     * @param parser the parser used to parse content lines
+     * @param handler the content handler to notify during parsing
+     * @param relaxedUnfolding specifies whether unfolding is relaxed (see {@link UnfoldingReader})
+     */
+    public IncrementalCalendarParser(CalendarParserImpl parser, ContentHandler handler, boolean relaxedUnfolding) {
+        this.input = new Input(relaxedUnfolding);
+        this.session = parser.newSession(input, handler, true);
+    }
+
+    /**
+     * Supplies the next chunk of data, and parses any content lines completed by the chunk. The remaining content
+     * of the specified buffer is consumed.
+     * @param data the next chunk of UTF-8 encoded calendar data
+     * @throws IOException where an error occurs reading data
+     * @throws ParserException where an error occurs parsing data
+     * @throws IllegalStateException where the end of input has already been indicated
+     */
+    public void feed(ByteBuffer data) throws IOException, ParserException {
+        if (ended) {
+            throw new IllegalStateException("End of input already reached");
+        }
+        input.append(data);
+        parse();
+    }
+
+    /**
+     * Indicates that all data has been supplied, and parses any remaining content.
+     * @throws IOException where an error occurs reading data
+     * @throws ParserException where an error occurs parsing data
+     */
+    public void endOfInput() throws IOException, ParserException {
+        if (!ended) {
+            ended = true;
+            input.end();
+            parse();
+        }
+    }
+
+    private void parse() throws IOException, ParserException {
+        while (!parsed && (ended || input.available >= LOOKAHEAD_LINES)) {
+            try {
+                parsed = !session.next();
+            } catch (IOException | ParserException | RuntimeException e) {
+                // the session doesn't continue after an error..
+                parsed = true;
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Supplies the unfolded octets of complete content lines to the parser, one content line at a time.
+     */
+    static final class Input extends Reader {
+
+        private static final int INITIAL_BUFFER_SIZE = 1024;
+
+        private final boolean relaxed;
+
+        /**
+         * Unfolded octets. Octets in the range [position, lineStart) form complete content lines, and octets in the
+         * range [lineStart, limit) form the current (incomplete) content line.
+         */
+        private byte[] buffer = new byte[INITIAL_BUFFER_SIZE];
+
+        private int position;
+
+        private int lineStart;
+
+        private int limit;
+
+        /**
+         * A queue of the lengths (including line breaks) of the lines not yet supplied to the parser, and whether
+         * each line completes a content line.
+         */
+        private int[] lineLengths = new int[16];
+
+        private boolean[] lineComplete = new boolean[16];
+
+        private int lineHead;
+
+        private int lineCount;
+
+        /**
+         * A queue of the positions in the buffer at which lines were unfolded, and which are not yet supplied to the
+         * parser.
+         */
+        private int[] folds = new int[16];
+
+        private int foldHead;
+
+        private int foldCount;
+
+        /**
+         * The number of complete content lines that have not been supplied to the parser.
+         */
+        private int available;
+
+        /**
+         * The octets remaining of the line currently being supplied to the parser.
+         */
+        private int remaining;
+
+        /**
+         * The state of the current line, used to determine whether the line contains a colon outside of a quoted
+         * string (see {@link ContentLineTokenizer}).
+         */
+        private boolean colon;
+
+        private boolean quoted;
+
+        private boolean escaped;
+
+        private boolean pendingCarriageReturn;
+
+        private boolean pendingLineFeed;
+
+        private boolean lineFeedAfterCarriageReturn;
+
+        private boolean end;
+
+        private int linesUnfolded;
+
+        Input(boolean relaxed) {
+            this.relaxed = relaxed;
+        }
+
+        /**
+         * @return number of lines unfolded in the content supplied to the parser
+         */
+        int getLinesUnfolded() {
+            return linesUnfolded;
+        }
+
+        private void append(ByteBuffer data) {
+            if (data.hasArray()) {
+                append(data.array(), data.arrayOffset() + data.position(), data.remaining());
+                data.position(data.limit());
+            } else {
+                final var octets = new byte[Math.min(data.remaining(), 8192)];
+                while (data.hasRemaining()) {
+                    final int length = Math.min(octets.length, data.remaining());
+                    data.get(octets, 0, length);
+                    append(octets, 0, length);
+                }
+            }
+        }
+
+        private void append(byte[] data, int offset, int length) {
+            ensureCapacity(length + 2);
+            for (int i = offset; i < offset + length; i++) {
+                final byte b = data[i];
+                if (pendingLineFeed) {
+                    pendingLineFeed = false;
+                    if ((b == ' ' || b == '\t') && (lineFeedAfterCarriageReturn || relaxed)) {
+                        // consistent with UnfoldingReader the fold, including the whitespace, is removed..
+                        fold();
+                        continue;
+                    }
+                    endLine(lineFeedAfterCarriageReturn, true);
+                } else if (pendingCarriageReturn) {
+                    pendingCarriageReturn = false;
+                    if (b == '\n') {
+                        pendingLineFeed = true;
+                        lineFeedAfterCarriageReturn = true;
+                        continue;
+                    }
+                    // a carriage return without a line feed is a line break..
+                    endLine(true, false);
+                }
+                if (b == '\r') {
+                    pendingCarriageReturn = true;
+                } else if (b == '\n') {
+                    pendingLineFeed = true;
+                    lineFeedAfterCarriageReturn = false;
+                } else {
+                    buffer[limit++] = b;
+                    if (!colon) {
+                        scan(b);
+                    }
+                }
+            }
+        }
+
+        private void end() {
+            ensureCapacity(2);
+            if (pendingLineFeed) {
+                endLine(lineFeedAfterCarriageReturn, true);
+            } else if (pendingCarriageReturn) {
+                endLine(true, false);
+            }
+            pendingLineFeed = false;
+            pendingCarriageReturn = false;
+            if (limit > lineStart) {
+                endLine(false, false);
+            }
+            end = true;
+        }
+
+        /**
+         * Tracks quoted strings consistent with {@link ContentLineTokenizer}, where a quoted string is closed by a
+         * line break unless the line break is escaped.
+         */
+        private void scan(byte b) {
+            if (escaped) {
+                escaped = false;
+            } else if (quoted) {
+                if (b == '"') {
+                    quoted = false;
+                } else if (b == '\\') {
+                    escaped = true;
+                }
+            } else if (b == '"') {
+                quoted = true;
+            } else if (b == ':') {
+                colon = true;
+            }
+        }
+
+        private void fold() {
+            if (foldCount == folds.length) {
+                final var queue = new int[folds.length * 2];
+                for (int i = 0; i < foldCount; i++) {
+                    queue[i] = folds[(foldHead + i) % folds.length];
+                }
+                folds = queue;
+                foldHead = 0;
+            }
+            folds[(foldHead + foldCount++) % folds.length] = limit;
+        }
+
+        private void endLine(boolean carriageReturn, boolean lineFeed) {
+            if (carriageReturn) {
+                buffer[limit++] = '\r';
+            }
+            if (lineFeed) {
+                buffer[limit++] = '\n';
+            }
+            if (lineCount == lineLengths.length) {
+                final var lengths = new int[lineLengths.length * 2];
+                final var complete = new boolean[lengths.length];
+                for (int i = 0; i < lineCount; i++) {
+                    lengths[i] = lineLengths[(lineHead + i) % lineLengths.length];
+                    complete[i] = lineComplete[(lineHead + i) % lineLengths.length];
+                }
+                lineLengths = lengths;
+                lineComplete = complete;
+                lineHead = 0;
+            }
+            final int tail = (lineHead + lineCount++) % lineLengths.length;
+            lineLengths[tail] = limit - lineStart;
+            lineComplete[tail] = colon;
+            if (colon) {
+                available++;
+            }
+            lineStart = limit;
+            colon = false;
+            // an escaped line break doesn't close a quoted string..
+            quoted &= escaped;
+            escaped = false;
+        }
+
+        /**
+         * Ensures capacity for the specified number of additional octets, in addition to a line break.
+         */
+        private void ensureCapacity(int length) {
+            if (limit + length + 2 <= buffer.length) {
+                return;
+            }
+            if (position > 0) {
+                System.arraycopy(buffer, position, buffer, 0, limit - position);
+                for (int i = 0; i < foldCount; i++) {
+                    folds[(foldHead + i) % folds.length] -= position;
+                }
+                limit -= position;
+                lineStart -= position;
+                position = 0;
+            }
+            if (limit + length + 2 > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, limit + length + 2));
+            }
+        }
+
+        @Override
+        public int read(char[] cbuf, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (remaining == 0) {
+                if (lineCount == 0) {
+                    if (end) {
+                        countFolds(Integer.MAX_VALUE);
+                    }
+                    return -1;
+                }
+                remaining = lineLengths[lineHead];
+                if (lineComplete[lineHead]) {
+                    available--;
+                }
+                lineHead = (lineHead + 1) % lineLengths.length;
+                lineCount--;
+            }
+            // consistent with UnfoldingReader, a fold is counted once the content following it is supplied, and
+            // content is supplied up to the next fold..
+            countFolds(position + 1);
+            int count = Math.min(len, remaining);
+            if (foldCount > 0) {
+                count = Math.min(count, folds[foldHead] - position);
+            }
+            for (int i = 0; i < count; i++) {
+                cbuf[off + i] = (char) (buffer[position + i] & 0xFF);
+            }
+            position += count;
+            remaining -= count;
+            return count;
+        }
+
+        private void countFolds(int end) {
+            while (foldCount > 0 && folds[foldHead] < end) {
+                linesUnfolded++;
+                foldHead = (foldHead + 1) % folds.length;
+                foldCount--;
+            }
+        }
+
+        @Override
+        public void close() {
+            // no resources to release..
+        }
+    }
+}
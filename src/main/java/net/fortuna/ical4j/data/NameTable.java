@@ -0,0 +1,102 @@
+package net.fortuna.ical4j.data;
+
+import net.fortuna.ical4j.model.Calendar;
+import net.fortuna.ical4j.model.Component;
+import net.fortuna.ical4j.model.Parameter;
+import net.fortuna.ical4j.model.Property;
+import net.fortuna.ical4j.model.component.Observance;
+
+import java.lang.reflect.Modifier;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * A table of the names of standard components, properties and parameters, used to obtain the canonical string
+ * instance of a name directly from a character buffer. Tokens matching a known name therefore don't allocate a new
+ * string, and share a string whose hash code is already computed for subsequent factory lookups.
+ * <p/>
+ * Names are matched exactly (i.e. case-sensitive), as non-canonical forms are rare in practice.
+ */
+final class NameTable {
+
+    /**
+     * The maximum length of a name in the table, such that longer tokens are rejected without hashing.
+     */
+    private static final int MAX_LENGTH;
+
+    private static final String[] NAMES;
+
+    private static final int MASK;
+
+    static {
+        final Set<String> names = new LinkedHashSet<>();
+        for (final Class<?> type : new Class<?>[] {Calendar.class, Component.class, Observance.class,
+                Property.class, Parameter.class}) {
+            for (final var field : type.getFields()) {
+                if (field.getType() == String.class && Modifier.isStatic(field.getModifiers())
+                        && Modifier.isFinal(field.getModifiers())) {
+                    try {
+                        names.add((String) field.get(null));
+                    } catch (IllegalAccessException e) {
+                        throw new IllegalStateException(e);
+                    }
+                }
+            }
+        }
+
+        // a load factor of no more than 0.25 keeps probe sequences short..
+        int capacity = Integer.highestOneBit(names.size() * 4 - 1) << 1;
+        NAMES = new String[capacity];
+        MASK = capacity - 1;
+        int maxLength = 0;
+        for (final String name : names) {
+            int index = index(name.hashCode());
+            while (NAMES[index] != null) {
+                index = (index + 1) & MASK;
+            }
+            NAMES[index] = name;
+            maxLength = Math.max(maxLength, name.length());
+        }
+        MAX_LENGTH = maxLength;
+    }
+
+    private NameTable() {
+    }
+
+    /**
+     * @param chars a character buffer
+     * @param offset the offset of a name in the buffer
+     * @param length the length of the name
+     * @return the canonical instance of the specified name, or null if it is not a known name
+     */
+    static String lookup(final char[] chars, final int offset, final int length) {
+        if (length == 0 || length > MAX_LENGTH) {
+            return null;
+        }
+        // consistent with String.hashCode()..
+        int hash = 0;
+        for (int i = offset; i < offset + length; i++) {
+            hash = 31 * hash + chars[i];
+        }
+        for (int index = index(hash); NAMES[index] != null; index = (index + 1) & MASK) {
+            final String name = NAMES[index];
+            if (name.length() == length && regionMatches(name, chars, offset)) {
+                return name;
+            }
+        }
+        return null;
+    }
+
+    private static boolean regionMatches(final String name, final char[] chars, final int offset) {
+        for (int i = 0; i < name.length(); i++) {
+            if (name.charAt(i) != chars[offset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int index(final int hash) {
+        return (hash ^ (hash >>> 16)) & MASK;
+    }
+}
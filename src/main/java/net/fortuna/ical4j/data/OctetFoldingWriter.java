@@ -0,0 +1,268 @@
+package net.fortuna.ical4j.data;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A writer that encodes characters as UTF-8 and performs iCalendar folding on the encoded octets, as RFC 5545
+ * specifies line lengths in octets. Lines are folded before a character whose encoding would exceed the fold length,
+ * such that a multi-byte sequence (or surrogate pair) is never split by a fold. As with {@link FoldingWriter}, a fold
+ * is never inserted before a line break.
+ * <p/>
+ * Octets are encoded into a single buffer that is reused for the lifetime of the writer, and written to the underlying
+ * stream or channel as the buffer fills. Consistent with {@link java.io.OutputStreamWriter}, malformed surrogates are
+ * encoded as '?'.
+ * <p/>
+ * Note that this class is not thread-safe.
+ */
+final class OctetFoldingWriter extends Writer {
+
+    private static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    /**
+     * The maximum number of octets written for a single character, being a fold and a four octet sequence (for a
+     * surrogate pair), in addition to a fold and a replacement for a preceding malformed surrogate.
+     */
+    private static final int MAX_CHAR_OCTETS = 3 + 4 + 3 + 1;
+
+    private static final byte REPLACEMENT = '?';
+
+    private final OutputStream out;
+
+    private final WritableByteChannel channel;
+
+    private final int foldLength;
+
+    private final ByteBuffer buffer = ByteBuffer.allocate(DEFAULT_BUFFER_SIZE);
+
+    private final byte[] octets = buffer.array();
+
+    private char[] chars;
+
+    private int count;
+
+    private int lineLength;
+
+    /**
+     * A high surrogate written without the following low surrogate.
+     */
+    private char highSurrogate;
+
+    private boolean closed;
+
+    /**
+     * @param out an output stream to write encoded octets to
+     * @param foldLength the maximum line length in octets
+     */
+    OctetFoldingWriter(final OutputStream out, final int foldLength) {
+        this.out = out;
+        this.channel = null;
+        this.foldLength = Math.min(foldLength, FoldingWriter.MAX_FOLD_LENGTH);
+    }
+
+    /**
+     * @param channel a blocking channel to write encoded octets to
+     * @param foldLength the maximum line length in octets
+     */
+    OctetFoldingWriter(final WritableByteChannel channel, final int foldLength) {
+        this.out = null;
+        this.channel = channel;
+        this.foldLength = Math.min(foldLength, FoldingWriter.MAX_FOLD_LENGTH);
+    }
+
+    @Override
+    public void write(final int c) throws IOException {
+        final char[] buffer = getChars();
+        buffer[0] = (char) c;
+        write(buffer, 0, 1);
+    }
+
+    @Override
+    public void write(final String str, final int off, final int len) throws IOException {
+        final char[] buffer = getChars();
+        final int end = off + len;
+        int start = off;
+        while (start < end) {
+            final int length = Math.min(buffer.length, end - start);
+            str.getChars(start, start + length, buffer, 0);
+            write(buffer, 0, length);
+            start += length;
+        }
+    }
+
+    @Override
+    public void write(final char[] cbuf, final int off, final int len) throws IOException {
+        ensureOpen();
+        final int end = off + len;
+        for (int i = off; i < end; i++) {
+            if (count + MAX_CHAR_OCTETS > octets.length) {
+                drain();
+            }
+            final char c = cbuf[i];
+            if (c < 0x80) {
+                if (highSurrogate != 0) {
+                    encodeReplacement();
+                }
+                if (c == '\r' || c == '\n') {
+                    lineLength = 0;
+                } else {
+                    fold(1);
+                }
+                octets[count++] = (byte) c;
+            } else if (Character.isHighSurrogate(c)) {
+                if (highSurrogate != 0) {
+                    encodeReplacement();
+                }
+                highSurrogate = c;
+            } else if (Character.isLowSurrogate(c)) {
+                if (highSurrogate != 0) {
+                    final int codePoint = Character.toCodePoint(highSurrogate, c);
+                    highSurrogate = 0;
+                    fold(4);
+                    octets[count++] = (byte) (0xF0 | codePoint >> 18);
+                    octets[count++] = (byte) (0x80 | codePoint >> 12 & 0x3F);
+                    octets[count++] = (byte) (0x80 | codePoint >> 6 & 0x3F);
+                    octets[count++] = (byte) (0x80 | codePoint & 0x3F);
+                } else {
+                    encodeReplacement();
+                }
+            } else {
+                if (highSurrogate != 0) {
+                    encodeReplacement();
+                }
+                if (c < 0x800) {
+                    fold(2);
+                    octets[count++] = (byte) (0xC0 | c >> 6);
+                } else {
+                    fold(3);
+                    octets[count++] = (byte) (0xE0 | c >> 12);
+                    octets[count++] = (byte) (0x80 | c >> 6 & 0x3F);
+                }
+                octets[count++] = (byte) (0x80 | c & 0x3F);
+            }
+        }
+    }
+
+    /**
+     * Writes the UTF-8 encoding of the specified text as is, such as text that is already folded.
+     * @param str the text to write
+     * @throws IOException where an error occurs writing to the underlying stream or channel
+     */
+    void writeVerbatim(final String str) throws IOException {
+        final var encoded = str.getBytes(StandardCharsets.UTF_8);
+        writeVerbatim(encoded, 0, encoded.length);
+    }
+
+    /**
+     * Writes the specified octets as is, such as UTF-8 encoded text that is already folded.
+     * @param bytes the octets to write
+     * @param off the index of the first octet to write
+     * @param len the number of octets to write
+     * @throws IOException where an error occurs writing to the underlying stream or channel
+     */
+    void writeVerbatim(final byte[] bytes, final int off, final int len) throws IOException {
+        ensureOpen();
+        if (highSurrogate != 0) {
+            encodeReplacement();
+        }
+        drain();
+        if (channel != null) {
+            final var source = ByteBuffer.wrap(bytes, off, len);
+            while (source.hasRemaining()) {
+                channel.write(source);
+            }
+        } else {
+            out.write(bytes, off, len);
+        }
+        int lineBreak = off + len - 1;
+        while (lineBreak >= off && bytes[lineBreak] != '\n') {
+            lineBreak--;
+        }
+        lineLength = lineBreak < off ? lineLength + len : off + len - lineBreak - 1;
+    }
+
+    /**
+     * Folds the current line where the specified number of octets would exceed the fold length.
+     */
+    private void fold(final int length) {
+        if (lineLength + length > foldLength) {
+            octets[count++] = '\r';
+            octets[count++] = '\n';
+            octets[count++] = ' ';
+            lineLength = 1;
+        }
+        lineLength += length;
+    }
+
+    private void encodeReplacement() throws IOException {
+        highSurrogate = 0;
+        if (count + MAX_CHAR_OCTETS > octets.length) {
+            drain();
+        }
+        fold(1);
+        octets[count++] = REPLACEMENT;
+    }
+
+    private char[] getChars() {
+        if (chars == null) {
+            chars = new char[DEFAULT_BUFFER_SIZE / 4];
+        }
+        return chars;
+    }
+
+    private void drain() throws IOException {
+        if (count > 0) {
+            if (channel != null) {
+                buffer.clear().limit(count);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            } else {
+                out.write(octets, 0, count);
+            }
+            count = 0;
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Writer closed");
+        }
+    }
+
+    /**
+     * Writes any buffered octets to the underlying stream or channel. A high surrogate written without the following
+     * low surrogate remains buffered.
+     */
+    @Override
+    public void flush() throws IOException {
+        ensureOpen();
+        drain();
+        if (out != null) {
+            out.flush();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!closed) {
+            try {
+                if (highSurrogate != 0) {
+                    encodeReplacement();
+                }
+                drain();
+            } finally {
+                closed = true;
+                if (channel != null) {
+                    channel.close();
+                } else {
+                    out.close();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package net.fortuna.ical4j.data;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+
+/**
+ * A reader that maps each octet of the underlying data to a single character (in the range 0-255) without applying
+ * a character set. As the structural characters of iCalendar content are all US-ASCII, and the octets of a
+ * multi-byte UTF-8 sequence are all non-ASCII, UTF-8 encoded content may be unfolded and tokenised at the octet level
+ * such that only the text of tokens is decoded (see {@link ContentLineTokenizer}).
+ * <p/>
+ * Note that this class is not thread-safe.
+ */
+final class OctetReader extends Reader {
+
+    private static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    private final ReadableByteChannel channel;
+
+    private final ByteBuffer buffer;
+
+    private byte[] octets;
+
+    /**
+     * @param data the data to read. The position of the specified buffer is not modified
+     */
+    OctetReader(final ByteBuffer data) {
+        this.channel = null;
+        this.buffer = data.duplicate();
+    }
+
+    /**
+     * @param channel a blocking channel to read data from
+     */
+    OctetReader(final ReadableByteChannel channel) {
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocate(DEFAULT_BUFFER_SIZE).flip();
+    }
+
+    @Override
+    public int read(final char[] cbuf, final int off, final int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        if (!buffer.hasRemaining() && !fill()) {
+            return -1;
+        }
+        final int count = Math.min(len, buffer.remaining());
+        final byte[] source;
+        final int start;
+        if (buffer.hasArray()) {
+            source = buffer.array();
+            start = buffer.arrayOffset() + buffer.position();
+            buffer.position(buffer.position() + count);
+        } else {
+            if (octets == null || octets.length < count) {
+                octets = new byte[Math.max(count, DEFAULT_BUFFER_SIZE)];
+            }
+            buffer.get(octets, 0, count);
+            source = octets;
+            start = 0;
+        }
+        for (int i = 0; i < count; i++) {
+            cbuf[off + i] = (char) (source[start + i] & 0xFF);
+        }
+        return count;
+    }
+
+    private boolean fill() throws IOException {
+        if (channel == null) {
+            return false;
+        }
+        buffer.clear();
+        int read;
+        do {
+            read = channel.read(buffer);
+        } while (read == 0);
+        buffer.flip();
+        return read > 0;
+    }
+
+    /**
+     * Closes the underlying channel, if any.
+     */
+    @Override
+    public void close() throws IOException {
+        if (channel != null) {
+            channel.close();
+        }
+    }
+}
@@ -39,6 +39,7 @@ import java.io.IOException;
 import java.io.PushbackReader;
 import java.io.Reader;
 import java.util.Arrays;
+import java.util.Objects;
 
 /**
  * <pre>
@@ -49,8 +50,9 @@ import java.util.Arrays;
  * unfolding of non-conformant *.ics files. By specifying the system property "ical4j.unfolding.relaxed=true" iCalendar
  * files created with Mozilla Calendar/Sunbird may be correctly unfolded.
  * <p/>
- * To wrap this reader with a {@link java.io.BufferedReader} you must ensure you specify an identical buffer size
- * to that used in the {@link java.io.BufferedReader}.
+ * Input is read and unfolded in blocks, such that a fold is removed by moving the content that follows it within
+ * the buffer rather than by matching fold patterns one character at a time. Characters may be pushed back via the
+ * <code>unread</code> methods, in which case they are returned as is (i.e. without further unfolding).
  *
  * @author Ben Fortuna
  */
@@ -58,33 +60,48 @@ public class UnfoldingReader extends PushbackReader {
 
     private final Logger log = LoggerFactory.getLogger(UnfoldingReader.class);
 
+    private static final int DEFAULT_BUFFER_SIZE = 8192;
+
     /**
-     * The pattern used to identify a fold in an iCalendar data stream.
+     * The minimum buffer size, which must accommodate a partial fold pattern at the end of the input read so far.
      */
-    private static final char[] DEFAULT_FOLD_PATTERN_1 = {'\r', '\n', ' '};
+    private static final int MIN_BUFFER_SIZE = 8;
 
     /**
-     * The pattern used to identify a fold in Microsoft Outlook 2007.
+     * Indicates whether folds consisting of a line feed and whitespace (i.e. without a carriage return) are unfolded,
+     * as created by Mozilla Calendar/Sunbird, KOrganizer and Microsoft Outlook 2007.
      */
-    private static final char[] DEFAULT_FOLD_PATTERN_2 = {'\r', '\n', '\t'};
+    private final boolean relaxed;
+
+    private char[] buffer;
 
     /**
-     * The pattern used to identify a fold in Mozilla Calendar/Sunbird and KOrganizer.
+     * The position of the next character to read.
      */
-    private static final char[] RELAXED_FOLD_PATTERN_1 = {'\n', ' '};
+    private int position;
 
     /**
-     * The pattern used to identify a fold in Microsoft Outlook 2007.
+     * The end of the unfolded content in the buffer.
      */
-    private static final char[] RELAXED_FOLD_PATTERN_2 = {'\n', '\t'};
+    private int unfolded;
 
-    private final char[][] patterns;
+    /**
+     * The end of the content in the buffer, which may include a partial fold pattern following unfolded content.
+     */
+    private int limit;
 
-    private final char[][] buffers;
+    private boolean endOfInput;
 
-    private int linesUnfolded;
+    /**
+     * Buffer offsets of the characters immediately following each fold that has not yet been read, in order.
+     */
+    private int[] folds = new int[16];
+
+    private int foldsStart;
+
+    private int foldsEnd;
 
-    private int maxPatternLength = 0;
+    private int linesUnfolded;
 
     /**
      * Creates a new unfolding reader instance. Relaxed unfolding flag is read from system property.
@@ -92,7 +109,7 @@ public class UnfoldingReader extends PushbackReader {
      * @param in the reader to unfold from
      */
     public UnfoldingReader(final Reader in) {
-        this(in, DEFAULT_FOLD_PATTERN_1.length, CompatibilityHints
+        this(in, DEFAULT_BUFFER_SIZE, CompatibilityHints
                 .isHintEnabled(CompatibilityHints.KEY_RELAXED_UNFOLDING));
     }
 
@@ -109,7 +126,7 @@ public class UnfoldingReader extends PushbackReader {
      * @param relaxed indicates whether relaxed unfolding is enabled
      */
     public UnfoldingReader(final Reader in, boolean relaxed) {
-        this(in, DEFAULT_FOLD_PATTERN_1.length, relaxed);
+        this(in, DEFAULT_BUFFER_SIZE, relaxed);
     }
 
     /**
@@ -120,23 +137,13 @@ public class UnfoldingReader extends PushbackReader {
      * @param relaxed specifies whether unfolding is relaxed
      */
     public UnfoldingReader(final Reader in, int size, final boolean relaxed) {
-        super(in, size);
-        if (relaxed) {
-            patterns = new char[4][];
-            patterns[0] = DEFAULT_FOLD_PATTERN_1;
-            patterns[1] = DEFAULT_FOLD_PATTERN_2;
-            patterns[2] = RELAXED_FOLD_PATTERN_1;
-            patterns[3] = RELAXED_FOLD_PATTERN_2;
-        } else {
-            patterns = new char[2][];
-            patterns[0] = DEFAULT_FOLD_PATTERN_1;
-            patterns[1] = DEFAULT_FOLD_PATTERN_2;
-        }
-        buffers = new char[patterns.length][];
-        for (int i = 0; i < patterns.length; i++) {
-            buffers[i] = new char[patterns[i].length];
-            maxPatternLength = Math.max(maxPatternLength, patterns[i].length);
+        // pushback is supported by the unfolding buffer..
+        super(in, 1);
+        if (size <= 0) {
+            throw new IllegalArgumentException("size <= 0");
         }
+        this.relaxed = relaxed;
+        this.buffer = new char[Math.max(size, MIN_BUFFER_SIZE)];
     }
 
     /**
@@ -151,87 +158,245 @@ public class UnfoldingReader extends PushbackReader {
      */
     @Override
     public final int read() throws IOException {
-        final int c = super.read();
-        boolean doUnfold = false;
-        for (var pattern : patterns) {
-            if (c == pattern[0]) {
-                doUnfold = true;
-                break;
+        synchronized (lock) {
+            if (!fill()) {
+                return -1;
             }
+            countFolds(position + 1);
+            return buffer[position++];
         }
-        if (!doUnfold) {
-            return c;
-        } else {
-            unread(c);
+    }
+
+    /**
+     * Reads characters into a portion of an array, unfolding as it reads. To ensure {@link #getLinesUnfolded()}
+     * only accounts for data that has been returned, this method returns at a fold even if fewer than
+     * <code>len</code> characters are read.
+     * <p/>
+     * {@inheritDoc}
+     */
+    @Override
+    public int read(final char[] cbuf, final int off, final int len) throws IOException {
+        Objects.checkFromIndexSize(off, len, cbuf.length);
+        synchronized (lock) {
+            if (len == 0) {
+                ensureOpen();
+                return 0;
+            }
+            if (!fill()) {
+                return -1;
+            }
+            countFolds(position + 1);
+            int end = Math.min(position + len, unfolded);
+            if (foldsStart < foldsEnd) {
+                end = Math.min(end, folds[foldsStart]);
+            }
+            int count = end - position;
+            System.arraycopy(buffer, position, cbuf, off, count);
+            position = end;
+            return count;
         }
+    }
 
-        unfold();
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long skip(long n) throws IOException {
+        if (n < 0L) {
+            throw new IllegalArgumentException("skip value is negative");
+        }
+        synchronized (lock) {
+            long skipped = 0;
+            while (skipped < n && fill()) {
+                int count = (int) Math.min(n - skipped, unfolded - position);
+                countFolds(position + count);
+                position += count;
+                skipped += count;
+            }
+            return skipped;
+        }
+    }
+
+    /**
+     * Pushes back a portion of an array of characters, which are returned as is by subsequent reads.
+     * <p/>
+     * {@inheritDoc}
+     */
+    @Override
+    public void unread(final char[] cbuf, final int off, final int len) throws IOException {
+        Objects.checkFromIndexSize(off, len, cbuf.length);
+        synchronized (lock) {
+            ensureOpen();
+            if (len > position) {
+                shift(len - position);
+            }
+            position -= len;
+            System.arraycopy(cbuf, off, buffer, position, len);
+        }
+    }
 
-        return super.read();
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void unread(final int c) throws IOException {
+        unread(new char[] {(char) c}, 0, 1);
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public int read(final char[] cbuf, final int off, final int len) throws IOException {
-        final int read = super.read(cbuf, off, len);
-        boolean doUnfold = false;
-        for (var pattern : patterns) {
-            if (read > 0 && cbuf[0] == pattern[0]) {
-                doUnfold = true;
-                break;
+    public boolean ready() throws IOException {
+        synchronized (lock) {
+            ensureOpen();
+            return position < unfolded || in.ready();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() throws IOException {
+        synchronized (lock) {
+            super.close();
+            buffer = null;
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if (buffer == null) {
+            throw new IOException("Stream closed");
+        }
+    }
+
+    /**
+     * Ensures unfolded content is available to read.
+     *
+     * @return false if the end of input has been reached, otherwise true
+     */
+    private boolean fill() throws IOException {
+        ensureOpen();
+        while (position == unfolded) {
+            if (endOfInput) {
+                // account for any folds at the end of input..
+                countFolds(Integer.MAX_VALUE);
+                return false;
+            }
+            compact();
+            final int read = in.read(buffer, limit, buffer.length - limit);
+            if (read < 0) {
+                endOfInput = true;
             } else {
-                for (int j = 0; j < read; j++) {
-                    if (cbuf[j] == pattern[0]) {
-                        unread(cbuf, j, read - j);
-                        return j;
-                    }
-                }
+                limit += read;
             }
+            unfold();
         }
-        if (!doUnfold) {
-            return read;
-        } else {
-            unread(cbuf, off, read);
-        }
+        return true;
+    }
 
-        unfold();
+    /**
+     * Moves unread content to the start of the buffer.
+     */
+    private void compact() {
+        if (position > 0) {
+            System.arraycopy(buffer, position, buffer, 0, limit - position);
+            for (int i = foldsStart; i < foldsEnd; i++) {
+                folds[i] -= position;
+            }
+            unfolded -= position;
+            limit -= position;
+            position = 0;
+        }
+    }
 
-        return super.read(cbuf, off, maxPatternLength);
+    /**
+     * Moves unread content towards the end of the buffer to accommodate pushback, expanding the buffer if necessary.
+     */
+    private void shift(int count) {
+        if (limit + count > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, limit + count));
+        }
+        System.arraycopy(buffer, position, buffer, position + count, limit - position);
+        for (int i = foldsStart; i < foldsEnd; i++) {
+            folds[i] += count;
+        }
+        position += count;
+        unfolded += count;
+        limit += count;
     }
 
-    private void unfold() throws IOException {
-        // need to loop since one line fold might be directly followed by another
-        boolean didUnfold;
-        do {
-            didUnfold = false;
+    /**
+     * Removes folds from content that has been read into the buffer but not yet unfolded. A fold is a line break
+     * (CRLF, or LF where relaxed) followed by a single space or tab, and is located by scanning for the line feed.
+     * Content following each fold is moved in place to close the gap. A partial fold pattern at the end of the
+     * buffer is retained until further input is read.
+     */
+    private void unfold() {
+        final int start = unfolded;
+        int end = limit;
+        if (!endOfInput && limit > start) {
+            if (buffer[limit - 1] == '\r') {
+                end = limit - 1;
+            } else if (buffer[limit - 1] == '\n') {
+                end = limit - 2 >= start && buffer[limit - 2] == '\r' ? limit - 2 : limit - 1;
+            }
+        }
 
-            for (int i = 0; i < buffers.length; i++) {
-                int read = 0;
-                while (read < buffers[i].length) {
-                    final int partialRead = super.read(buffers[i], read, buffers[i].length - read);
-                    if (partialRead < 0) {
-                        break;
-                    }
-                    read += partialRead;
+        int write = start;
+        int runStart = start;
+        for (int i = start; i < end; i++) {
+            if (buffer[i] == '\n' && i + 1 < limit && (buffer[i + 1] == ' ' || buffer[i + 1] == '\t')) {
+                final int foldStart;
+                if (i > start && buffer[i - 1] == '\r') {
+                    foldStart = i - 1;
+                } else if (relaxed) {
+                    foldStart = i;
+                } else {
+                    continue;
                 }
-                if (read > 0) {
-                    if (!Arrays.equals(patterns[i], buffers[i])) {
-                        unread(buffers[i], 0, read);
-                    } else {
-                        if (log.isTraceEnabled()) {
-                            log.trace("Unfolding...");
-                        }
-                        linesUnfolded++;
-                        didUnfold = true;
-                    }
-                }
-//                else {
-//                    return read;
-//                }
+                final int length = foldStart - runStart;
+                System.arraycopy(buffer, runStart, buffer, write, length);
+                write += length;
+                addFold(write);
+                // skip the line break and following whitespace..
+                runStart = i + 2;
+                i++;
+            }
+        }
+        System.arraycopy(buffer, runStart, buffer, write, limit - runStart);
+        unfolded = write + (end - runStart);
+        limit = write + (limit - runStart);
+    }
+
+    private void addFold(int offset) {
+        if (log.isTraceEnabled()) {
+            log.trace("Unfolding...");
+        }
+        if (foldsEnd == folds.length) {
+            if (foldsStart > 0) {
+                System.arraycopy(folds, foldsStart, folds, 0, foldsEnd - foldsStart);
+                foldsEnd -= foldsStart;
+                foldsStart = 0;
+            } else {
+                folds = Arrays.copyOf(folds, folds.length * 2);
             }
         }
-        while (didUnfold);
+        folds[foldsEnd++] = offset;
+    }
+
+    /**
+     * Accounts for folds preceding the specified buffer offset, which is the end of content being read.
+     */
+    private void countFolds(int end) {
+        while (foldsStart < foldsEnd && folds[foldsStart] < end) {
+            linesUnfolded++;
+            foldsStart++;
+        }
+        if (foldsStart == foldsEnd) {
+            foldsStart = 0;
+            foldsEnd = 0;
+        }
     }
 }
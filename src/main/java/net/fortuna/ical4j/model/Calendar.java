@@ -51,7 +51,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.BiFunction;
-import java.util.stream.Collectors;
 
 /**
  * $Id$ [Apr 5, 2004]
@@ -228,6 +227,16 @@ public class Calendar implements Prototype<Calendar>, Serializable, PropertyCont
                 Strings.LINE_SEPARATOR;
     }
 
+    /**
+     * Specifies whether the content lines of the current calendar properties, and the text of the current calendar
+     * components, are memoised (see {@link Component#setMemoised(boolean)}).
+     * @param memoised true to memoise the calendar content
+     */
+    public void setMemoised(final boolean memoised) {
+        properties.getAll().forEach(p -> p.setMemoised(memoised));
+        components.getAll().forEach(c -> c.setMemoised(memoised));
+    }
+
     @Override
     public Calendar getFluentTarget() {
         return this;
@@ -330,11 +339,7 @@ public class Calendar implements Prototype<Calendar>, Serializable, PropertyCont
      * @return a new calendar instance that protects against mutation of the source calendar
      */
     public final Calendar copy() {
-        return new Calendar(
-                new PropertyList(getProperties().parallelStream()
-                        .map(Property::copy).collect(Collectors.toList())),
-                new ComponentList<>(getComponents().parallelStream()
-                    .map(c -> (CalendarComponent) c.copy()).collect(Collectors.toList())));
+        return new Calendar(getPropertyList().copy(), getComponentList().copy());
     }
 
     /**
@@ -40,7 +40,9 @@ import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.jspecify.annotations.NonNull;
 
+import java.io.IOException;
 import java.io.Serializable;
+import java.io.Writer;
 import java.time.temporal.Temporal;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -147,6 +149,12 @@ public abstract class Component extends Content implements Serializable,
 
     protected ComponentList<? extends Component> components;
 
+    private transient volatile boolean memoised;
+
+    private transient volatile MemoisedText memo;
+
+    private transient volatile SourceText source;
+
     /**
      * Constructs a new component containing no properties.
      *
@@ -177,10 +185,216 @@ public abstract class Component extends Content implements Serializable,
      */
     @Override
 	public String toString() {
+        if (memoised) {
+            return getMemoisedText();
+        }
         return BEGIN + ':' + name + Strings.LINE_SEPARATOR + properties + components + END + ':' + name
                 + Strings.LINE_SEPARATOR;
     }
 
+    private String getMemoisedText() {
+        final List<? extends Content> propertyList = properties.getAll();
+        final List<? extends Content> componentList = components.getAll();
+        final var text = memo;
+        if (text != null && text.matches(propertyList, componentList)) {
+            return text.text;
+        }
+
+        final var parts = new String[propertyList.size() + componentList.size()];
+        final var b = new StringBuilder();
+        b.append(BEGIN).append(':').append(name).append(Strings.LINE_SEPARATOR);
+        int i = 0;
+        for (var content : propertyList) {
+            parts[i] = content.toString();
+            b.append(parts[i++]);
+        }
+        for (var content : componentList) {
+            parts[i] = content.toString();
+            b.append(parts[i++]);
+        }
+        b.append(END).append(':').append(name).append(Strings.LINE_SEPARATOR);
+        memo = new MemoisedText(parts, b.toString());
+        return memo.text;
+    }
+
+    /**
+     * Writes the content lines of the component, including any sub-components, to the specified writer, consistent
+     * with {@link #toString()}. Content is written directly to the writer, such that the component isn't assembled
+     * in memory.
+     * @param out the writer to write the component to
+     * @throws IOException where an error occurs writing to the writer
+     */
+    public void write(final Writer out) throws IOException {
+        if (memoised) {
+            out.write(toString());
+            return;
+        }
+        out.write(BEGIN);
+        out.write(':');
+        out.write(name);
+        out.write(Strings.LINE_SEPARATOR);
+        properties.write(out);
+        components.write(out);
+        out.write(END);
+        out.write(':');
+        out.write(name);
+        out.write(Strings.LINE_SEPARATOR);
+    }
+
+    /**
+     * @return true if the text of the component is memoised
+     */
+    public final boolean isMemoised() {
+        return memoised;
+    }
+
+    /**
+     * Specifies whether the text of the component, and the content lines of its properties and sub-components, are
+     * memoised (see {@link Property#setMemoised(boolean)}). This applies to the current properties and
+     * sub-components of the component, and not to properties or sub-components subsequently added.
+     * <p/>
+     * A memoised text is only reused where each property and sub-component serialises to the same memoised text
+     * as when the text was memoised, such that any modification of the component is reflected in subsequent output.
+     * As the memoised content line of a property is discarded when the property is modified (see
+     * {@link Property#setMemoised(boolean)}), verifying an unmodified component reuses the memoised text of its
+     * properties and sub-components rather than formatting them again.
+     * @param memoised true to memoise the text of the component
+     */
+    public void setMemoised(final boolean memoised) {
+        this.memoised = memoised;
+        if (!memoised) {
+            memo = null;
+        }
+        properties.getAll().forEach(p -> p.setMemoised(memoised));
+        components.getAll().forEach(c -> c.setMemoised(memoised));
+    }
+
+    /**
+     * A memoised text, and the memoised text of each property and sub-component from which it was formed.
+     */
+    private static final class MemoisedText {
+
+        private final String[] parts;
+
+        private final String text;
+
+        MemoisedText(String[] parts, String text) {
+            this.parts = parts;
+            this.text = text;
+        }
+
+        boolean matches(List<? extends Content> properties, List<? extends Content> components) {
+            if (parts.length != properties.size() + components.size()) {
+                return false;
+            }
+            // unchanged (memoised) content serialises to the identical memoised text without formatting..
+            int i = 0;
+            for (var content : properties) {
+                if (content.toString() != parts[i++]) {
+                    return false;
+                }
+            }
+            for (var content : components) {
+                if (content.toString() != parts[i++]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Retains the source text of the component, such as the folded content lines from which the component was parsed.
+     * The source text is available via {@link #getSource()} until the component, or any of its properties or
+     * sub-components, is modified.
+     * @param source the source text of the component, including any sub-components, or null to discard a retained
+     *               source text
+     */
+    public final void setSource(final String source) {
+        this.source = source != null ? new SourceText(source, new ContentState(this)) : null;
+    }
+
+    /**
+     * A property is considered modified where its parameter list or prefix is replaced, or its value is assigned,
+     * after the source text was retained (decoding a deferred value on access isn't a modification), and a component
+     * is considered modified where its property or sub-component list is replaced.
+     * @return the retained source text of the component, or empty if no source text is retained or the component
+     * has since been modified
+     */
+    public final Optional<String> getSource() {
+        final var text = source;
+        if (text != null && text.state.matches(this)) {
+            return Optional.of(text.text);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * A retained source text, and the state of the component from which it was formed.
+     */
+    private static final class SourceText {
+
+        private final String text;
+
+        private final ContentState state;
+
+        SourceText(String text, ContentState state) {
+            this.text = text;
+            this.state = state;
+        }
+    }
+
+    /**
+     * The state of a component, being the property and sub-component lists of the component, the revision of each
+     * property (and the value of properties not supporting deferred values, as their value setters aren't recorded
+     * in the revision), and the state of each sub-component.
+     */
+    private static final class ContentState {
+
+        private final PropertyList properties;
+
+        private final ComponentList<? extends Component> components;
+
+        private final Object[] propertyState;
+
+        private final ContentState[] componentState;
+
+        ContentState(Component component) {
+            this.properties = component.properties;
+            this.components = component.components;
+            final List<Property> propertyList = properties.getAll();
+            this.propertyState = new Object[propertyList.size() * 2];
+            int i = 0;
+            for (var property : propertyList) {
+                propertyState[i++] = property.getRevision();
+                propertyState[i++] = property.isDeferredValueSupported() ? null : property.getValue();
+            }
+            this.componentState = components.getAll().stream().map(ContentState::new).toArray(ContentState[]::new);
+        }
+
+        boolean matches(Component component) {
+            if (component.properties != properties || component.components != components) {
+                return false;
+            }
+            int i = 0;
+            for (var property : properties.getAll()) {
+                final var revision = (Integer) propertyState[i++];
+                final var value = propertyState[i++];
+                if (property.getRevision() != revision || !property.isDeferredValueSupported()
+                        && !Objects.equals(property.getValue(), value)) {
+                    return false;
+                }
+            }
+            i = 0;
+            for (var subComponent : components.getAll()) {
+                if (!componentState[i++].matches(subComponent)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
     /**
      * @return Returns the name.
      */
@@ -287,8 +501,24 @@ public abstract class Component extends Content implements Serializable,
      * @return the component copy
      */
     public Component copy() {
-        return newFactory().createComponent(new PropertyList(getProperties().parallelStream()
-                .map(Property::copy).collect(Collectors.toList())));
+        return newFactory().createComponent(copyProperties());
+    }
+
+    /**
+     * Copies the properties of this component, where immutable properties are shared with the copy.
+     * @return a list of copies of the properties of this component
+     */
+    protected final PropertyList copyProperties() {
+        return getPropertyList().copy();
+    }
+
+    /**
+     * @param components a list of sub-components
+     * @param <T> the component type
+     * @return a list of (deep) copies of the specified components
+     */
+    protected static <T extends Component> ComponentList<T> copyComponents(ComponentList<T> components) {
+        return components.copy();
     }
 
     /**
@@ -65,19 +65,19 @@ public class ComponentBuilder<T extends Component> extends AbstractContentBuilde
         for (ComponentFactory<?> factory : factories) {
             if (factory.supports(name)) {
                 if (!subComponents.isEmpty()) {
-                    component = factory.createComponent(new PropertyList(properties),
-                            new ComponentList<>(subComponents));
+                    component = factory.createComponent(PropertyList.copyOf(properties),
+                            ComponentList.copyOf(subComponents));
                 } else {
-                    component = factory.createComponent(new PropertyList(properties));
+                    component = factory.createComponent(PropertyList.copyOf(properties));
                 }
             }
         }
 
         if (component == null) {
             if (isExperimentalName(name)) {
-                component = new XComponent(name, new PropertyList(properties));
+                component = new XComponent(name, PropertyList.copyOf(properties));
             } else if (allowIllegalNames()) {
-                component = new XComponent(name, new PropertyList(properties));
+                component = new XComponent(name, PropertyList.copyOf(properties));
             } else {
                 throw new IllegalArgumentException("Unsupported component [" + name + "]");
             }
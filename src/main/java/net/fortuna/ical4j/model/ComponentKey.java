@@ -0,0 +1,206 @@
+package net.fortuna.ical4j.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Identifies the property or parameter values used to locate the components of a {@link ComponentList} (see
+ * {@link ComponentList#get(ComponentKey, String...)}), or to index components such that they may be located
+ * repeatedly without iterating the list (see {@link ComponentList#index(ComponentKey)}).
+ * <p/>
+ * A key is composed of one or more parts, each of which resolves the values of a property or parameter of a component.
+ * Components are indexed on every combination of the values of each part, where a part without a value resolves to
+ * <code>null</code>. For example, a recurrence instance of an event is indexed on its (UID, RECURRENCE-ID) values,
+ * whereas the master event is indexed on (UID, <code>null</code>).
+ * <p/>
+ * Keys are equal where their parts are equal.
+ */
+public final class ComponentKey {
+
+    /**
+     * Indexes components on the value of the UID property.
+     */
+    public static final ComponentKey UID = property(Property.UID);
+
+    /**
+     * Indexes components on the values of the UID and RECURRENCE-ID properties.
+     */
+    public static final ComponentKey UID_RECURRENCE_ID = of(UID, property(Property.RECURRENCE_ID));
+
+    /**
+     * Indexes components on the values of ATTENDEE properties.
+     */
+    public static final ComponentKey ATTENDEE = property(Property.ATTENDEE);
+
+    /**
+     * Indexes components on the value of the TZID property (i.e. timezone definitions).
+     */
+    public static final ComponentKey TZID = property(Property.TZID);
+
+    private final List<Part> parts;
+
+    private ComponentKey(List<Part> parts) {
+        this.parts = parts;
+    }
+
+    /**
+     * @param propertyName a property name
+     * @return a key that indexes components on the values of properties with the specified name
+     */
+    public static ComponentKey property(final String propertyName) {
+        return new ComponentKey(Collections.singletonList(new Part(propertyName, null)));
+    }
+
+    /**
+     * @param propertyName a property name
+     * @param parameterName a parameter name
+     * @return a key that indexes components on the values of parameters with the specified name, of properties with
+     * the specified name
+     */
+    public static ComponentKey parameter(final String propertyName, final String parameterName) {
+        return new ComponentKey(Collections.singletonList(new Part(propertyName,
+                Objects.requireNonNull(parameterName))));
+    }
+
+    /**
+     * @param keys one or more keys
+     * @return a key that indexes components on the combined values of the specified keys
+     */
+    public static ComponentKey of(final ComponentKey... keys) {
+        final List<Part> parts = new ArrayList<>();
+        for (var key : keys) {
+            parts.addAll(key.parts);
+        }
+        if (parts.isEmpty()) {
+            throw new IllegalArgumentException("At least one key must be specified");
+        }
+        return new ComponentKey(Collections.unmodifiableList(parts));
+    }
+
+    /**
+     * @return the number of values identified by the key
+     */
+    int size() {
+        return parts.size();
+    }
+
+    /**
+     * @param values values of each part of the key
+     * @return the index key of the specified values
+     */
+    Object indexKey(final String... values) {
+        if (values.length != parts.size()) {
+            throw new IllegalArgumentException("Expected " + parts.size() + " values: " + Arrays.toString(values));
+        }
+        return values.length == 1 ? values[0] : Arrays.asList(values);
+    }
+
+    /**
+     * @param component a component
+     * @return the distinct index keys of the specified component
+     */
+    Set<Object> indexKeys(final Component component) {
+        final Set<Object> keys = new LinkedHashSet<>();
+        if (parts.size() == 1) {
+            keys.addAll(parts.get(0).values(component));
+        } else {
+            final List<List<String>> values = new ArrayList<>(parts.size());
+            for (var part : parts) {
+                values.add(part.values(component));
+            }
+            combine(values, new String[parts.size()], 0, keys);
+        }
+        return keys;
+    }
+
+    private static void combine(List<List<String>> values, String[] key, int part, Set<Object> keys) {
+        if (part == key.length) {
+            keys.add(Arrays.asList(key.clone()));
+            return;
+        }
+        for (var value : values.get(part)) {
+            key[part] = value;
+            combine(values, key, part + 1, keys);
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        return parts.equals(((ComponentKey) o).parts);
+    }
+
+    @Override
+    public int hashCode() {
+        return parts.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return parts.toString();
+    }
+
+    private static final class Part {
+
+        private final String propertyName;
+
+        private final String parameterName;
+
+        Part(String propertyName, String parameterName) {
+            this.propertyName = propertyName.toUpperCase(Locale.ROOT);
+            this.parameterName = parameterName != null ? parameterName.toUpperCase(Locale.ROOT) : null;
+        }
+
+        /**
+         * @return the values of the part in the specified component, or a single null value where the part has no
+         * values
+         */
+        List<String> values(Component component) {
+            final List<String> values = new ArrayList<>(1);
+            for (Property property : component.getProperties(propertyName)) {
+                if (parameterName == null) {
+                    addDistinct(values, property.getValue());
+                } else {
+                    for (var parameter : property.getParameters(parameterName)) {
+                        addDistinct(values, parameter.getValue());
+                    }
+                }
+            }
+            if (values.isEmpty()) {
+                values.add(null);
+            }
+            return values;
+        }
+
+        private static void addDistinct(List<String> values, String value) {
+            if (!values.contains(value)) {
+                values.add(value);
+            }
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Part part = (Part) o;
+            return propertyName.equals(part.propertyName) && Objects.equals(parameterName, part.parameterName);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(propertyName, parameterName);
+        }
+
+        @Override
+        public String toString() {
+            return parameterName != null ? propertyName + ";" + parameterName : propertyName;
+        }
+    }
+}
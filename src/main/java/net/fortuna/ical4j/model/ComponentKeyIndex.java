@@ -0,0 +1,66 @@
+package net.fortuna.ical4j.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An index of the components of a {@link ComponentList} by the values of a {@link ComponentKey} (see
+ * {@link ComponentList#index(ComponentKey)}).
+ * <p/>
+ * Indexed values reflect the properties of each component at the time the index was created. As the index is not
+ * updated where components are subsequently modified, an index should only be retained for as long as the indexed
+ * components are not modified.
+ *
+ * @param <T> the component type
+ */
+public final class ComponentKeyIndex<T extends Component> {
+
+    /**
+     * Represents components without a value in indexes on a single property or parameter.
+     */
+    private static final Object NULL_KEY = new Object();
+
+    private final ComponentKey key;
+
+    private final Map<Object, List<T>> entries;
+
+    private ComponentKeyIndex(ComponentKey key, Map<Object, List<T>> entries) {
+        this.key = key;
+        this.entries = entries;
+    }
+
+    /**
+     * @param key the key to index components on
+     * @param components a list of components
+     * @param <T> the component type
+     * @return an index of the specified components
+     */
+    static <T extends Component> ComponentKeyIndex<T> of(ComponentKey key, List<T> components) {
+        final Map<Object, List<T>> entries = new HashMap<>();
+        for (var component : components) {
+            for (var value : key.indexKeys(component)) {
+                entries.computeIfAbsent(mask(value), k -> new ArrayList<>(1)).add(component);
+            }
+        }
+        entries.replaceAll((k, v) -> Collections.unmodifiableList(v));
+        return new ComponentKeyIndex<>(key, entries);
+    }
+
+    /**
+     * @param values the values of each part of the key, where a null value matches components without a value
+     * @param <R> the component type
+     * @return an unmodifiable list of the indexed components with the specified values, in list order
+     * @throws IllegalArgumentException if the number of values doesn't match the key
+     */
+    @SuppressWarnings("unchecked")
+    public <R extends T> List<R> get(String... values) {
+        return (List<R>) entries.getOrDefault(mask(key.indexKey(values)), Collections.emptyList());
+    }
+
+    private static Object mask(Object key) {
+        return key != null ? key : NULL_KEY;
+    }
+}
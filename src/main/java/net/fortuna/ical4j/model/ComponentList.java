@@ -33,6 +33,8 @@ package net.fortuna.ical4j.model;
 
 import org.jspecify.annotations.NonNull;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.util.*;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -48,6 +50,11 @@ public class ComponentList<T extends Component> implements ContentCollection<T,
 
     private final List<T> components;
 
+    /**
+     * An index of the list by name, created on first lookup by name where the list is large enough to be indexed.
+     */
+    private transient volatile ContentIndex<T> index;
+
     /**
      * Default constructor.
      */
@@ -61,28 +68,68 @@ public class ComponentList<T extends Component> implements ContentCollection<T,
      * @param components
      */
     public ComponentList(List<? extends T> components) {
-        this.components = Collections.unmodifiableList(components);
+        // the shared empty list is already unmodifiable..
+        this.components = components == Collections.EMPTY_LIST ? Collections.emptyList()
+                : Collections.unmodifiableList(components);
+    }
+
+    /**
+     * @param components the elements of the list
+     * @return a list of the specified elements that retains no unused capacity
+     */
+    static <T extends Component> ComponentList<T> copyOf(List<T> components) {
+        return new ComponentList<>(SharedArrayList.copyOf(components));
+    }
+
+    /**
+     * @return a list of copies of the components of this list (see {@link Component#copy()})
+     */
+    @SuppressWarnings("unchecked")
+    ComponentList<T> copy() {
+        if (components.isEmpty()) {
+            return this;
+        }
+        final List<T> copies = new ArrayList<>(components.size());
+        for (var component : components) {
+            copies.add((T) component.copy());
+        }
+        return copyOf(copies);
+    }
+
+    /**
+     * @param components an unmodifiable list that may share its backing array with other lists
+     */
+    private ComponentList(SharedArrayList<T> components) {
+        this.components = components;
     }
 
     @Override
     public ComponentList<T> add(@NonNull T content) {
-        List<T> copy = new ArrayList<>(components);
-        copy.add(content);
-        return new ComponentList<>(copy);
+        final var list = new ComponentList<>(SharedArrayList.append(components, content));
+        final var index = this.index;
+        if (index != null) {
+            list.index = index.add(content);
+        }
+        return list;
     }
 
     @Override
     public ComponentList<T> addAll(@NonNull Collection<T> content) {
-        List<T> copy = new ArrayList<>(components);
-        copy.addAll(content);
-        return new ComponentList<>(copy);
+        return new ComponentList<>(SharedArrayList.appendAll(components, content));
     }
 
     @Override
     public ComponentList<T> remove(T content) {
-        List<T> copy = new ArrayList<>(components);
-        if (copy.remove(content)) {
-            return new ComponentList<>(copy);
+        final int position = components.indexOf(content);
+        if (position >= 0) {
+            List<T> copy = new ArrayList<>(components);
+            copy.remove(position);
+            final var list = new ComponentList<>(copy);
+            final var index = this.index;
+            if (index != null) {
+                list.index = index.remove(content, list.getAll());
+            }
+            return list;
         } else {
             return this;
         }
@@ -117,6 +164,77 @@ public class ComponentList<T extends Component> implements ContentCollection<T,
         return components;
     }
 
+    /**
+     * Content of larger lists is located via an index of the list by name, such that lookup by name doesn't
+     * iterate the list.
+     * <p/>
+     * {@inheritDoc}
+     */
+    @Override
+    public <R extends T> List<R> get(String... names) {
+        if (names.length > 0) {
+            final var index = getIndex();
+            return index != null ? index.get(names) : ContentIndex.scan(components, names);
+        }
+        return ContentCollection.super.get();
+    }
+
+    /**
+     * Content of larger lists is located via an index of the list by name, such that lookup by name doesn't
+     * iterate the list.
+     * <p/>
+     * {@inheritDoc}
+     */
+    @Override
+    public <R extends T> Optional<R> getFirst(String name) {
+        final var index = getIndex();
+        return index != null ? index.getFirst(name) : ContentIndex.scanFirst(components, name);
+    }
+
+    /**
+     * Returns the components with the specified values of a key. As components are mutable the list is searched for
+     * each lookup, such that the result reflects the current properties of each component. Where components are
+     * located repeatedly by the same key and are not modified in the interim, use {@link #index(ComponentKey)}.
+     *
+     * @param key the key to locate components by
+     * @param values the values of each part of the key, where a null value matches components without a value
+     * @return an unmodifiable list of components with the specified values, in list order
+     * @param <R> the component type
+     * @throws IllegalArgumentException if the number of values doesn't match the key
+     */
+    @SuppressWarnings("unchecked")
+    public <R extends T> List<R> get(@NonNull ComponentKey key, String... values) {
+        final var indexKey = key.indexKey(values);
+        final List<R> result = new ArrayList<>(1);
+        for (var component : components) {
+            if (key.indexKeys(component).contains(indexKey)) {
+                result.add((R) component);
+            }
+        }
+        return result.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(result);
+    }
+
+    /**
+     * Returns an index of the components of this list by the values of a key, such that components may be located
+     * repeatedly without searching the list. The index reflects the properties of each component at the time the
+     * index is created, and so is only applicable where components are not modified while the index is in use.
+     *
+     * @param key the key to index components on
+     * @return an index of the components of this list
+     */
+    public ComponentKeyIndex<T> index(@NonNull ComponentKey key) {
+        return ComponentKeyIndex.of(key, components);
+    }
+
+    private ContentIndex<T> getIndex() {
+        var index = this.index;
+        if (index == null && ContentIndex.isIndexed(components)) {
+            index = ContentIndex.of(components);
+            this.index = index;
+        }
+        return index;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -125,6 +243,17 @@ public class ComponentList<T extends Component> implements ContentCollection<T,
         return components.stream().map(Component::toString).collect(Collectors.joining(""));
     }
 
+    /**
+     * Writes the content lines of the components to the specified writer, consistent with {@link #toString()}.
+     * @param out the writer to write the components to
+     * @throws IOException where an error occurs writing to the writer
+     */
+    public final void write(final Writer out) throws IOException {
+        for (var component : components) {
+            component.write(out);
+        }
+    }
+
     /**
      * Returns the first component of specified name.
      * @param aName name of component to return
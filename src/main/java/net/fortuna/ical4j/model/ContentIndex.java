@@ -0,0 +1,189 @@
+package net.fortuna.ical4j.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * An immutable index of the content of a {@link ContentCollection} by name, consistent with the default
+ * implementations of {@link ContentCollection#get(String...)} and {@link ContentCollection#getFirst(String)}. That is,
+ * {@link #get(String...)} matches content names against the upper-case form of the specified names, and
+ * {@link #getFirst(String)} matches content names ignoring case.
+ * <p/>
+ * The content of each name is retained as an unmodifiable list, such that lookups of a single name don't allocate.
+ * <p/>
+ * As an index retains considerably more memory than the list it indexes, only lists of at least
+ * {@link #MIN_INDEXED_SIZE} elements are indexed (see {@link #isIndexed(List)}). Smaller lists, such as the parameters
+ * of a property or the properties of a typical component, are searched via {@link #scan(List, String...)} and
+ * {@link #scanFirst(List, String)}, which are consistent with the index.
+ *
+ * @param <T> the content type
+ */
+final class ContentIndex<T extends Content> {
+
+    /**
+     * The minimum size of an indexed list.
+     */
+    static final int MIN_INDEXED_SIZE = 32;
+
+    private final Map<String, List<T>> named;
+
+    /**
+     * The first content of each name, keyed by the upper-case name.
+     */
+    private final Map<String, Optional<T>> first;
+
+    private ContentIndex(Map<String, List<T>> named, Map<String, Optional<T>> first) {
+        this.named = named;
+        this.first = first;
+    }
+
+    /**
+     * @param contents a list of content
+     * @param <T> the content type
+     * @return an index of the specified content
+     */
+    static <T extends Content> ContentIndex<T> of(List<T> contents) {
+        final Map<String, List<T>> named = new HashMap<>();
+        final Map<String, Optional<T>> first = new HashMap<>();
+        for (var content : contents) {
+            named.computeIfAbsent(content.getName(), k -> new ArrayList<>(1)).add(content);
+            first.putIfAbsent(key(content.getName()), Optional.of(content));
+        }
+        named.replaceAll((k, v) -> Collections.unmodifiableList(v));
+        return new ContentIndex<>(named, first);
+    }
+
+    /**
+     * @param contents a list of content
+     * @return true if the specified list is large enough to be indexed
+     */
+    static boolean isIndexed(List<?> contents) {
+        return contents.size() >= MIN_INDEXED_SIZE;
+    }
+
+    /**
+     * @param contents a list of content
+     * @param names one or more content names
+     * @param <T> the content type
+     * @param <R> the result type
+     * @return an unmodifiable list of the content with the specified names, consistent with {@link #get(String...)}
+     */
+    @SuppressWarnings("unchecked")
+    static <T extends Content, R extends T> List<R> scan(List<T> contents, String... names) {
+        final var result = new ArrayList<R>(1);
+        final var filter = new ArrayList<String>(names.length);
+        for (var name : names) {
+            final var upperName = name.toUpperCase();
+            // content is included once for duplicate names..
+            if (!filter.contains(upperName)) {
+                filter.add(upperName);
+                for (var content : contents) {
+                    if (upperName.equals(content.getName())) {
+                        result.add((R) content);
+                    }
+                }
+            }
+        }
+        return result.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(result);
+    }
+
+    /**
+     * @param contents a list of content
+     * @param name a content name
+     * @param <T> the content type
+     * @param <R> the result type
+     * @return the first content with the specified name (ignoring case)
+     */
+    @SuppressWarnings("unchecked")
+    static <T extends Content, R extends T> Optional<R> scanFirst(List<T> contents, String name) {
+        for (var content : contents) {
+            if (content.getName().equalsIgnoreCase(name)) {
+                return Optional.of((R) content);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * @param content content appended to the indexed list
+     * @return an index of the indexed list with the specified content appended
+     */
+    ContentIndex<T> add(T content) {
+        final Map<String, List<T>> named = new HashMap<>(this.named);
+        named.put(content.getName(),
+                SharedArrayList.append(named.getOrDefault(content.getName(), Collections.emptyList()), content));
+
+        var first = this.first;
+        if (!first.containsKey(key(content.getName()))) {
+            first = new HashMap<>(first);
+            first.put(key(content.getName()), Optional.of(content));
+        }
+        return new ContentIndex<>(named, first);
+    }
+
+    /**
+     * @param content content removed from the indexed list
+     * @param contents the indexed list with the specified content removed
+     * @return an index of the specified list
+     */
+    ContentIndex<T> remove(T content, List<T> contents) {
+        // the removed content is equal to the specified content, which may differ in the case of its name..
+        final var key = key(content.getName());
+        final Map<String, List<T>> named = new HashMap<>(this.named);
+        named.keySet().removeIf(name -> key.equals(key(name)));
+        final Map<String, Optional<T>> first = new HashMap<>(this.first);
+        first.remove(key);
+        for (var c : contents) {
+            if (key.equals(key(c.getName()))) {
+                named.computeIfAbsent(c.getName(), k -> new ArrayList<>(1)).add(c);
+                first.putIfAbsent(key, Optional.of(c));
+            }
+        }
+        for (var entry : named.entrySet()) {
+            if (key.equals(key(entry.getKey()))) {
+                entry.setValue(Collections.unmodifiableList(entry.getValue()));
+            }
+        }
+        return new ContentIndex<>(named, first);
+    }
+
+    /**
+     * @param names one or more content names
+     * @return an unmodifiable list of the content with the specified names, ordered by the specified names
+     */
+    @SuppressWarnings("unchecked")
+    <R extends T> List<R> get(String... names) {
+        if (names.length == 1) {
+            return (List<R>) named.getOrDefault(names[0].toUpperCase(), Collections.emptyList());
+        }
+        final var result = new ArrayList<R>();
+        final var filter = new ArrayList<String>(names.length);
+        for (var name : names) {
+            final var upperName = name.toUpperCase();
+            // content is included once for duplicate names..
+            if (!filter.contains(upperName)) {
+                filter.add(upperName);
+                result.addAll((List<R>) named.getOrDefault(upperName, Collections.emptyList()));
+            }
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * @param name a content name
+     * @return the first content with the specified name (ignoring case)
+     */
+    @SuppressWarnings("unchecked")
+    <R extends T> Optional<R> getFirst(String name) {
+        return (Optional<R>) first.getOrDefault(key(name), Optional.empty());
+    }
+
+    private static String key(String name) {
+        return name.toUpperCase(Locale.ROOT);
+    }
+}
@@ -37,6 +37,8 @@ import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.jspecify.annotations.NonNull;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.util.Comparator;
 
 /**
@@ -238,19 +240,36 @@ public abstract class Parameter extends Content implements Comparable<Parameter>
         b.append(getName());
         if (getValue() != null) {
             b.append('=');
-            String value;
-            if (this instanceof Encodable) {
-                try {
-                    value = ParameterCodec.INSTANCE.encode(getValue());
-                } catch (EncoderException e) {
-                    value = getValue();
-                }
-            } else {
+            b.append(getEncodedValue());
+        }
+        return b.toString();
+    }
+
+    /**
+     * Writes the parameter to the specified writer, consistent with {@link #toString()}.
+     * @param out the writer to write the parameter to
+     * @throws IOException where an error occurs writing to the writer
+     */
+    public final void write(final Writer out) throws IOException {
+        out.write(getName());
+        if (getValue() != null) {
+            out.write('=');
+            out.write(getEncodedValue());
+        }
+    }
+
+    private String getEncodedValue() {
+        String value;
+        if (this instanceof Encodable) {
+            try {
+                value = ParameterCodec.INSTANCE.encode(getValue());
+            } catch (EncoderException e) {
                 value = getValue();
             }
-            b.append(Strings.valueOf(value));
+        } else {
+            value = getValue();
         }
-        return b.toString();
+        return Strings.valueOf(value);
     }
 
     /**
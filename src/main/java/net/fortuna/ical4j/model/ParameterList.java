@@ -33,6 +33,8 @@ package net.fortuna.ical4j.model;
 
 import org.jspecify.annotations.NonNull;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.util.*;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -44,8 +46,18 @@ import java.util.stream.Collectors;
  */
 public class ParameterList implements ContentCollection<Parameter, ParameterList>, Comparable<ParameterList> {
 
+    /**
+     * A shared empty list, e.g. for properties without parameters.
+     */
+    static final ParameterList EMPTY = new ParameterList();
+
     private final List<Parameter> parameters;
 
+    /**
+     * An index of the list by name, created on first lookup by name where the list is large enough to be indexed.
+     */
+    private transient volatile ContentIndex<Parameter> index;
+
     /**
      * Default constructor. Creates an empty parameter list.
      */
@@ -58,28 +70,54 @@ public class ParameterList implements ContentCollection<Parameter, ParameterList
      * @param list a parameter list to copy parameters from
      */
     public ParameterList(@NonNull List<Parameter> list) {
-        this.parameters = Collections.unmodifiableList(list);
+        // the shared empty list is already unmodifiable..
+        this.parameters = list == Collections.EMPTY_LIST ? Collections.emptyList()
+                : Collections.unmodifiableList(list);
+    }
+
+    /**
+     * @param parameters the elements of the list
+     * @return a list of the specified elements that retains no unused capacity, or a shared instance where empty
+     */
+    static ParameterList copyOf(List<Parameter> parameters) {
+        if (parameters.isEmpty()) {
+            return EMPTY;
+        }
+        return new ParameterList(SharedArrayList.copyOf(parameters));
+    }
+
+    /**
+     * @param parameters an unmodifiable list that may share its backing array with other lists
+     */
+    private ParameterList(SharedArrayList<Parameter> parameters) {
+        this.parameters = parameters;
     }
 
     @Override
     public ParameterList add(Parameter content) {
-        List<Parameter> copy = new ArrayList<>(parameters);
-        copy.add(content);
-        return new ParameterList(copy);
+        final var list = new ParameterList(SharedArrayList.append(parameters, content));
+        final var index = this.index;
+        if (index != null) {
+            list.index = index.add(content);
+        }
+        return list;
     }
 
     @Override
     public ParameterList addAll(@NonNull Collection<Parameter> content) {
-        List<Parameter> copy = new ArrayList<>(parameters);
-        copy.addAll(content);
-        return new ParameterList(copy);
+        return new ParameterList(SharedArrayList.appendAll(parameters, content));
     }
 
     @Override
     public ParameterList remove(Parameter content) {
         List<Parameter> copy = new ArrayList<>(parameters);
         if (copy.remove(content)) {
-            return new ParameterList(copy);
+            final var list = new ParameterList(copy);
+            final var index = this.index;
+            if (index != null) {
+                list.index = index.remove(content, list.getAll());
+            }
+            return list;
         } else {
             return this;
         }
@@ -114,6 +152,42 @@ public class ParameterList implements ContentCollection<Parameter, ParameterList
         return parameters;
     }
 
+    /**
+     * Content of larger lists is located via an index of the list by name, such that lookup by name doesn't
+     * iterate the list.
+     * <p/>
+     * {@inheritDoc}
+     */
+    @Override
+    public <R extends Parameter> List<R> get(String... names) {
+        if (names.length > 0) {
+            final var index = getIndex();
+            return index != null ? index.get(names) : ContentIndex.scan(parameters, names);
+        }
+        return ContentCollection.super.get();
+    }
+
+    /**
+     * Content of larger lists is located via an index of the list by name, such that lookup by name doesn't
+     * iterate the list.
+     * <p/>
+     * {@inheritDoc}
+     */
+    @Override
+    public <R extends Parameter> Optional<R> getFirst(String name) {
+        final var index = getIndex();
+        return index != null ? index.getFirst(name) : ContentIndex.scanFirst(parameters, name);
+    }
+
+    private ContentIndex<Parameter> getIndex() {
+        var index = this.index;
+        if (index == null && ContentIndex.isIndexed(parameters)) {
+            index = ContentIndex.of(parameters);
+            this.index = index;
+        }
+        return index;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -126,6 +200,18 @@ public class ParameterList implements ContentCollection<Parameter, ParameterList
         return "";
     }
 
+    /**
+     * Writes the parameters to the specified writer, consistent with {@link #toString()}.
+     * @param out the writer to write the parameters to
+     * @throws IOException where an error occurs writing to the writer
+     */
+    public final void write(final Writer out) throws IOException {
+        for (var parameter : parameters) {
+            out.write(';');
+            parameter.write(out);
+        }
+    }
+
     /**
      * Returns the first parameter with the specified name.
      * @param aName name of the parameter
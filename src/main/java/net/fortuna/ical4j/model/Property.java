@@ -32,6 +32,7 @@
 package net.fortuna.ical4j.model;
 
 import net.fortuna.ical4j.model.parameter.Value;
+import net.fortuna.ical4j.model.property.ImmutableProperty;
 import net.fortuna.ical4j.model.property.XProperty;
 import net.fortuna.ical4j.util.Strings;
 import net.fortuna.ical4j.validate.ValidationException;
@@ -41,8 +42,12 @@ import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.jspecify.annotations.NonNull;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.Writer;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 
 /**
@@ -412,17 +417,33 @@ public abstract class Property extends Content implements Comparable<Property>,
 
     private ParameterList parameters;
 
+    /**
+     * A value string that has not yet been decoded, where decoding is deferred until the value is first accessed.
+     */
+    private transient volatile String deferredValue;
+
+    private transient boolean resolvingDeferredValue;
+
+    private transient volatile boolean memoised;
+
+    private transient volatile MemoisedContentLine memo;
+
+    /**
+     * The number of modifications of the property (see {@link #getRevision()}).
+     */
+    private transient volatile int revision;
+
     /**
      * Constructor.
      *
      * @param aName   property name
      */
     protected Property(final String aName) {
-        this(aName, new ParameterList());
+        this(aName, ParameterList.EMPTY);
     }
 
     protected Property(@NonNull Enum<?> name) {
-        this(name.toString(), new ParameterList());
+        this(name.toString(), ParameterList.EMPTY);
     }
 
     /**
@@ -460,6 +481,16 @@ public abstract class Property extends Content implements Comparable<Property>,
      */
     @Override
     public String toString() {
+        if (memoised) {
+            final var contentLine = memo;
+            // the value of properties supporting deferred values is only modified via setters that discard the
+            // memoised content line, otherwise the value is held as assigned and so is compared..
+            if (contentLine != null && (isDeferredValueSupported() || contentLine.matches(getValue()))) {
+                return contentLine.text;
+            }
+        }
+
+        final var value = getValue();
         final var buffer = new StringBuilder();
         if (prefix != null && !prefix.isEmpty()) {
             buffer.append(prefix);
@@ -470,24 +501,117 @@ public abstract class Property extends Content implements Comparable<Property>,
             buffer.append(parameters);
         }
         buffer.append(':');
-        String value;
+        buffer.append(getEncodedValue(value));
+        buffer.append(Strings.LINE_SEPARATOR);
+
+        final var text = buffer.toString();
+        if (memoised) {
+            memo = new MemoisedContentLine(value, text);
+        }
+        return text;
+    }
+
+    /**
+     * Writes the content line of the property to the specified writer, consistent with {@link #toString()}. Content
+     * is written directly to the writer, such that the content line isn't assembled in memory (unless the content
+     * line is memoised).
+     * @param out the writer to write the property to
+     * @throws IOException where an error occurs writing to the writer
+     */
+    public void write(final Writer out) throws IOException {
+        if (memoised) {
+            out.write(toString());
+            return;
+        }
+        if (prefix != null && !prefix.isEmpty()) {
+            out.write(prefix);
+            out.write('.');
+        }
+        out.write(getName());
+        if (parameters != null) {
+            parameters.write(out);
+        }
+        out.write(':');
+        out.write(getEncodedValue(getValue()));
+        out.write(Strings.LINE_SEPARATOR);
+    }
+
+    /**
+     * @return true if the content line of the property is memoised
+     */
+    public final boolean isMemoised() {
+        return memoised;
+    }
+
+    /**
+     * Specifies whether the content line of the property is memoised, such that repeated serialisation of an
+     * unchanged property returns the same content line rather than formatting and encoding the value again. This is
+     * useful where the same calendar data is output repeatedly.
+     * <p/>
+     * A memoised content line is discarded where the value, the parameter list or the prefix of the property is
+     * modified, such that any modification of the property is reflected in subsequent output. The value of a property
+     * that formats its value from parsed state (such as a date, recurrence or duration) is only modified via its
+     * setters, and so reuse of the memoised content line avoids formatting the value. Other properties hold the value
+     * as assigned, and the memoised content line is reused where the value is unchanged. Note that in-place
+     * modification of a mutable value (such as via the deprecated setters of {@link Recur}) isn't detected.
+     * @param memoised true to memoise the content line of the property
+     */
+    public final void setMemoised(final boolean memoised) {
+        this.memoised = memoised;
+        if (!memoised) {
+            memo = null;
+        }
+    }
+
+    /**
+     * @return true if the property value is text that is escaped in content lines, being an {@link Encodable}
+     * property other than a non-standard property with a non-TEXT value type
+     */
+    final boolean isEscapedText() {
+        return this instanceof Encodable && !(this instanceof XProperty && getParameter(Parameter.VALUE).isPresent()
+                && !Value.TEXT.equals(getRequiredParameter(Parameter.VALUE)));
+    }
+
+    private String getEncodedValue(final String value) {
+        String encodedValue;
 
-        if (this instanceof XProperty && getParameter(Parameter.VALUE).isPresent()
-                && !Value.TEXT.equals(getRequiredParameter(Parameter.VALUE))) {
-            value = getValue();
-        } else if (this instanceof Encodable) {
+        if (isEscapedText()) {
             try {
-                value = PropertyCodec.INSTANCE.encode(getValue());
+                encodedValue = PropertyCodec.INSTANCE.encode(value);
             } catch (EncoderException e) {
-                value = getValue();
+                encodedValue = value;
             }
         } else {
-            value = getValue();
+            encodedValue = value;
         }
-        buffer.append(Strings.valueOf(value));
-        buffer.append(Strings.LINE_SEPARATOR);
+        return Strings.valueOf(encodedValue);
+    }
+
+    /**
+     * A memoised content line, and the value from which it was formatted.
+     */
+    private static final class MemoisedContentLine {
+
+        private final String value;
+
+        private final String text;
 
-        return buffer.toString();
+        MemoisedContentLine(String value, String text) {
+            this.value = value;
+            this.text = text;
+        }
+
+        boolean matches(String value) {
+            return Objects.equals(this.value, value);
+        }
+    }
+
+    /**
+     * Discards the memoised content line, if any, where state other than the value, the parameter list and the prefix
+     * that affects the formatted value (such as a timezone registry) is modified.
+     */
+    protected final void discardMemo() {
+        memo = null;
     }
 
     @Override
@@ -513,6 +637,7 @@ public abstract class Property extends Content implements Comparable<Property>,
 
     public void setPrefix(String prefix) {
         this.prefix = prefix;
+        modified();
     }
 
     /**
@@ -524,6 +649,7 @@ public abstract class Property extends Content implements Comparable<Property>,
 
     protected void setParameters(ParameterList parameters) {
         this.parameters = parameters;
+        modified();
     }
 
     /**
@@ -616,6 +742,93 @@ public abstract class Property extends Content implements Comparable<Property>,
      */
     public abstract void setValue(String aValue);
 
+    /**
+     * Indicates whether this property supports deferring the decoding of a value string until the value is first
+     * accessed. Implementations that return true must call {@link #resolveDeferredValue()} prior to reading any
+     * state derived from the value, and {@link #discardDeferredValue()} when the value is replaced (which also
+     * discards a memoised content line).
+     *
+     * @return true if deferred values are supported, otherwise false
+     */
+    protected boolean isDeferredValueSupported() {
+        return false;
+    }
+
+    /**
+     * Retains a value string to be decoded on first access to the property value.
+     *
+     * @param aValue a string representation of the property value
+     * @see #isDeferredValueSupported()
+     */
+    final void deferValue(String aValue) {
+        this.deferredValue = aValue;
+    }
+
+    /**
+     * Decodes a deferred value string, if any, via {@link #setValue(String)}. The value is decoded at most once, even
+     * where the property is accessed concurrently. If the value string is invalid the failure is thrown to the caller,
+     * and will be thrown again on subsequent access.
+     */
+    protected final void resolveDeferredValue() {
+        if (deferredValue != null) {
+            synchronized (this) {
+                var value = deferredValue;
+                // ignore access from within setValue() while resolving..
+                if (value != null && !resolvingDeferredValue) {
+                    resolvingDeferredValue = true;
+                    try {
+                        setValue(value);
+                        deferredValue = null;
+                    } finally {
+                        resolvingDeferredValue = false;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Discards a deferred value string, such that it doesn't override an explicitly assigned value, and any memoised
+     * content line.
+     */
+    protected final void discardDeferredValue() {
+        if (!resolvingDeferredValue) {
+            deferredValue = null;
+        }
+        modified();
+    }
+
+    private void modified() {
+        memo = null;
+        // decoding a deferred value isn't a modification..
+        if (!resolvingDeferredValue) {
+            revision++;
+        }
+    }
+
+    /**
+     * @return a number that is incremented where the parameter list or prefix of the property is replaced, or the
+     * value of a property supporting deferred values is assigned (other than by decoding a deferred value)
+     */
+    final int getRevision() {
+        return revision;
+    }
+
+    /**
+     * @return the deferred value string, if any, such that a deferred value isn't decoded, otherwise the value of the
+     * property
+     */
+    final String peekValue() {
+        final var value = deferredValue;
+        return value != null ? value : getValue();
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        // ensure subclass state is complete prior to serialization..
+        resolveDeferredValue();
+        out.defaultWriteObject();
+    }
+
     /**
      * Perform validation on a property.
      *
@@ -654,15 +867,50 @@ public abstract class Property extends Content implements Comparable<Property>,
     protected abstract PropertyFactory<?> newFactory();
 
     /**
-     * Create a (deep) copy of this property.
+     * Create a (deep) copy of this property. As immutable properties (see {@link ImmutableProperty}) can't be
+     * modified they are not copied, and the copy of a property shares its (immutable) parameter list. Where the value
+     * of this property is yet to be decoded (see {@link #isDeferredValueSupported()}) decoding is also deferred by the
+     * copy, otherwise the value is decoded by the copy immediately.
      *
      * @return the copy of the property
      */
     public final Property copy() {
+        if (this instanceof ImmutableProperty) {
+            return this;
+        }
+        // a deferred value is decoded by the copy only..
+        final var deferred = deferredValue;
+        final var value = deferred != null ? deferred : getValue();
         if (getName().toUpperCase().startsWith("X-")) {
-            return new XProperty(getName(), new ParameterList(getParameters()), getValue());
+            return new XProperty(getName(), parameters, value);
         }
-        return newFactory().createProperty(parameters, getValue());
+        final PropertyFactory<?> factory = newFactory();
+        if (isDeferredValueSupported()) {
+            final Property copy;
+            try {
+                copy = factory.createProperty();
+            } catch (RuntimeException e) {
+                // factory doesn't support creating an empty property..
+                return factory.createProperty(parameters, value);
+            }
+            copy.setParameters(parameters);
+            prepareCopy(copy);
+            if (deferred != null) {
+                copy.deferValue(value);
+            } else {
+                copy.setValue(value);
+            }
+            return copy;
+        }
+        return factory.createProperty(parameters, value);
+    }
+
+    /**
+     * Applies state used to decode the value of this property, other than the parameter list, to a copy of the
+     * property prior to assigning the copied value.
+     * @param copy an empty property created by the factory of this property (see {@link #newFactory()})
+     */
+    protected void prepareCopy(Property copy) {
     }
 
     @Override
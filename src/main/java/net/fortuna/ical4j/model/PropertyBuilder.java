@@ -11,6 +11,8 @@ import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Provides a configurable builder for creating {@link Property} instances from {@link String} values.
@@ -19,6 +21,12 @@ import java.util.List;
  */
 public class PropertyBuilder extends AbstractContentBuilder {
 
+    /**
+     * Records whether the properties created by each type of factory support deferred values, to avoid redundant
+     * instantiation of properties that don't.
+     */
+    private static final Map<Class<?>, Boolean> DEFERRED_VALUE_SUPPORT = new ConcurrentHashMap<>();
+
     private final List<PropertyFactory<?>> factories;
 
     private String name;
@@ -33,6 +41,8 @@ public class PropertyBuilder extends AbstractContentBuilder {
 
     private ZoneId defaultTimeZone;
 
+    private boolean lazy;
+
     public PropertyBuilder() {
         this(new ArrayList<>());
     }
@@ -55,6 +65,10 @@ public class PropertyBuilder extends AbstractContentBuilder {
     }
 
     public PropertyBuilder name(String name) {
+        if (name.indexOf('.') < 0) {
+            this.name = name;
+            return this;
+        }
         var nameParts = name.split("\\.");
         if (nameParts.length > 1) {
             this.prefix = String.join(".", Arrays.copyOfRange(nameParts, 0, nameParts.length - 1));
@@ -90,6 +104,20 @@ public class PropertyBuilder extends AbstractContentBuilder {
         return this;
     }
 
+    /**
+     * Specify whether to defer decoding of property values until first access. Where enabled, applicable properties
+     * retain the raw value string and decode it on demand, and an invalid value is reported when the property value
+     * is first accessed rather than by {@link #build()}. Properties that don't support deferred values are
+     * unaffected.
+     *
+     * @param lazy true to defer decoding of property values
+     * @return the builder instance
+     */
+    public PropertyBuilder lazy(boolean lazy) {
+        this.lazy = lazy;
+        return this;
+    }
+
     public Property build() {
 
         // remove TZID parameters for FORM #2 dates..
@@ -98,16 +126,16 @@ public class PropertyBuilder extends AbstractContentBuilder {
         }
 
         Property property = null;
-        String decodedValue;
-        try {
-            decodedValue = PropertyCodec.INSTANCE.decode(value);
-        } catch (DecoderException e) {
-            decodedValue = value;
-        }
 
         for (PropertyFactory<?> factory : factories) {
             if (factory.supports(name)) {
-                property = factory.createProperty(new ParameterList(parameters), value);
+                if (lazy) {
+                    property = buildDeferred(factory);
+                    if (property != null) {
+                        break;
+                    }
+                }
+                property = factory.createProperty(ParameterList.copyOf(parameters), value);
                 if (property instanceof DateProperty) {
                     DateProperty<?> dateProp = (DateProperty<?>) property;
                     // don't set timezone on UTC-formatted properties..
@@ -128,15 +156,22 @@ public class PropertyBuilder extends AbstractContentBuilder {
 
         if (property == null) {
             if (isExperimentalName(name)) {
-                property = new XProperty(name, new ParameterList(parameters), value);
+                property = new XProperty(name, ParameterList.copyOf(parameters), value);
             } else if (allowIllegalNames()) {
-                property = new XProperty(name, new ParameterList(parameters), value);
+                property = new XProperty(name, ParameterList.copyOf(parameters), value);
             } else {
                 throw new IllegalArgumentException("Illegal property [" + name + "]");
             }
         }
 
-        if (property instanceof Encodable) {
+        // only text values are escaped..
+        if (property.isEscapedText()) {
+            String decodedValue;
+            try {
+                decodedValue = PropertyCodec.INSTANCE.decode(value);
+            } catch (DecoderException e) {
+                decodedValue = value;
+            }
             property.setValue(decodedValue);
         }
 
@@ -146,4 +181,40 @@ public class PropertyBuilder extends AbstractContentBuilder {
 
         return property;
     }
+
+    /**
+     * @param factory a factory supporting the property name
+     * @return a property with a deferred value, or null if the factory doesn't support deferred values
+     */
+    private Property buildDeferred(PropertyFactory<?> factory) {
+        var deferredValueSupport = DEFERRED_VALUE_SUPPORT.get(factory.getClass());
+        if (Boolean.FALSE.equals(deferredValueSupport)) {
+            return null;
+        }
+        Property property;
+        try {
+            property = factory.createProperty();
+        } catch (RuntimeException e) {
+            // factory doesn't support creating an empty property..
+            DEFERRED_VALUE_SUPPORT.put(factory.getClass(), false);
+            return null;
+        }
+        if (deferredValueSupport == null) {
+            DEFERRED_VALUE_SUPPORT.put(factory.getClass(), property.isDeferredValueSupported());
+        }
+        if (!property.isDeferredValueSupported()) {
+            return null;
+        }
+        property.setParameters(ParameterList.copyOf(parameters));
+        // don't set timezone on UTC-formatted properties..
+        if (property instanceof DateProperty && !(property instanceof UtcProperty)) {
+            ((DateProperty<?>) property).setTimeZoneRegistry(timeZoneRegistry);
+            ((DateProperty<?>) property).setDefaultTimeZone(defaultTimeZone);
+        } else if (property instanceof DateListProperty) {
+            ((DateListProperty<?>) property).setTimeZoneRegistry(timeZoneRegistry);
+            ((DateListProperty<?>) property).setDefaultTimeZone(defaultTimeZone);
+        }
+        property.deferValue(value);
+        return property;
+    }
 }
@@ -5,8 +5,6 @@ import org.apache.commons.codec.EncoderException;
 import org.apache.commons.codec.StringDecoder;
 import org.apache.commons.codec.StringEncoder;
 
-import java.util.regex.Pattern;
-
 /**
  * Support for encoding/decoding property values that include quotes, newlines, and escape characters.
  */
@@ -14,40 +12,56 @@ public class PropertyCodec implements StringEncoder, StringDecoder {
 
     public static final PropertyCodec INSTANCE = new PropertyCodec();
 
-    private static final String ENCODED_NEWLINE = "\\\\n";
-
-    private static final String ENCODED_BACKSLASH = "\\\\\\\\";
-
-
-    // matches an unencoded backslash character..
-    private static final Pattern BACKSLASH_EX = Pattern.compile("\\\\");
-
-    // matches an unencoded newline character..
-    private static final Pattern NEWLINE_EX = Pattern.compile("\r?\n");
-
-    // matches an unencoded special character..
-    private static final Pattern SPECIALCHAR_EX = Pattern.compile("([,;])");
-
-    // matches an encoded backslash character..
-    private static final Pattern ENCODED_BACKSLASH_EX = Pattern.compile(ENCODED_BACKSLASH);
-
-    // matches an encoded newline character..
-    private static final Pattern ENCODED_NEWLINE_EX = Pattern.compile("(?<!\\\\)" + ENCODED_NEWLINE);
-
-    // matches an encoded special character..
-    private static final Pattern ENCODED_SPECIALCHAR_EX = Pattern.compile("\\\\([,;\"])");
-
+    /**
+     * Decodes the specified text value in a single pass. Consistent with previous versions, an escaped special
+     * character ({@code \,}, {@code \;} or {@code \"}) is decoded first, then an escaped newline not preceded by a
+     * backslash, and finally each pair of consecutive backslashes. The specified value is returned where it contains
+     * no backslash.
+     *
+     * @param source a text value
+     * @return the decoded text value
+     * @throws DecoderException where the specified value is null
+     */
     @Override
     public String decode(String source) throws DecoderException {
-        if (source != null) {
-            return ENCODED_BACKSLASH_EX.matcher(
-                    ENCODED_NEWLINE_EX.matcher(
-                            ENCODED_SPECIALCHAR_EX.matcher(source).replaceAll("$1")
-                    ).replaceAll("\n")
-            ).replaceAll("\\\\");
-        } else {
+        if (source == null) {
             throw new DecoderException("Input cannot be null");
         }
+        int index = source.indexOf('\\');
+        if (index < 0) {
+            return source;
+        }
+        final var b = new StringBuilder(source.length());
+        b.append(source, 0, index);
+        final int length = source.length();
+        while (index < length) {
+            final char c = source.charAt(index);
+            if (c != '\\') {
+                b.append(c);
+                index++;
+                continue;
+            }
+            // a run of backslashes..
+            int end = index + 1;
+            while (end < length && source.charAt(end) == '\\') {
+                end++;
+            }
+            int count = end - index;
+            final char next = end < length ? source.charAt(end) : 0;
+            if (next == ',' || next == ';' || next == '"') {
+                // the last backslash escapes the special character..
+                count--;
+            } else if (count == 1 && next == 'n') {
+                b.append('\n');
+                index = end + 1;
+                continue;
+            }
+            for (int i = 0; i < (count + 1) / 2; i++) {
+                b.append('\\');
+            }
+            index = end;
+        }
+        return b.toString();
     }
 
     @Override
@@ -59,18 +73,52 @@ public class PropertyCodec implements StringEncoder, StringDecoder {
         }
     }
 
+    /**
+     * Encodes the specified text value in a single pass, escaping backslashes, newlines (including a preceding
+     * carriage return), commas and semicolons. The specified value is returned where it contains no such characters.
+     *
+     * @param source a text value
+     * @return the encoded text value
+     * @throws EncoderException where the specified value is null
+     */
     @Override
     public String encode(String source) throws EncoderException {
-        if (source != null) {
-            // order is significant here as we don't want to double-encode backslash..
-            return SPECIALCHAR_EX.matcher(
-                    NEWLINE_EX.matcher(
-                            BACKSLASH_EX.matcher(source).replaceAll(ENCODED_BACKSLASH)
-                    ).replaceAll(ENCODED_NEWLINE)
-            ).replaceAll("\\\\$1");
-        } else {
+        if (source == null) {
             throw new EncoderException("Input cannot be null");
         }
+        final int length = source.length();
+        int index = 0;
+        while (index < length && !isEncoded(source, index)) {
+            index++;
+        }
+        if (index == length) {
+            return source;
+        }
+        final var b = new StringBuilder(length + 16);
+        b.append(source, 0, index);
+        for (; index < length; index++) {
+            final char c = source.charAt(index);
+            if (c == '\\' || c == ',' || c == ';') {
+                b.append('\\').append(c);
+            } else if (c == '\n') {
+                b.append("\\n");
+            } else if (c == '\r' && index + 1 < length && source.charAt(index + 1) == '\n') {
+                b.append("\\n");
+                index++;
+            } else {
+                b.append(c);
+            }
+        }
+        return b.toString();
+    }
+
+    /**
+     * @return true if the character at the specified index is encoded
+     */
+    private static boolean isEncoded(String source, int index) {
+        final char c = source.charAt(index);
+        return c == '\\' || c == ',' || c == ';' || c == '\n'
+                || c == '\r' && index + 1 < source.length() && source.charAt(index + 1) == '\n';
     }
 
     @Override
@@ -33,6 +33,8 @@ package net.fortuna.ical4j.model;
 
 import org.jspecify.annotations.NonNull;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.util.*;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -46,6 +48,11 @@ public class PropertyList implements ContentCollection<Property, PropertyList>,
 
     private final List<Property> properties;
 
+    /**
+     * An index of the list by name, created on first lookup by name where the list is large enough to be indexed.
+     */
+    private transient volatile ContentIndex<Property> index;
+
     /**
      * Default constructor.
      */
@@ -59,28 +66,67 @@ public class PropertyList implements ContentCollection<Property, PropertyList>,
      */
     
     public PropertyList(@NonNull List<Property> properties) {
-        this.properties = Collections.unmodifiableList(properties);
+        // the shared empty list is already unmodifiable..
+        this.properties = properties == Collections.EMPTY_LIST ? Collections.emptyList()
+                : Collections.unmodifiableList(properties);
+    }
+
+    /**
+     * @param properties the elements of the list
+     * @return a list of the specified elements that retains no unused capacity
+     */
+    static PropertyList copyOf(List<Property> properties) {
+        return new PropertyList(SharedArrayList.copyOf(properties));
+    }
+
+    /**
+     * Immutable properties are shared with the copy (see {@link Property#copy()}), and as the list is also immutable
+     * it is itself shared where all of its properties are immutable.
+     *
+     * @return a list of copies of the properties of this list
+     */
+    PropertyList copy() {
+        final var copies = new Property[properties.size()];
+        var shared = true;
+        for (int i = 0; i < copies.length; i++) {
+            copies[i] = properties.get(i).copy();
+            shared &= copies[i] == properties.get(i);
+        }
+        return shared ? this : copyOf(Arrays.asList(copies));
+    }
+
+    /**
+     * @param properties an unmodifiable list that may share its backing array with other lists
+     */
+    private PropertyList(SharedArrayList<Property> properties) {
+        this.properties = properties;
     }
 
     @Override
     public PropertyList add(@NonNull Property content) {
-        List<Property> copy = new ArrayList<>(properties);
-        copy.add(content);
-        return new PropertyList(copy);
+        final var list = new PropertyList(SharedArrayList.append(properties, content));
+        final var index = this.index;
+        if (index != null) {
+            list.index = index.add(content);
+        }
+        return list;
     }
 
     @Override
     public PropertyList addAll(@NonNull Collection<Property> content) {
-        List<Property> copy = new ArrayList<>(properties);
-        copy.addAll(content);
-        return new PropertyList(copy);
+        return new PropertyList(SharedArrayList.appendAll(properties, content));
     }
 
     @Override
     public PropertyList remove(Property content) {
         List<Property> copy = new ArrayList<>(properties);
         if (copy.remove(content)) {
-            return new PropertyList(copy);
+            final var list = new PropertyList(copy);
+            final var index = this.index;
+            if (index != null) {
+                list.index = index.remove(content, list.getAll());
+            }
+            return list;
         } else {
             return this;
         }
@@ -115,6 +161,42 @@ public class PropertyList implements ContentCollection<Property, PropertyList>,
         return properties;
     }
 
+    /**
+     * Content of larger lists is located via an index of the list by name, such that lookup by name doesn't
+     * iterate the list.
+     * <p/>
+     * {@inheritDoc}
+     */
+    @Override
+    public <R extends Property> List<R> get(String... names) {
+        if (names.length > 0) {
+            final var index = getIndex();
+            return index != null ? index.get(names) : ContentIndex.scan(properties, names);
+        }
+        return ContentCollection.super.get();
+    }
+
+    /**
+     * Content of larger lists is located via an index of the list by name, such that lookup by name doesn't
+     * iterate the list.
+     * <p/>
+     * {@inheritDoc}
+     */
+    @Override
+    public <R extends Property> Optional<R> getFirst(String name) {
+        final var index = getIndex();
+        return index != null ? index.getFirst(name) : ContentIndex.scanFirst(properties, name);
+    }
+
+    private ContentIndex<Property> getIndex() {
+        var index = this.index;
+        if (index == null && ContentIndex.isIndexed(properties)) {
+            index = ContentIndex.of(properties);
+            this.index = index;
+        }
+        return index;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -123,6 +205,17 @@ public class PropertyList implements ContentCollection<Property, PropertyList>,
         return properties.stream().map(Property::toString).collect(Collectors.joining(""));
     }
 
+    /**
+     * Writes the content lines of the properties to the specified writer, consistent with {@link #toString()}.
+     * @param out the writer to write the properties to
+     * @throws IOException where an error occurs writing to the writer
+     */
+    public final void write(final Writer out) throws IOException {
+        for (var property : properties) {
+            property.write(out);
+        }
+    }
+
     /**
      * Returns the first property of specified name.
      * @param aName name of property to return
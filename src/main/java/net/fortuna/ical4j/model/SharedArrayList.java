@@ -0,0 +1,115 @@
+package net.fortuna.ical4j.model;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * An unmodifiable list that shares its backing array with the lists appended to it. Appending to a list claims the
+ * unused capacity of the backing array following the elements of the list, such that a sequence of appends (e.g.
+ * <code>list = list.add(a).add(b)</code>) copies the backing array only as it grows, rather than for every append.
+ * Where the capacity following a list has already been claimed by an append to the same list, the elements are
+ * copied to a new backing array.
+ * <p/>
+ * As each list only exposes the elements preceding its size, which are never modified, lists are immutable and may
+ * be shared between threads.
+ *
+ * @param <E> the element type
+ */
+final class SharedArrayList<E> extends AbstractList<E> implements RandomAccess, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final int MIN_CAPACITY = 4;
+
+    private final transient Object[] elements;
+
+    private final transient int size;
+
+    /**
+     * The number of elements claimed in the backing array, shared by all lists of the backing array. A list without
+     * unused capacity has no counter, as there is nothing to claim.
+     */
+    private final transient AtomicInteger claimed;
+
+    private SharedArrayList(Object[] elements, int size, AtomicInteger claimed) {
+        this.elements = elements;
+        this.size = size;
+        this.claimed = claimed;
+    }
+
+    /**
+     * @param elements the elements of the list
+     * @param <E> the element type
+     * @return a new list containing the specified elements, without unused capacity
+     */
+    static <E> SharedArrayList<E> copyOf(Collection<? extends E> elements) {
+        final var copy = elements.toArray();
+        return new SharedArrayList<>(copy, copy.length, null);
+    }
+
+    /**
+     * @param list a list
+     * @param element an element to append
+     * @param <E> the element type
+     * @return a new list containing the elements of the specified list followed by the specified element
+     */
+    static <E> SharedArrayList<E> append(List<? extends E> list, E element) {
+        return appendAll(list, Collections.singletonList(element));
+    }
+
+    /**
+     * @param list a list
+     * @param elements elements to append
+     * @param <E> the element type
+     * @return a new list containing the elements of the specified list followed by the specified elements
+     */
+    @SuppressWarnings("unchecked")
+    static <E> SharedArrayList<E> appendAll(List<? extends E> list, Collection<? extends E> elements) {
+        final var appended = elements.toArray();
+        if (list instanceof SharedArrayList) {
+            final var shared = (SharedArrayList<E>) list;
+            final int size = shared.size + appended.length;
+            if (size <= shared.elements.length && shared.claimed != null
+                    && shared.claimed.compareAndSet(shared.size, size)) {
+                System.arraycopy(appended, 0, shared.elements, shared.size, appended.length);
+                return new SharedArrayList<>(shared.elements, size, shared.claimed);
+            }
+        }
+        final int size = list.size() + appended.length;
+        final var copy = Arrays.copyOf(list.toArray(), Math.max(size + (size >> 1), MIN_CAPACITY));
+        System.arraycopy(appended, 0, copy, list.size(), appended.length);
+        return new SharedArrayList<>(copy, size, new AtomicInteger(size));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        Objects.checkIndex(index, size);
+        return (E) elements[index];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Object[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    /**
+     * A list is serialised as an unmodifiable copy of its elements, excluding the unused capacity of the backing array.
+     */
+    private Object writeReplace() {
+        return Collections.unmodifiableList(new ArrayList<>(this));
+    }
+}
@@ -36,8 +36,6 @@ import net.fortuna.ical4j.validate.ComponentValidator;
 import net.fortuna.ical4j.validate.ValidationException;
 import net.fortuna.ical4j.validate.ValidationResult;
 
-import java.util.stream.Collectors;
-
 /**
  * $Id$ [05-Apr-2004]
  * <p/>
@@ -119,8 +117,7 @@ public class Available extends Component implements DescriptivePropertyAccessor,
 
     @Override
     public Available copy() {
-        return newFactory().createComponent(new PropertyList(getProperties().parallelStream()
-                        .map(Property::copy).collect(Collectors.toList())));
+        return newFactory().createComponent(copyProperties());
     }
 
     @Override
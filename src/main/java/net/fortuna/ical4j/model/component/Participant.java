@@ -36,7 +36,6 @@ import net.fortuna.ical4j.model.property.*;
 import net.fortuna.ical4j.validate.*;
 
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 import static net.fortuna.ical4j.model.Property.*;
 import static net.fortuna.ical4j.validate.ValidationRule.ValidationType.One;
@@ -243,10 +242,7 @@ public class Participant extends Component implements Prototype<Participant>, Co
 
     @Override
     public Participant copy() {
-        return newFactory().createComponent(new PropertyList(getProperties().parallelStream()
-                        .map(Property::copy).collect(Collectors.toList())),
-                new ComponentList<>(getComponents().parallelStream()
-                        .map(Component::copy).collect(Collectors.toList())));
+        return newFactory().createComponent(copyProperties(), copyComponents(getComponentList()));
     }
 
     @Override
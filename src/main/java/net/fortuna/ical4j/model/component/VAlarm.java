@@ -40,7 +40,6 @@ import net.fortuna.ical4j.validate.ValidationResult;
 import java.time.Instant;
 import java.time.temporal.TemporalAmount;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 import static net.fortuna.ical4j.model.Property.*;
 
@@ -331,10 +330,7 @@ public class VAlarm extends Component implements Prototype<VAlarm>, ComponentCon
 
     @Override
     public VAlarm copy() {
-        return newFactory().createComponent(new PropertyList(getProperties().parallelStream()
-                        .map(Property::copy).collect(Collectors.toList())),
-                new ComponentList<>(getComponents().parallelStream()
-                        .map(Component::copy).collect(Collectors.toList())));
+        return newFactory().createComponent(copyProperties(), copyComponents(getComponentList()));
     }
 
     public static class Factory extends Content.Factory implements ComponentFactory<VAlarm> {
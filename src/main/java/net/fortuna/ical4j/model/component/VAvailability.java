@@ -38,7 +38,6 @@ import net.fortuna.ical4j.validate.ValidationException;
 import net.fortuna.ical4j.validate.ValidationResult;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * $Id$ [Apr 5, 2004]
@@ -168,10 +167,7 @@ public class VAvailability extends CalendarComponent implements Prototype<VAvail
 
     @Override
     public VAvailability copy() {
-        return newFactory().createComponent(new PropertyList(getProperties().parallelStream()
-                        .map(Property::copy).collect(Collectors.toList())),
-                new ComponentList<>(getComponents().parallelStream()
-                        .map(Component::copy).collect(Collectors.toList())));
+        return newFactory().createComponent(copyProperties(), copyComponents(getComponentList()));
     }
 
     /**
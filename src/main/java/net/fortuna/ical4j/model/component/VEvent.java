@@ -41,7 +41,6 @@ import org.apache.commons.lang3.builder.HashCodeBuilder;
 import java.time.temporal.Temporal;
 import java.time.temporal.TemporalAmount;
 import java.util.*;
-import java.util.stream.Collectors;
 
 import static net.fortuna.ical4j.model.Property.*;
 import static net.fortuna.ical4j.model.property.immutable.ImmutableStatus.*;
@@ -525,10 +524,7 @@ public class VEvent extends CalendarComponent implements Prototype<VEvent>, Comp
 
     @Override
     public VEvent copy() {
-        return newFactory().createComponent(new PropertyList(getProperties().parallelStream()
-                        .map(Property::copy).collect(Collectors.toList())),
-                new ComponentList<>(getComponents().parallelStream()
-                        .map(Component::copy).collect(Collectors.toList())));
+        return newFactory().createComponent(copyProperties(), copyComponents(getComponentList()));
     }
 
     public static class Factory extends Content.Factory implements ComponentFactory<VEvent> {
@@ -570,10 +570,7 @@ public class VFreeBusy extends CalendarComponent implements Prototype<VFreeBusy>
 
     @Override
     public VFreeBusy copy() {
-        return newFactory().createComponent(new PropertyList(getProperties().parallelStream()
-                        .map(Property::copy).collect(Collectors.toList())),
-                new ComponentList<>(getComponents().parallelStream()
-                        .map(Component::copy).collect(Collectors.toList())));
+        return newFactory().createComponent(copyProperties(), copyComponents(getComponentList()));
     }
 
     /**
@@ -40,7 +40,6 @@ import net.fortuna.ical4j.validate.*;
 
 import java.time.temporal.Temporal;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 import static net.fortuna.ical4j.model.Property.*;
 
@@ -205,10 +204,7 @@ public class VJournal extends CalendarComponent implements Prototype<VJournal>,
 
     @Override
     public VJournal copy() {
-        return newFactory().createComponent(new PropertyList(getProperties().parallelStream()
-                        .map(Property::copy).collect(Collectors.toList())),
-                new ComponentList<>(getComponents().parallelStream()
-                        .map(Component::copy).collect(Collectors.toList())));
+        return newFactory().createComponent(copyProperties(), copyComponents(getComponentList()));
     }
 
     /**
@@ -4,8 +4,6 @@ import net.fortuna.ical4j.model.*;
 import net.fortuna.ical4j.validate.ValidationException;
 import net.fortuna.ical4j.validate.ValidationResult;
 
-import java.util.stream.Collectors;
-
 /*
  * Copyright (c) 2025, Ben Fortuna
  * All rights reserved.
@@ -54,8 +52,7 @@ public class VStatus extends Component implements Prototype<VStatus> {
 
     @Override
     public VStatus copy() {
-        return newFactory().createComponent(new PropertyList(getProperties().parallelStream()
-                .map(Property::copy).collect(Collectors.toList())));
+        return newFactory().createComponent(copyProperties());
     }
 
     @Override
@@ -131,6 +131,7 @@ public class Attendee extends Property {
      */
     @Override
     public final void setValue(final String aValue) {
+        discardDeferredValue();
         try {
             calAddress = Uris.create(aValue);
         } catch (URISyntaxException e) {
@@ -150,6 +151,7 @@ public class Attendee extends Property {
      * @return Returns the calAddress.
      */
     public final URI getCalAddress() {
+        resolveDeferredValue();
         return calAddress;
     }
 
@@ -165,9 +167,15 @@ public class Attendee extends Property {
      * @param calAddress The calAddress to set.
      */
     public final void setCalAddress(final URI calAddress) {
+        discardDeferredValue();
         this.calAddress = calAddress;
     }
 
+    @Override
+    protected boolean isDeferredValueSupported() {
+        return true;
+    }
+
     @Override
     protected PropertyFactory<Attendee> newFactory() {
         return new Factory();
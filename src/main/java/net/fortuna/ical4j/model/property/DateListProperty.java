@@ -117,6 +117,7 @@ public abstract class DateListProperty<T extends Temporal> extends Property {
      */
     @SuppressWarnings("unchecked")
     public final List<T> getDates() {
+        resolveDeferredValue();
         Optional<TzId> tzId = getParameter(Parameter.TZID);
         if (tzId.isPresent()) {
             //xxx: type T should always be ZonedDateTime where TZID parameter is specified..
@@ -132,6 +133,7 @@ public abstract class DateListProperty<T extends Temporal> extends Property {
      */
     @Override
     public void setValue(final String aValue) {
+        discardDeferredValue();
         Optional<TzId> tzId = getParameter(Parameter.TZID);
         if (tzId.isPresent()) {
             dates = (DateList<T>) DateList.parse(aValue, tzId.get(), timeZoneRegistry);
@@ -147,6 +149,7 @@ public abstract class DateListProperty<T extends Temporal> extends Property {
      */
     @Override
     public String getValue() {
+        resolveDeferredValue();
         Optional<TzId> tzId = getParameter(Parameter.TZID);
         if (tzId.isPresent()) {
             return dates.toString(tzId.get().toZoneId(timeZoneRegistry));
@@ -157,6 +160,7 @@ public abstract class DateListProperty<T extends Temporal> extends Property {
 
     public void setTimeZoneRegistry(TimeZoneRegistry timeZoneRegistry) {
         this.timeZoneRegistry = timeZoneRegistry;
+        discardMemo();
     }
 
     /**
@@ -167,4 +171,15 @@ public abstract class DateListProperty<T extends Temporal> extends Property {
     public void setDefaultTimeZone(ZoneId defaultTimeZone) {
         this.defaultTimeZone = defaultTimeZone;
     }
+
+    @Override
+    protected boolean isDeferredValueSupported() {
+        return true;
+    }
+
+    @Override
+    protected void prepareCopy(Property copy) {
+        ((DateListProperty<?>) copy).setTimeZoneRegistry(timeZoneRegistry);
+        ((DateListProperty<?>) copy).setDefaultTimeZone(defaultTimeZone);
+    }
 }
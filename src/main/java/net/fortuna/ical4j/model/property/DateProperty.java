@@ -155,6 +155,7 @@ public abstract class DateProperty<T extends Temporal> extends Property {
      */
     @SuppressWarnings("unchecked")
     public T getDate() {
+        resolveDeferredValue();
         if (date != null) {
             Optional<TzId> tzId = getParameter(Parameter.TZID);
             if (tzId.isPresent() && shouldApplyTimezone()) {
@@ -184,6 +185,7 @@ public abstract class DateProperty<T extends Temporal> extends Property {
      * @param date The date to set.
      */
     public void setDate(T date) {
+        discardDeferredValue();
         if (date != null) {
             this.date = new TemporalAdapter<>(date, timeZoneRegistry);
             refreshParameters();
@@ -204,6 +206,7 @@ public abstract class DateProperty<T extends Temporal> extends Property {
     @Override
     @SuppressWarnings("unchecked")
     public void setValue(final String value) throws DateTimeParseException {
+        discardDeferredValue();
         // value can be either a date-time or a date..
         if (value != null && !value.isEmpty()) {
             Optional<TzId> tzId = getParameter(Parameter.TZID);
@@ -259,6 +262,7 @@ public abstract class DateProperty<T extends Temporal> extends Property {
      */
     @Override
     public String getValue() {
+        resolveDeferredValue();
         Optional<TzId> tzId = getParameter(Parameter.TZID);
         if (tzId.isPresent() && shouldApplyTimezone()) {
             try {
@@ -281,6 +285,7 @@ public abstract class DateProperty<T extends Temporal> extends Property {
 
     public void setTimeZoneRegistry(TimeZoneRegistry timeZoneRegistry) {
         this.timeZoneRegistry = timeZoneRegistry;
+        discardMemo();
     }
 
     /**
@@ -289,6 +294,7 @@ public abstract class DateProperty<T extends Temporal> extends Property {
      * parameters accordingly.
      */
     public void refreshParameters() {
+        resolveDeferredValue();
         T temporal = date.getTemporal();
         if (!TemporalAdapter.isDateTimePrecision(temporal)) {
             if (Value.DATE.equals(defaultValueParam)) {
@@ -323,6 +329,20 @@ public abstract class DateProperty<T extends Temporal> extends Property {
         this.defaultTimeZone = defaultTimeZone;
     }
 
+    @Override
+    protected boolean isDeferredValueSupported() {
+        return true;
+    }
+
+    @Override
+    protected void prepareCopy(Property copy) {
+        // don't set timezone on UTC-formatted properties..
+        if (!(this instanceof UtcProperty)) {
+            ((DateProperty<?>) copy).setTimeZoneRegistry(timeZoneRegistry);
+            ((DateProperty<?>) copy).setDefaultTimeZone(defaultTimeZone);
+        }
+    }
+
     private boolean shouldApplyTimezone() {
         Optional<Value> value = getParameter(VALUE);
         return !Optional.of(Value.DATE).equals(value) && !isUtc();
@@ -342,6 +362,7 @@ public abstract class DateProperty<T extends Temporal> extends Property {
      * @return true if the property is in UTC time, otherwise false
      */
     public final boolean isUtc() {
+        resolveDeferredValue();
         return date != null && TemporalAdapter.isUtc(date.getTemporal());
     }
 
@@ -194,6 +194,7 @@ public class Duration extends Property {
      * @return Returns the duration.
      */
     public final TemporalAmount getDuration() {
+        resolveDeferredValue();
         return duration.getDuration();
     }
 
@@ -202,6 +203,7 @@ public class Duration extends Property {
      */
     @Override
     public final void setValue(final String aValue) {
+        discardDeferredValue();
         duration = TemporalAmountAdapter.parse(aValue);
     }
 
@@ -210,6 +212,7 @@ public class Duration extends Property {
      */
     @Override
     public final String getValue() {
+        resolveDeferredValue();
         return duration.toString();
     }
 
@@ -217,6 +220,7 @@ public class Duration extends Property {
      * @param duration The duration to set.
      */
     public final void setDuration(final TemporalAmount duration) {
+        discardDeferredValue();
         this.duration = new TemporalAmountAdapter(duration);
     }
 
@@ -225,6 +229,11 @@ public class Duration extends Property {
         return DateTimePropertyValidators.DURATION.validate(this);
     }
 
+    @Override
+    protected boolean isDeferredValueSupported() {
+        return true;
+    }
+
     @Override
     protected PropertyFactory<Duration> newFactory() {
         return new Factory();
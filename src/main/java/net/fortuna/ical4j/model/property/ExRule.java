@@ -93,6 +93,7 @@ public class ExRule<T extends Temporal> extends Property {
      * @return Returns the recur.
      */
     public final Recur<T> getRecur() {
+        resolveDeferredValue();
         return recur;
     }
 
@@ -101,6 +102,7 @@ public class ExRule<T extends Temporal> extends Property {
      */
     @Override
     public final void setValue(final String aValue) {
+        discardDeferredValue();
         recur = new Recur<>(aValue);
     }
 
@@ -116,12 +118,18 @@ public class ExRule<T extends Temporal> extends Property {
      * @param recur The recur to set.
      */
     public final void setRecur(final Recur<T> recur) {
+        discardDeferredValue();
         this.recur = recur;
     }
 
     @Override
     public ValidationResult validate() throws ValidationException {
-        return new RecurValidator().validate(recur);
+        return new RecurValidator().validate(getRecur());
+    }
+
+    @Override
+    protected boolean isDeferredValueSupported() {
+        return true;
     }
 
     @Override
@@ -191,6 +191,7 @@ public class Organizer extends Property {
      * @return Returns the calAddress.
      */
     public final URI getCalAddress() {
+        resolveDeferredValue();
         return calAddress;
     }
 
@@ -199,6 +200,7 @@ public class Organizer extends Property {
      */
     @Override
     public final void setValue(final String aValue) {
+        discardDeferredValue();
         try {
             calAddress = Uris.create(aValue);
         } catch (URISyntaxException e) {
@@ -218,9 +220,15 @@ public class Organizer extends Property {
      * @param calAddress The calAddress to set.
      */
     public final void setCalAddress(final URI calAddress) {
+        discardDeferredValue();
         this.calAddress = calAddress;
     }
 
+    @Override
+    protected boolean isDeferredValueSupported() {
+        return true;
+    }
+
     @Override
     protected PropertyFactory<Organizer> newFactory() {
         return new Factory();
@@ -207,6 +207,7 @@ public class RDate<T extends Temporal> extends DateListProperty<T> {
      * @return Returns the period list.
      */
     public final Optional<Set<Period<T>>> getPeriods() {
+        resolveDeferredValue();
         if (periods != null) {
             return Optional.of(periods.getPeriods());
         } else {
@@ -220,6 +221,7 @@ public class RDate<T extends Temporal> extends DateListProperty<T> {
     @Override
     public final void setValue(final String aValue) {
         if (getParameter(Parameter.VALUE).equals(Optional.of(Value.PERIOD))) {
+            discardDeferredValue();
             periods = PeriodList.parse(aValue);
         } else {
             super.setValue(aValue);
@@ -231,6 +233,7 @@ public class RDate<T extends Temporal> extends DateListProperty<T> {
      */
     @Override
     public final String getValue() {
+        resolveDeferredValue();
         if (periods != null) {
             return Strings.valueOf(periods);
         }
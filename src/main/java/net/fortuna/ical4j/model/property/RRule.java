@@ -106,10 +106,12 @@ public class RRule<T extends Temporal> extends Property {
      * @return Returns the recur.
      */
     public final Recur<T> getRecur() {
+        resolveDeferredValue();
         return recur;
     }
 
     public void setRecur(Recur<T> recur) {
+        discardDeferredValue();
         this.recur = recur;
     }
 
@@ -118,6 +120,7 @@ public class RRule<T extends Temporal> extends Property {
      */
     @Override
     public void setValue(final String aValue) {
+        discardDeferredValue();
         recur = new Recur<>(aValue);
     }
 
@@ -131,10 +134,15 @@ public class RRule<T extends Temporal> extends Property {
 
     @Override
     public ValidationResult validate() throws ValidationException {
-        return new RecurValidator().validate(recur).merge(
+        return new RecurValidator().validate(getRecur()).merge(
                 RecurrencePropertyValidators.RRULE.validate(this));
     }
 
+    @Override
+    protected boolean isDeferredValueSupported() {
+        return true;
+    }
+
     @Override
     protected PropertyFactory<RRule<T>> newFactory() {
         return new Factory<>();
@@ -117,7 +117,7 @@ public class ResourceType extends Property implements Encodable {
      */
     public ResourceType(final ParameterList aList, final String aValue) {
         super(RESOURCE_TYPE, aList);
-        setValue(aValue);
+        this.value = aValue;
     }
 
     /**
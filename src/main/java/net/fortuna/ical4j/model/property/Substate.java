@@ -48,7 +48,7 @@ public class Substate extends Property {
 
     public Substate(String value) {
         super(SUBSTATE);
-        setValue(value);
+        this.value = value;
     }
 
     public Substate(ParameterList aList) {
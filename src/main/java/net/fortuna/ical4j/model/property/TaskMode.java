@@ -48,7 +48,7 @@ public class TaskMode extends Property {
 
     public TaskMode(String value) {
         super(TASK_MODE);
-        setValue(value);
+        this.value = value;
     }
 
     public TaskMode(ParameterList aList) {
@@ -257,6 +257,7 @@ public class Trigger extends DateProperty<Instant> implements UtcProperty {
      * @return Returns the duration.
      */
     public final TemporalAmount getDuration() {
+        resolveDeferredValue();
         if (duration != null) {
             return duration.getDuration();
         }
@@ -283,6 +284,7 @@ public class Trigger extends DateProperty<Instant> implements UtcProperty {
      */
     @Override
     public final String getValue() {
+        resolveDeferredValue();
         if (duration != null) {
             return duration.toString();
         }
@@ -303,6 +305,7 @@ public class Trigger extends DateProperty<Instant> implements UtcProperty {
      * @param duration The duration to set.
      */
     public final void setDuration(final TemporalAmount duration) {
+        discardDeferredValue();
         this.duration = new TemporalAmountAdapter(duration);
         super.setDate(null);
         // duration is the default value type for Trigger..
@@ -131,6 +131,7 @@ public class Url extends Property {
      * @return Returns the uri.
      */
     public final URI getUri() {
+        resolveDeferredValue();
         return uri;
     }
 
@@ -139,6 +140,7 @@ public class Url extends Property {
      */
     @Override
     public final void setValue(final String aValue) {
+        discardDeferredValue();
         try {
             uri = Uris.create(aValue);
         } catch (URISyntaxException e) {
@@ -158,6 +160,7 @@ public class Url extends Property {
      * @param uri The uri to set.
      */
     public final void setUri(final URI uri) {
+        discardDeferredValue();
         this.uri = uri;
     }
 
@@ -166,6 +169,11 @@ public class Url extends Property {
         return RelationshipPropertyValidators.URL.validate(this);
     }
 
+    @Override
+    protected boolean isDeferredValueSupported() {
+        return true;
+    }
+
     @Override
     protected PropertyFactory<Url> newFactory() {
         return new Factory();
@@ -36,6 +36,8 @@ package net.fortuna.ical4j.transform.itip;
 import net.fortuna.ical4j.model.Calendar;
 import net.fortuna.ical4j.model.ChangeManagementPropertyModifiers;
 import net.fortuna.ical4j.model.ComponentGroup;
+import net.fortuna.ical4j.model.ComponentKey;
+import net.fortuna.ical4j.model.ComponentList;
 import net.fortuna.ical4j.model.Property;
 import net.fortuna.ical4j.model.component.CalendarComponent;
 import net.fortuna.ical4j.model.property.Method;
@@ -131,10 +133,17 @@ public abstract class AbstractMethodTransformer implements Transformer<Calendar>
         // ensure method property is set..
         object.with(METHOD, method);
 
-        Uid alignedUid = null;
+        // ensure uid property is set for all components..
         for (var component : object.getComponents()) {
-            // ensure uid property is set for all components..
             component.with(UIDGEN, uidGenerator);
+        }
+
+        // components are grouped via a single index of the components by UID, which is unaffected by the
+        // modifications below..
+        var componentsByUid = new ComponentList<CalendarComponent>(object.getComponents()).index(ComponentKey.UID);
+
+        Uid alignedUid = null;
+        for (var component : object.getComponents()) {
             component.with(DTSTAMP, Instant.now());
 
             // check if calendar contains different object instances
@@ -148,8 +157,9 @@ public abstract class AbstractMethodTransformer implements Transformer<Calendar>
             // check if calendar contains different object types..
             //xxx: implement
 
+            // the group is limited to components with the same UID..
             ComponentGroup<CalendarComponent> componentGroup = new ComponentGroup<>(
-                    object.getComponents(), uid);
+                    new ComponentList<>(componentsByUid.<CalendarComponent>get(uid.getValue())), uid);
 
             // if a calendar component has already been published previously
             // update the sequence number..
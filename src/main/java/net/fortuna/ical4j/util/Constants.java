@@ -32,16 +32,11 @@
 package net.fortuna.ical4j.util;
 
 import net.fortuna.ical4j.model.Property;
+import net.fortuna.ical4j.model.property.immutable.*;
 
-import static net.fortuna.ical4j.model.property.immutable.ImmutableAction.*;
-import static net.fortuna.ical4j.model.property.immutable.ImmutableCalScale.GREGORIAN;
-import static net.fortuna.ical4j.model.property.immutable.ImmutableClazz.*;
-import static net.fortuna.ical4j.model.property.immutable.ImmutableMethod.*;
-import static net.fortuna.ical4j.model.property.immutable.ImmutablePriority.*;
-import static net.fortuna.ical4j.model.property.immutable.ImmutableStatus.*;
-import static net.fortuna.ical4j.model.property.immutable.ImmutableTransp.OPAQUE;
-import static net.fortuna.ical4j.model.property.immutable.ImmutableTransp.TRANSPARENT;
-import static net.fortuna.ical4j.model.property.immutable.ImmutableVersion.VERSION_2_0;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
 
 /**
  * $Id$
@@ -54,12 +49,53 @@ import static net.fortuna.ical4j.model.property.immutable.ImmutableVersion.VERSI
  */
 public final class Constants {
 
+    /**
+     * Constant properties keyed by upper-case property name and value. Where constants share a name and value (e.g.
+     * STATUS:CANCELLED) the first constant is retained.
+     */
+    private static final Map<String, Map<String, Property>> PROPERTIES = new HashMap<>();
+
+    static {
+        register(ImmutableAction.AUDIO, ImmutableAction.DISPLAY, ImmutableAction.EMAIL, ImmutableAction.PROCEDURE);
+        register(ImmutableCalScale.GREGORIAN);
+        register(ImmutableClazz.CONFIDENTIAL, ImmutableClazz.PRIVATE, ImmutableClazz.PUBLIC);
+        register(ImmutableMethod.ADD, ImmutableMethod.CANCEL, ImmutableMethod.COUNTER, ImmutableMethod.DECLINE_COUNTER,
+                ImmutableMethod.PUBLISH, ImmutableMethod.REFRESH, ImmutableMethod.REPLY, ImmutableMethod.REQUEST);
+        register(ImmutablePriority.HIGH, ImmutablePriority.LOW, ImmutablePriority.MEDIUM, ImmutablePriority.UNDEFINED);
+        register(ImmutableStatus.VEVENT_CANCELLED, ImmutableStatus.VEVENT_CONFIRMED, ImmutableStatus.VEVENT_TENTATIVE,
+                ImmutableStatus.VJOURNAL_CANCELLED, ImmutableStatus.VJOURNAL_DRAFT, ImmutableStatus.VJOURNAL_FINAL,
+                ImmutableStatus.VTODO_CANCELLED, ImmutableStatus.VTODO_COMPLETED, ImmutableStatus.VTODO_IN_PROCESS,
+                ImmutableStatus.VTODO_NEEDS_ACTION, ImmutableStatus.VTODO_PENDING, ImmutableStatus.VTODO_FAILED);
+        register(ImmutableTransp.OPAQUE, ImmutableTransp.TRANSPARENT);
+        register(ImmutableVersion.VERSION_2_0);
+        register(ImmutableBusyType.BUSY, ImmutableBusyType.BUSY_UNAVAILABLE, ImmutableBusyType.BUSY_TENTATIVE);
+        register(ImmutableParticipantType.ACTIVE, ImmutableParticipantType.INACTIVE, ImmutableParticipantType.SPONSOR,
+                ImmutableParticipantType.CONTACT, ImmutableParticipantType.BOOKING_CONTACT,
+                ImmutableParticipantType.EMERGENCY_CONTACT, ImmutableParticipantType.PUBLICITY_CONTACT,
+                ImmutableParticipantType.PLANNER_CONTACT, ImmutableParticipantType.PERFORMER,
+                ImmutableParticipantType.SPEAKER);
+        register(ImmutableProximity.ARRIVE, ImmutableProximity.DEPART, ImmutableProximity.CONNECT,
+                ImmutableProximity.DISCONNECT);
+        register(ImmutableResourceType.ROOM, ImmutableResourceType.PROJECTOR,
+                ImmutableResourceType.REMOTE_CONFERENCE_AUDIO, ImmutableResourceType.REMOTE_CONFERENCE_VIDEO);
+        register(ImmutableSubstate.OK, ImmutableSubstate.ERROR, ImmutableSubstate.SUSPENDED);
+        register(ImmutableTaskMode.AUTOMATIC_COMPLETION, ImmutableTaskMode.AUTOMATIC_FAILURE,
+                ImmutableTaskMode.AUTOMATIC, ImmutableTaskMode.SERVER, ImmutableTaskMode.CLIENT);
+    }
+
     /**
      * Constructor made private to enforce static nature.
      */
     private Constants() {
     }
-    
+
+    private static void register(Property... constants) {
+        for (var constant : constants) {
+            PROPERTIES.computeIfAbsent(constant.getName().toUpperCase(Locale.ROOT), k -> new HashMap<>())
+                    .putIfAbsent(constant.getValue(), constant);
+        }
+    }
+
     /**
      * Returns a constant equivalent to the specified property
      * if one is applicable. Otherwise will return the specified
@@ -69,106 +105,13 @@ public final class Constants {
      * constant exists
      */
     public static Property forProperty(final Property property) {
-        Property retVal = property;
-        if (AUDIO.equals(property)) {
-            retVal = AUDIO;
-        }
-        else if (DISPLAY.equals(property)) {
-            retVal = DISPLAY;
-        }
-        else if (EMAIL.equals(property)) {
-            retVal = EMAIL;
-        }
-        else if (PROCEDURE.equals(property)) {
-            retVal = PROCEDURE;
-        }
-        else if (GREGORIAN.equals(property)) {
-            retVal = GREGORIAN;
-        }
-        else if (CONFIDENTIAL.equals(property)) {
-            retVal = CONFIDENTIAL;
-        }
-        else if (PRIVATE.equals(property)) {
-            retVal = PRIVATE;
-        }
-        else if (PUBLIC.equals(property)) {
-            retVal = PUBLIC;
-        }
-        else if (ADD.equals(property)) {
-            retVal = ADD;
-        }
-        else if (CANCEL.equals(property)) {
-            retVal = CANCEL;
-        }
-        else if (COUNTER.equals(property)) {
-            retVal = COUNTER;
-        }
-        else if (DECLINE_COUNTER.equals(property)) {
-            retVal = DECLINE_COUNTER;
-        }
-        else if (PUBLISH.equals(property)) {
-            retVal = PUBLISH;
-        }
-        else if (REFRESH.equals(property)) {
-            retVal = REFRESH;
-        }
-        else if (REPLY.equals(property)) {
-            retVal = REPLY;
-        }
-        else if (REQUEST.equals(property)) {
-            retVal = REQUEST;
-        }
-        else if (HIGH.equals(property)) {
-            retVal = HIGH;
-        }
-        else if (LOW.equals(property)) {
-            retVal = LOW;
-        }
-        else if (MEDIUM.equals(property)) {
-            retVal = MEDIUM;
-        }
-        else if (UNDEFINED.equals(property)) {
-            retVal = UNDEFINED;
-        }
-        else if (VEVENT_CANCELLED.equals(property)) {
-            retVal = VEVENT_CANCELLED;
-        }
-        else if (VEVENT_CONFIRMED.equals(property)) {
-            retVal = VEVENT_CONFIRMED;
-        }
-        else if (VEVENT_TENTATIVE.equals(property)) {
-            retVal = VEVENT_TENTATIVE;
-        }
-        else if (VJOURNAL_CANCELLED.equals(property)) {
-            retVal = VJOURNAL_CANCELLED;
-        }
-        else if (VJOURNAL_DRAFT.equals(property)) {
-            retVal = VJOURNAL_DRAFT;
-        }
-        else if (VJOURNAL_FINAL.equals(property)) {
-            retVal = VJOURNAL_FINAL;
-        }
-        else if (VTODO_CANCELLED.equals(property)) {
-            retVal = VTODO_CANCELLED;
-        }
-        else if (VTODO_COMPLETED.equals(property)) {
-            retVal = VTODO_COMPLETED;
-        }
-        else if (VTODO_IN_PROCESS.equals(property)) {
-            retVal = VTODO_IN_PROCESS;
-        }
-        else if (VTODO_NEEDS_ACTION.equals(property)) {
-            retVal = VTODO_NEEDS_ACTION;
-        }
-        else if (OPAQUE.equals(property)) {
-            retVal = OPAQUE;
-        }
-        else if (TRANSPARENT.equals(property)) {
-            retVal = TRANSPARENT;
-        }
-        else if (VERSION_2_0.equals(property)) {
-            retVal = VERSION_2_0;
-        }
-        return retVal;
+        final var constants = PROPERTIES.get(property.getName().toUpperCase(Locale.ROOT));
+        if (constants != null) {
+            final var constant = constants.get(property.getValue());
+            if (constant != null && constant.equals(property)) {
+                return constant;
+            }
+        }
+        return property;
     }
 }
@@ -1,10 +1,16 @@
 package net.fortuna.ical4j.data
 
 import net.fortuna.ical4j.model.Calendar
+import net.fortuna.ical4j.model.CalendarException
+import net.fortuna.ical4j.model.TimeZoneRegistryFactory
 import net.fortuna.ical4j.util.CompatibilityHints
 import spock.lang.Specification
 
+import java.nio.ByteBuffer
+import java.nio.channels.Channels
 import java.nio.charset.Charset
+import java.util.concurrent.ForkJoinPool
+import java.util.stream.Collectors
 
 /**
  * Created by fortuna on 4/07/2016.
@@ -115,4 +121,403 @@ END:VCALENDAR\r\n'''
         def output = calendar as String
         output as String == input
     }
+
+    def 'test streaming components'() {
+        given: 'calendar data containing multiple components'
+        String ics = '''BEGIN:VCALENDAR
+PRODID:-//Ben Fortuna//iCal4j 1.0//EN
+VERSION:2.0
+BEGIN:VTIMEZONE
+TZID:Australia/Melbourne
+BEGIN:STANDARD
+DTSTART:19700405T030000
+TZOFFSETFROM:+1100
+TZOFFSETTO:+1000
+END:STANDARD
+END:VTIMEZONE
+BEGIN:VEVENT
+UID:1
+DTSTAMP:20240101T000000Z
+DTSTART;TZID=Australia/Melbourne:20240101T090000
+END:VEVENT
+BEGIN:VTODO
+UID:2
+DTSTAMP:20240101T000000Z
+END:VTODO
+END:VCALENDAR
+'''.replaceAll('\n', '\r\n')
+
+        when: 'the components are streamed'
+        def builder = new CalendarBuilder()
+        def properties = []
+        def components = builder.stream(new StringReader(ics), { properties << it }).collect(Collectors.toList())
+
+        then: 'components are parsed in order'
+        components*.name == ['VTIMEZONE', 'VEVENT', 'VTODO']
+
+        and: 'calendar properties are provided via the consumer'
+        properties*.name == ['PRODID', 'VERSION']
+
+        and: 'timezones are registered'
+        builder.registry.getTimeZone('Australia/Melbourne') != null
+
+        and: 'components are equal to those built from the full calendar'
+        components == new CalendarBuilder().build(new StringReader(ics)).components
+    }
+
+    def 'test streaming components lazily'() {
+        given: 'truncated calendar data'
+        String ics = 'BEGIN:VCALENDAR\r\nBEGIN:VEVENT\r\nUID:1\r\nEND:VEVENT\r\nBEGIN:VEVENT\r\nUID:'
+
+        when: 'the first component is requested'
+        def first = new CalendarBuilder().stream(new ByteArrayInputStream(ics.getBytes('UTF-8'))).findFirst()
+
+        then: 'it is returned without parsing the remaining input'
+        first.get().getProperty('UID').get().value == '1'
+
+        when: 'all components are requested'
+        new CalendarBuilder().stream(new ByteArrayInputStream(ics.getBytes('UTF-8'))).count()
+
+        then: 'a parser error is thrown'
+        CalendarException e = thrown()
+        e.cause instanceof ParserException
+    }
+
+    def 'test parallel parsing'() {
+        given: 'calendar data larger than the minimum chunk size'
+        def ics = new StringBuilder('BEGIN:VCALENDAR\r\nPRODID:-//Ben Fortuna//iCal4j 1.0//EN\r\nVERSION:2.0\r\n')
+        (0..<5000).each {
+            ics << "BEGIN:VEVENT\r\nUID:${it}\r\nDTSTAMP:20240101T000000Z\r\n"
+            ics << "DTSTART;TZID=Australia/Melbourne:20240101T090000\r\n"
+            ics << "DESCRIPTION:A long description that is folded across multiple lines to ensure that split poin\r\n"
+            ics << " ts take folding into account\r\nEND:VEVENT\r\n"
+            if (it % 1000 == 0) {
+                ics << "BEGIN:VTODO\r\nUID:todo-${it}\r\nDTSTAMP:20240101T000000Z\r\nEND:VTODO\r\n"
+            }
+        }
+        // timezone definitions are registered prior to parsing events, irrespective of position..
+        ics << 'BEGIN:VTIMEZONE\r\nTZID:Australia/Melbourne\r\nBEGIN:STANDARD\r\nDTSTART:19700405T030000\r\n'
+        ics << 'TZOFFSETFROM:+1100\r\nTZOFFSETTO:+1000\r\nEND:STANDARD\r\nEND:VTIMEZONE\r\nEND:VCALENDAR\r\n'
+        byte[] data = ics.toString().getBytes('UTF-8')
+        assert data.length > 2 * ChunkedCalendarBuilder.MIN_CHUNK_SIZE
+
+        and: 'a fork-join pool'
+        def pool = new ForkJoinPool(4)
+
+        when: 'the calendar is parsed in parallel'
+        Calendar calendar = new CalendarBuilder().buildParallel(data, pool)
+
+        then: 'the result matches sequential parsing'
+        calendar.components.size() == 5006
+        calendar.components*.getProperty('UID')*.get()*.value[0..2] == ['0', 'todo-0', '1']
+        calendar.components.last().name == 'VTIMEZONE'
+        calendar.components[4000].getProperty('DESCRIPTION').get().value.endsWith('split points take folding into account')
+        calendar == new CalendarBuilder().build(new ByteArrayInputStream(data))
+
+        cleanup:
+        pool.shutdown()
+    }
+
+    def 'test parallel parsing error line number'() {
+        given: 'invalid calendar data larger than the minimum chunk size'
+        def ics = new StringBuilder('BEGIN:VCALENDAR\r\nPRODID:-//Ben Fortuna//iCal4j 1.0//EN\r\n')
+        (0..<10000).each {
+            ics << "BEGIN:VEVENT\r\nUID:${it}\r\nDESCRIPTION:Some padding to increase the size of the data\r\n"
+            ics << (it == 9000 ? 'END:VTODO\r\n' : 'END:VEVENT\r\n')
+        }
+        ics << 'END:VCALENDAR\r\n'
+
+        when: 'the calendar is parsed in parallel'
+        new CalendarBuilder().buildParallel(ics.toString().getBytes('UTF-8'), new ForkJoinPool(4))
+
+        then: 'the error line number is relative to the original data'
+        ParserException e = thrown()
+        e.lineNo == 2 + 9000 * 4 + 4
+    }
+
+    def 'test parsing UTF-8 encoded octets'() {
+        given: 'UTF-8 encoded calendar data'
+        def ics = '''BEGIN:VCALENDAR\r
+PRODID:-//Ben Fortuna//iCal4j 1.0//EN\r
+VERSION:2.0\r
+BEGIN:VEVENT\r
+UID:1\r
+DTSTAMP:20240101T000000Z\r
+SUMMARY;LANGUAGE=fr:Réunion hebdomadaire\r
+LOCATION:会議室\\, 3階\r
+DESCRIPTION:A description folded before a multi-byte character: Caf\r
+ é 😀\r
+ORGANIZER;CN="Zoë Bloggs":mailto:zoe@example.com\r
+END:VEVENT\r
+END:VCALENDAR\r
+'''
+        byte[] data = ics.getBytes('UTF-8')
+
+        when: 'the data is parsed from octets'
+        Calendar calendar = new CalendarBuilder().build(input(data))
+
+        then: 'the result matches parsing of the decoded stream'
+        calendar == new CalendarBuilder().build(new ByteArrayInputStream(data))
+        calendar.getComponent('VEVENT').get().getProperty('LOCATION').get().value == '会議室, 3階'
+        calendar.getComponent('VEVENT').get().getProperty('DESCRIPTION').get().value.endsWith('Café 😀')
+
+        where:
+        input << [
+                { byte[] data -> data },
+                { byte[] data -> ByteBuffer.wrap(data) },
+                { byte[] data -> ByteBuffer.allocateDirect(data.length).put(data).flip() },
+                { byte[] data -> Channels.newChannel(new ByteArrayInputStream(data)) }
+        ]
+    }
+
+    def 'test parsing a projection'() {
+        given: 'calendar data with alarms and experimental components'
+        def ics = '''BEGIN:VCALENDAR\r
+PRODID:-//Ben Fortuna//iCal4j 1.0//EN\r
+VERSION:2.0\r
+BEGIN:VEVENT\r
+UID:1\r
+DTSTAMP:20240101T000000Z\r
+DTSTART:20240101T090000Z\r
+SUMMARY;LANGUAGE=en:Planning\r
+ATTENDEE;CN="Bloggs, Joe";\r
+ PARTSTAT=ACCEPTED:mailto:joe@example.com\r
+BEGIN:VALARM\r
+ACTION:DISPLAY\r
+TRIGGER:-PT15M\r
+BEGIN:X-NESTED\r
+X-PROP:value\r
+END:X-NESTED\r
+END:VALARM\r
+END:VEVENT\r
+BEGIN:X-COMPONENT\r
+DTSTART:invalid\r
+END:X-COMPONENT\r
+END:VCALENDAR\r
+'''
+        def context = new ContentHandlerContext().withProjection(new ContentProjection()
+                .withSkippedComponentNames(['VALARM', 'X-'])
+                .withPropertyNames('VEVENT', ['UID', 'DTSTART'])
+                .withPropertyNames('VCALENDAR', ['PRODID']))
+
+        when: 'the projection is parsed'
+        Calendar calendar = new CalendarBuilder(CalendarParserFactory.instance.get(), context,
+                TimeZoneRegistryFactory.instance.createRegistry()).build(new StringReader(ics))
+
+        then: 'only the specified content is materialised'
+        calendar as String == '''BEGIN:VCALENDAR\r
+PRODID:-//Ben Fortuna//iCal4j 1.0//EN\r
+BEGIN:VEVENT\r
+UID:1\r
+DTSTART:20240101T090000Z\r
+END:VEVENT\r
+END:VCALENDAR\r
+'''
+    }
+
+    def 'test passthrough of unmodified components'() {
+        given: 'calendar data folded and formatted differently to the outputter'
+        def ics = '''BEGIN:VCALENDAR\r
+PRODID:-//Ben Fortuna//iCal4j 1.0//EN\r
+VERSION:2.0\r
+BEGIN:VEVENT\r
+UID:1\r
+DTSTAMP:20240101T000000Z\r
+DTSTART;TZID=Europe/Paris:20240101T090000\r
+SUMMARY:Réunion\r
+DESCRIPTION:A description folded \r
+\tshort\\, with a tab\r
+BEGIN:VALARM\r
+ACTION:DISPLAY\r
+TRIGGER:-PT15M\r
+DESCRIPTION:Reminder\r
+END:VALARM\r
+END:VEVENT\r
+BEGIN:VTODO\r
+UID:2\r
+DTSTAMP:20240101T000000Z\r
+END:VTODO\r
+END:VCALENDAR\r
+'''
+        def context = new ContentHandlerContext().withPassthrough(true)
+        def builder = new CalendarBuilder(CalendarParserFactory.instance.get(), context,
+                TimeZoneRegistryFactory.instance.createRegistry())
+
+        when: 'the data is parsed and output'
+        Calendar calendar = builder.build(input(ics.getBytes('UTF-8')))
+        def out = new StringWriter()
+        new CalendarOutputter(false).output(calendar, out)
+
+        then: 'unmodified components are output as parsed'
+        out as String == ics
+
+        when: 'a property of a sub-component is modified'
+        def event = calendar.getComponent('VEVENT').get()
+        event.getComponentList().all[0].getProperty('DESCRIPTION').get().value = 'Modified'
+        out = new StringWriter()
+        new CalendarOutputter(false).output(calendar, out)
+
+        then: 'only the modified component is serialised'
+        !event.source.present
+        out as String == ics.replace('''BEGIN:VEVENT\r
+UID:1\r
+DTSTAMP:20240101T000000Z\r
+DTSTART;TZID=Europe/Paris:20240101T090000\r
+SUMMARY:Réunion\r
+DESCRIPTION:A description folded \r
+\tshort\\, with a tab\r
+BEGIN:VALARM\r
+ACTION:DISPLAY\r
+TRIGGER:-PT15M\r
+DESCRIPTION:Reminder\r
+END:VALARM\r
+END:VEVENT\r
+''', event as String)
+
+        where:
+        input << [
+                { byte[] data -> new ByteArrayInputStream(data) },
+                { byte[] data -> data }
+        ]
+    }
+
+    def 'test passthrough of partially materialised components'() {
+        given: 'calendar data with an ignored property'
+        def ics = 'BEGIN:VCALENDAR\r\nBEGIN:VEVENT\r\nUID:1\r\nX-IGNORED:a\r\nEND:VEVENT\r\n' +
+                'BEGIN:VTODO\r\nUID:2\r\nEND:VTODO\r\nEND:VCALENDAR\r\n'
+        def context = new ContentHandlerContext().withPassthrough(true).withIgnoredPropertyNames(['X-IGNORED'])
+
+        when: 'the data is parsed'
+        Calendar calendar = new CalendarBuilder(CalendarParserFactory.instance.get(), context,
+                TimeZoneRegistryFactory.instance.createRegistry()).build(new StringReader(ics))
+
+        then: 'source text is only retained for components parsed in full'
+        !calendar.getComponent('VEVENT').get().source.present
+        calendar.getComponent('VTODO').get().source.get() == 'BEGIN:VTODO\r\nUID:2\r\nEND:VTODO\r\n'
+    }
+
+    def 'test passthrough of components after access to property values'() {
+        given: 'calendar data with values that are formatted differently when parsed'
+        def ics = 'BEGIN:VCALENDAR\r\nVERSION:2.0\r\nBEGIN:VEVENT\r\nUID:1\r\nDTSTART:20240101T090000Z\r\n' +
+                'DURATION:PT60M\r\nRRULE:BYDAY=MO;FREQ=WEEKLY\r\nEND:VEVENT\r\nEND:VCALENDAR\r\n'
+        def context = new ContentHandlerContext().withPassthrough(true)
+        Calendar calendar = new CalendarBuilder(CalendarParserFactory.instance.get(), context,
+                TimeZoneRegistryFactory.instance.createRegistry()).build(new StringReader(ics))
+
+        when: 'property values are accessed'
+        def event = calendar.getComponent('VEVENT').get()
+        def values = ['DTSTART', 'DURATION', 'RRULE'].collect { event.getProperty(it).get().value }
+
+        then: 'the values are formatted'
+        values == ['20240101T090000Z', 'PT1H', 'FREQ=WEEKLY;BYDAY=MO']
+
+        and: 'the component is output as parsed'
+        event.source.present
+        def out = new StringWriter()
+        new CalendarOutputter(false).output(calendar, out)
+        out as String == ics
+
+        when: 'a property value is assigned'
+        event.getProperty('DURATION').get().value = 'PT2H'
+
+        then: 'the source text is discarded'
+        !event.source.present
+    }
+
+    def 'test passthrough of components with LF line breaks'() {
+        given: 'calendar data with LF line breaks'
+        def ics = 'BEGIN:VCALENDAR\nVERSION:2.0\nBEGIN:VEVENT\nUID:1\nSUMMARY:Meeting\nEND:VEVENT\nEND:VCALENDAR\n'
+        def context = new ContentHandlerContext().withPassthrough(true)
+        def builder = new CalendarBuilder(CalendarParserFactory.instance.get(), context,
+                TimeZoneRegistryFactory.instance.createRegistry())
+
+        when: 'the data is parsed and output'
+        Calendar calendar = builder.build(input(ics.getBytes('UTF-8')))
+        def out = new StringWriter()
+        new CalendarOutputter(false).output(calendar, out)
+
+        then: 'the source text has CRLF line breaks'
+        calendar.getComponent('VEVENT').get().source.get() ==
+                'BEGIN:VEVENT\r\nUID:1\r\nSUMMARY:Meeting\r\nEND:VEVENT\r\n'
+
+        and: 'the output has consistent line breaks'
+        out as String == ics.replace('\n', '\r\n')
+
+        where:
+        input << [
+                { byte[] data -> new StringReader(new String(data, 'UTF-8')) },
+                { byte[] data -> data }
+        ]
+    }
+
+    def 'test parsing a projection with unterminated skipped component'() {
+        given: 'calendar data with an unterminated component'
+        def ics = 'BEGIN:VCALENDAR\r\nBEGIN:VEVENT\r\nBEGIN:VALARM\r\nACTION:DISPLAY\r\nEND:VEVENT\r\nEND:VCALENDAR\r\n'
+        def context = new ContentHandlerContext().withProjection(new ContentProjection()
+                .withSkippedComponentNames(['VALARM']))
+
+        when: 'the projection is parsed'
+        new CalendarBuilder(CalendarParserFactory.instance.get(), context,
+                TimeZoneRegistryFactory.instance.createRegistry()).build(new StringReader(ics))
+
+        then: 'an exception is thrown'
+        ParserException e = thrown()
+        e.lineNo == 5
+    }
+
+    def 'test building all calendars from concatenated data'() {
+        given: 'concatenated calendar data'
+        String calendar = '''BEGIN:VCALENDAR
+PRODID:-//Ben Fortuna//iCal4j 1.0//EN
+VERSION:2.0
+BEGIN:VTIMEZONE
+TZID:Custom/Zone
+BEGIN:STANDARD
+DTSTART:19700405T030000
+TZOFFSETFROM:+1100
+TZOFFSETTO:+1000
+END:STANDARD
+END:VTIMEZONE
+BEGIN:VEVENT
+UID:1
+DTSTAMP:20240101T000000Z
+DTSTART;TZID=Custom/Zone:20240101T090000
+END:VEVENT
+END:VCALENDAR
+'''.replaceAll('\n', '\r\n')
+        String ics = calendar + calendar.replace('UID:1', 'UID:2') + calendar.replace('UID:1', 'UID:3')
+
+        when: 'all calendars are built'
+        def builder = new CalendarBuilder()
+        def calendars = builder.buildAll(new UnfoldingReader(new StringReader(ics)), sharedRegistry)
+                .collect(Collectors.toList())
+
+        then: 'each calendar is returned in order'
+        calendars*.getComponent('VEVENT')*.get()*.getProperty('UID')*.get()*.value == ['1', '2', '3']
+        calendars[0] == new CalendarBuilder().build(new StringReader(calendar))
+
+        and: 'timezones are registered in the builder registry only where shared'
+        (builder.registry.getTimeZone('Custom/Zone') != null) == sharedRegistry
+
+        where:
+        sharedRegistry << [true, false]
+    }
+
+    def 'test building all calendars lazily'() {
+        given: 'calendar data truncated in the second calendar'
+        String ics = 'BEGIN:VCALENDAR\r\nBEGIN:VEVENT\r\nUID:1\r\nEND:VEVENT\r\nEND:VCALENDAR\r\nBEGIN:VCALENDAR\r\nUID:'
+
+        when: 'the first calendar is requested'
+        def first = new CalendarBuilder().buildAll(new ByteArrayInputStream(ics.getBytes('UTF-8'))).findFirst()
+
+        then: 'it is returned without parsing the remaining input'
+        first.get().getComponent('VEVENT').get().getProperty('UID').get().value == '1'
+
+        when: 'all calendars are requested'
+        new CalendarBuilder().buildAll(new ByteArrayInputStream(ics.getBytes('UTF-8'))).count()
+
+        then: 'a parser error is thrown'
+        CalendarException e = thrown()
+        e.cause instanceof ParserException
+    }
 }
@@ -0,0 +1,112 @@
+package net.fortuna.ical4j.data
+
+import net.fortuna.ical4j.model.Calendar
+import net.fortuna.ical4j.model.TimeZoneRegistryFactory
+import spock.lang.Specification
+
+import static net.fortuna.ical4j.data.CalendarEventReader.EventType.*
+
+class CalendarEventReaderSpec extends Specification {
+
+    static final String ICS = '''BEGIN:VCALENDAR\r
+PRODID:-//Ben Fortuna//iCal4j 1.0//EN\r
+BEGIN:VEVENT\r
+UID:1\r
+ATTENDEE;CN="Bloggs, Joe";PARTSTAT=ACCEPTED:mailto:joe@exa\r
+ mple.com\r
+BEGIN:VALARM\r
+ACTION:DISPLAY\r
+END:VALARM\r
+END:VEVENT\r
+END:VCALENDAR\r
+'''
+
+    def 'verify events are read in order'() {
+        given: 'an event reader'
+        def reader = new CalendarEventReader(new StringReader(ICS))
+        def events = []
+
+        when: 'all events are read'
+        while (reader.hasNext()) {
+            events << [reader.next(), reader.name, reader.depth]
+        }
+
+        then: 'events are reported for each content line'
+        events == [
+                [START_COMPONENT, 'VCALENDAR', 1],
+                [PROPERTY, 'PRODID', 1],
+                [START_COMPONENT, 'VEVENT', 2],
+                [PROPERTY, 'UID', 2],
+                [PROPERTY, 'ATTENDEE', 2],
+                [START_COMPONENT, 'VALARM', 3],
+                [PROPERTY, 'ACTION', 3],
+                [END_COMPONENT, 'VALARM', 3],
+                [END_COMPONENT, 'VEVENT', 2],
+                [END_COMPONENT, 'VCALENDAR', 1]
+        ]
+    }
+
+    def 'verify property accessors'() {
+        given: 'an event reader positioned at a property'
+        def reader = new CalendarEventReader(new StringReader(ICS))
+        while (reader.next() != PROPERTY || reader.name != 'ATTENDEE') {
+        }
+
+        expect: 'parameters and value are available'
+        reader.value == 'mailto:joe@example.com'
+        reader.parameterCount == 2
+        reader.getParameterName(0) == 'CN'
+        reader.getParameterValue(0) == '"Bloggs, Joe"'
+        reader.getParameterValue('partstat') == 'ACCEPTED'
+        reader.getParameterValue('ROLE') == null
+
+        and: 'the current event is retained when checking for further events'
+        reader.hasNext()
+        reader.name == 'ATTENDEE'
+    }
+
+    def 'verify reading stops early'() {
+        given: 'an event reader for data that is invalid after the first component'
+        def reader = new CalendarEventReader(new StringReader(ICS.replace('END:VEVENT', 'END:VTODO')))
+
+        when: 'events are read up to the UID'
+        while (reader.next() != PROPERTY || reader.name != 'UID') {
+        }
+        reader.close()
+
+        then: 'the remaining data is not parsed'
+        reader.value == '1'
+        !reader.hasNext()
+    }
+
+    def 'verify events are forwarded to a content handler'() {
+        given: 'an event reader and a content handler'
+        def reader = new CalendarEventReader(new StringReader(ICS))
+        Calendar calendar = null
+        def handler = new DefaultContentHandler({ calendar = it },
+                TimeZoneRegistryFactory.instance.createRegistry())
+
+        when: 'all events are forwarded'
+        while (reader.hasNext()) {
+            reader.next()
+            reader.forward(handler)
+        }
+
+        then: 'the calendar is built'
+        calendar == new CalendarBuilder().build(new StringReader(ICS))
+    }
+
+    def 'verify parsing errors'() {
+        given: 'an event reader for invalid data'
+        def reader = new CalendarEventReader(new StringReader(ICS.replace('END:VEVENT', 'END:VTODO')))
+
+        when: 'all events are read'
+        while (reader.hasNext()) {
+            reader.next()
+        }
+
+        then: 'an exception is thrown'
+        ParserException e = thrown()
+        e.lineNo == 10
+    }
+}
@@ -0,0 +1,137 @@
+package net.fortuna.ical4j.data
+
+import net.fortuna.ical4j.model.Calendar
+import net.fortuna.ical4j.model.PropertyList
+import net.fortuna.ical4j.model.component.VEvent
+import net.fortuna.ical4j.model.property.ProdId
+import net.fortuna.ical4j.model.property.Summary
+import net.fortuna.ical4j.model.property.Uid
+import net.fortuna.ical4j.model.property.immutable.ImmutableVersion
+import spock.lang.Specification
+
+import java.nio.charset.StandardCharsets
+import java.util.stream.Stream
+
+class CalendarWriterSpec extends Specification {
+
+    def 'verify output is consistent with calendar outputter'() {
+        given: 'a calendar'
+        def calendar = new CalendarBuilder().build(getClass().getResourceAsStream(resource))
+
+        and: 'the output of the calendar outputter'
+        def expected = new StringWriter()
+        new CalendarOutputter(false).output(calendar, expected)
+
+        when: 'the calendar is written incrementally'
+        def out = new StringWriter()
+        new CalendarWriter(out).withCloseable {
+            it.writeHeader(calendar.propertyList)
+            calendar.componentList.all.each { c -> it.write(c) }
+            it.writeFooter()
+        }
+
+        then: 'the output is identical'
+        out as String == expected as String
+
+        where:
+        resource << ['/samples/valid/Australian32Holidays.ics', '/samples/valid/BCP321928.ics']
+    }
+
+    def 'verify writing a stream of events'() {
+        given: 'a stream of events'
+        def events = Stream.iterate(1, { it + 1 }).limit(3).map {
+            new VEvent().add(new Uid("$it")).add(new Summary("Event, number $it; with a long summary that is folded"))
+        }
+
+        when: 'the events are written'
+        def out = new StringWriter()
+        new CalendarWriter(out).withCloseable { writer ->
+            writer.writeHeader(new PropertyList([new ProdId('-//Ben Fortuna//iCal4j 1.0//EN'),
+                                                 ImmutableVersion.VERSION_2_0]))
+            events.forEach { writer.write(it) }
+            writer.writeFooter()
+        }
+
+        then: 'the output is a calendar containing the events'
+        def calendar = new CalendarBuilder().build(new StringReader(out as String))
+        calendar.getComponents('VEVENT')*.getProperty('UID')*.get()*.value == ['1', '2', '3']
+
+        and: 'the output is consistent with the calendar outputter'
+        def expected = new StringWriter()
+        new CalendarOutputter(false).output(calendar, expected)
+        out as String == expected as String
+    }
+
+    def 'verify components are not written before the header'() {
+        given: 'a calendar writer'
+        def writer = new CalendarWriter(new StringWriter())
+
+        when: 'a component is written without a header'
+        writer.write(new VEvent())
+
+        then: 'an exception is thrown'
+        thrown(IllegalStateException)
+    }
+
+    def 'verify the calendar is not ended where writing fails'() {
+        given: 'a component that fails to write'
+        def event = new VEvent() {
+            @Override
+            void write(Writer out) throws IOException {
+                throw new IOException('Failed to write component')
+            }
+        }
+
+        when: 'the component is written'
+        def out = new StringWriter()
+        new CalendarWriter(out).withCloseable { writer ->
+            writer.writeHeader(new PropertyList([new ProdId('-//Ben Fortuna//iCal4j 1.0//EN'),
+                                                 ImmutableVersion.VERSION_2_0]))
+            writer.write(new VEvent().add(new Uid('1')))
+            writer.write(event)
+            writer.writeFooter()
+        }
+
+        then: 'an exception is thrown'
+        thrown(IOException)
+
+        and: 'the output is not ended'
+        !(out as String).contains('END:VCALENDAR')
+    }
+
+    def 'verify components are not written after the footer'() {
+        given: 'a calendar writer'
+        def writer = new CalendarWriter(new StringWriter())
+        writer.writeHeader(new PropertyList())
+        writer.writeFooter()
+
+        when: 'a component is written after the footer'
+        writer.write(new VEvent())
+
+        then: 'an exception is thrown'
+        thrown(IllegalStateException)
+    }
+
+    def 'verify output folded on octets'() {
+        given: 'a calendar with multi-byte content'
+        def calendar = new Calendar().add(new ProdId('-//Ben Fortuna//iCal4j 1.0//EN'))
+                .add(ImmutableVersion.VERSION_2_0)
+                .add(new VEvent().add(new Uid('1')).add(new Summary(('Réunion à Zürich ' * 10).trim())))
+
+        and: 'an outputter that folds lines on octets'
+        def outputter = new CalendarOutputter(false)
+        outputter.octetFolding = true
+
+        when: 'the calendar is output'
+        def out = new ByteArrayOutputStream()
+        outputter.output(calendar, out)
+
+        then: 'no line exceeds the fold length in octets'
+        def data = out.toByteArray()
+        new String(data, StandardCharsets.ISO_8859_1).split('\r\n').every { it.length() <= 73 }
+
+        and: 'the output is parsed to the same content'
+        new CalendarBuilder().build(data).getComponent('VEVENT').get().getProperty('SUMMARY').get().value ==
+                ('Réunion à Zürich ' * 10).trim()
+    }
+}
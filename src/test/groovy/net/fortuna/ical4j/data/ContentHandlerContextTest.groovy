@@ -35,6 +35,8 @@ package net.fortuna.ical4j.data
 
 
 import net.fortuna.ical4j.model.component.VTimeZone
+import net.fortuna.ical4j.model.parameter.Cn
+import net.fortuna.ical4j.model.property.Summary
 import spock.lang.Specification
 
 class ContentHandlerContextTest extends Specification {
@@ -50,4 +52,78 @@ class ContentHandlerContextTest extends Specification {
         then: 'expected component factory is supported'
         contentHandlerContext.componentFactorySupplier.get().size() == 1
     }
+
+    def 'test factory resolution by name'() {
+        given: 'a context handler content'
+        ContentHandlerContext contentHandlerContext = []
+
+        expect: 'factories are resolved irrespective of case and group prefix'
+        contentHandlerContext.getPropertyFactories('SUMMARY')*.class == [Summary.Factory]
+        contentHandlerContext.getPropertyFactories('summary')*.class == [Summary.Factory]
+        contentHandlerContext.getPropertyFactories('group1.SUMMARY')*.class == [Summary.Factory]
+        contentHandlerContext.getParameterFactories('cn')*.class == [Cn.Factory]
+        contentHandlerContext.getComponentFactories('vtimezone')*.class == [VTimeZone.Factory]
+        contentHandlerContext.getPropertyFactories('X-UNKNOWN').isEmpty()
+
+        and: 'resolved factories are reused'
+        contentHandlerContext.getPropertyFactories('SUMMARY').is(contentHandlerContext.getPropertyFactories('SUMMARY'))
+        contentHandlerContext.withSuppressInvalidProperties(true).getPropertyFactories('SUMMARY')
+                .is(contentHandlerContext.getPropertyFactories('SUMMARY'))
+    }
+
+    def 'test supplier is only invoked once'() {
+        given: 'a context handler content with a custom supplier'
+        int invocations = 0
+        ContentHandlerContext contentHandlerContext = new ContentHandlerContext().withComponentFactorySupplier(
+                () -> {invocations++; Arrays.asList(new VTimeZone.Factory())})
+
+        when: 'factories are resolved for multiple names'
+        contentHandlerContext.getComponentFactories('VTIMEZONE')
+        contentHandlerContext.getComponentFactories('VEVENT')
+        contentHandlerContext.withIgnoredPropertyNames(['DTEND']).getComponentFactories('VTODO')
+
+        then: 'the supplier is invoked once'
+        invocations == 1
+    }
+
+    def 'test ignored property names are case-insensitive'() {
+        given: 'a context handler content with ignored property names'
+        ContentHandlerContext contentHandlerContext = new ContentHandlerContext().withIgnoredPropertyNames(['DTEND'])
+
+        expect:
+        contentHandlerContext.isIgnoredPropertyName('DTEND')
+        contentHandlerContext.isIgnoredPropertyName('dtend')
+        !contentHandlerContext.isIgnoredPropertyName('DTSTART')
+        !new ContentHandlerContext().isIgnoredPropertyName('DTEND')
+    }
+
+    def 'test lazy values are retained by derived contexts'() {
+        given: 'a context handler context with lazy values enabled'
+        ContentHandlerContext contentHandlerContext = new ContentHandlerContext().withLazyValues(true)
+
+        expect:
+        contentHandlerContext.isLazyValues()
+        contentHandlerContext.withIgnoredPropertyNames(['DTEND']).isLazyValues()
+        !new ContentHandlerContext().isLazyValues()
+    }
+
+    def 'test projection of components and properties'() {
+        given: 'a context handler context with a projection'
+        def projection = new ContentProjection().withSkippedComponentNames(['VALARM', 'X-'])
+                .withPropertyNames('VEVENT', ['UID', 'DTSTART'])
+        ContentHandlerContext contentHandlerContext = new ContentHandlerContext().withProjection(projection)
+
+        expect: 'the projection is retained by derived contexts'
+        contentHandlerContext.withIgnoredPropertyNames(['DTEND']).projection.is(projection)
+
+        and: 'components and properties are matched irrespective of case'
+        projection.isSkippedComponent('valarm')
+        projection.isSkippedComponent('X-WR-ALARM')
+        !projection.isSkippedComponent('VEVENT')
+        !projection.isSkippedProperty('vevent', 'dtstart')
+        !projection.isSkippedProperty('VEVENT', 'group.UID')
+        projection.isSkippedProperty('VEVENT', 'SUMMARY')
+        !projection.isSkippedProperty('VTODO', 'SUMMARY')
+        !new ContentProjection().isSkippedComponent('VALARM')
+    }
 }
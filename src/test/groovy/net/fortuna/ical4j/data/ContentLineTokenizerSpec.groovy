@@ -0,0 +1,104 @@
+package net.fortuna.ical4j.data
+
+import net.fortuna.ical4j.model.Property
+import spock.lang.Specification
+
+import java.nio.ByteBuffer
+
+class ContentLineTokenizerSpec extends Specification {
+
+    def 'verify tokenizing of content line names and delimiters'() {
+        given: 'a tokenizer'
+        def tokenizer = new ContentLineTokenizer(new StringReader('BEGIN:VEVENT\r\nEND:VEVENT\r\n'))
+
+        expect: 'tokens are returned in order'
+        tokenizer.nextToken() == ContentLineTokenizer.TT_WORD && tokenizer.getText() == 'BEGIN'
+        tokenizer.nextToken() == ':' as char
+        tokenizer.nextToken() == ContentLineTokenizer.TT_WORD && tokenizer.textEquals('vevent', true)
+        tokenizer.nextToken() == ContentLineTokenizer.TT_EOL
+        tokenizer.nextToken() == ContentLineTokenizer.TT_WORD && tokenizer.textEquals('END', false)
+        tokenizer.getLineNumber() == 2
+    }
+
+    def 'verify reading of property values'() {
+        given: 'a tokenizer positioned at a property value'
+        def tokenizer = new ContentLineTokenizer(new StringReader(input), bufferSize)
+        tokenizer.nextToken()
+        tokenizer.nextToken()
+
+        expect: 'the remainder of the line is returned as the value'
+        tokenizer.readValue() == expectedValue
+        tokenizer.getType() == ContentLineTokenizer.TT_EOL
+
+        where:
+        input                                       | bufferSize | expectedValue
+        'SUMMARY:some "value";x=1\r\n'              | 8192       | 'some "value";x=1'
+        'SUMMARY:some "value";x=1\r\n'              | 1          | 'some "value";x=1'
+        'SUMMARY:with\u0000ignorable\n'             | 8192       | 'withignorable'
+    }
+
+    def 'verify reading of unterminated property value'() {
+        given: 'a tokenizer positioned at a property value with no line break'
+        def tokenizer = new ContentLineTokenizer(new StringReader('SUMMARY:end of input'))
+        tokenizer.nextToken()
+        tokenizer.nextToken()
+
+        expect: 'end of input is reported'
+        tokenizer.readValue() == null
+        tokenizer.getType() == ContentLineTokenizer.TT_EOF
+    }
+
+    def 'verify reading of parameter values'() {
+        given: 'a tokenizer positioned at a parameter value'
+        def tokenizer = new ContentLineTokenizer(new StringReader(input))
+        tokenizer.nextToken()
+        tokenizer.nextToken()
+        tokenizer.nextToken()
+        tokenizer.nextToken()
+
+        expect: 'the parameter value is returned'
+        tokenizer.readParameterValue(allowEscapedSemicolon) == expectedValue
+
+        where:
+        input                           | allowEscapedSemicolon | expectedValue
+        'ATTENDEE;CN=Joe Bloggs:x'      | false                 | 'Joe Bloggs'
+        'ATTENDEE;CN="Bloggs, Joe":x'   | false                 | '"Bloggs, Joe"'
+        'ATTENDEE;CN="a\\tb\\"c":x'     | false                 | '"a\tb"c"'
+        'ATTENDEE;CN=a"b"c:x'           | false                 | 'a"c'
+        'GEO;X-E=x\\;y:x'               | true                  | 'x\\;y'
+        'ATTENDEE;CN=:x'                | false                 | ''
+    }
+
+    def 'verify decoding of text in octet mode'() {
+        given: 'a tokenizer reading the octets of UTF-8 encoded content'
+        def tokenizer = new ContentLineTokenizer(new OctetReader(ByteBuffer.wrap(input.getBytes('UTF-8'))), bufferSize, true)
+        tokenizer.nextToken()
+        tokenizer.nextToken()
+        tokenizer.nextToken()
+        tokenizer.nextToken()
+
+        expect: 'names and values are decoded'
+        tokenizer.readParameterValue(false) == expectedParameter
+        tokenizer.nextToken() == (':' as char) as int
+        tokenizer.readValue() == expectedValue
+
+        where:
+        input                                   | bufferSize | expectedParameter | expectedValue
+        'SUMMARY;LANGUAGE=en:Planning\r\n'      | 8192       | 'en'              | 'Planning'
+        'SUMMARY;CN=Zoë:Café crème\r\n'         | 8192       | 'Zoë'             | 'Café crème'
+        'SUMMARY;CN="Zoë; 会議":会議室 😀\r\n'    | 1          | '"Zoë; 会議"'      | '会議室 😀'
+        'SUMMARY;CN=a\r\n bé:x\u0000é\r\n'     | 8192       | 'a\n bé'          | 'xé'
+    }
+
+    def 'verify canonical names'() {
+        given: 'a tokenizer'
+        def tokenizer = new ContentLineTokenizer(new StringReader('DTSTART;X-NAME:x'))
+
+        expect: 'known names are canonical instances'
+        tokenizer.nextToken() == ContentLineTokenizer.TT_WORD
+        tokenizer.getText().is(Property.DTSTART)
+        tokenizer.nextToken()
+        tokenizer.nextToken() == ContentLineTokenizer.TT_WORD
+        tokenizer.getText() == 'X-NAME'
+    }
+}
@@ -0,0 +1,76 @@
+package net.fortuna.ical4j.data
+
+import spock.lang.Specification
+
+import java.util.concurrent.Callable
+import java.util.concurrent.Executors
+
+class HCalendarParserSpec extends Specification {
+
+    static final String HTML = '''<div class="vcalendar">
+  <div>Method: <span class="method">PUBLISH</span></div>
+  <div class="vevent">
+    <span class="uid">1</span>
+    <abbr class="dtstart" title="2024-01-01T10:00:00Z">1 January 2024, 10:00 UTC</abbr>
+    <div class="summary">Planning   meeting</div>
+    <ul>
+      <li class="category">Meeting</li>
+      <li class="category">Project</li>
+    </ul>
+    <a class="url" href="http://example.com/1">Details</a>
+    <span class="location"></span>
+    <div class="vevent">
+      <span class="uid">2</span>
+      <div class="summary">Follow-up</div>
+    </div>
+  </div>
+</div>'''
+
+    def 'verify parsing hCalendar events'() {
+        when: 'a document is parsed'
+        def calendar = new CalendarBuilder(new HCalendarParser()).build(new StringReader(HTML))
+
+        then: 'calendar properties are parsed'
+        calendar.getProperty('METHOD').get().value == 'PUBLISH'
+
+        and: 'events are parsed in document order'
+        calendar.getComponents('VEVENT')*.getProperty('UID')*.get()*.value == ['1', '2']
+
+        and: 'properties of nested events are included in the enclosing event'
+        def event = calendar.getComponents('VEVENT')[0]
+        event.getProperty('SUMMARY').get().value == 'Planning meeting'
+        event.getProperties('CATEGORIES')*.value == ['Meeting', 'Project']
+        event.getProperty('URL').get().value == 'http://example.com/1'
+        event.getProperty('DTSTART').get().value == '20240101T100000Z'
+
+        and: 'empty properties are omitted'
+        !event.getProperty('LOCATION').present
+    }
+
+    def 'verify parsing documents concurrently'() {
+        given: 'a parser shared by multiple threads'
+        def parser = new HCalendarParser()
+        def expected = new CalendarBuilder(parser).build(new StringReader(HTML))
+        def executor = Executors.newFixedThreadPool(4)
+
+        when: 'documents are parsed concurrently'
+        def results = executor.invokeAll((1..40).collect {
+            { -> new CalendarBuilder(parser).build(new StringReader(HTML)) } as Callable
+        })*.get()
+
+        then: 'all documents are parsed correctly'
+        results.every { it == expected }
+
+        cleanup:
+        executor.shutdown()
+    }
+
+    def 'verify invalid XML is reported'() {
+        when: 'a malformed document is parsed'
+        new CalendarBuilder(new HCalendarParser()).build(new StringReader('<div>\n<span class="vevent">\n</div>'))
+
+        then: 'an exception is thrown'
+        ParserException e = thrown()
+        e.lineNo == 3
+    }
+}
@@ -0,0 +1,109 @@
+package net.fortuna.ical4j.data
+
+import net.fortuna.ical4j.model.TimeZoneRegistryFactory
+import spock.lang.Specification
+
+import java.nio.ByteBuffer
+import java.nio.charset.StandardCharsets
+
+class IncrementalCalendarParserSpec extends Specification {
+
+    static final String ICS = '''BEGIN:VCALENDAR\r
+PRODID:-//Ben Fortuna//iCal4j 1.0//EN\r
+BEGIN:VEVENT\r
+UID:1\r
+SUMMARY:Café meeting\r
+ATTENDEE;CN="Bloggs, Joe";PARTSTAT=ACCEPTED:mailto:joe@exa\r
+ mple.com\r
+BEGIN:VALARM\r
+ACTION:DISPLAY\r
+END:VALARM\r
+END:VEVENT\r
+END:VCALENDAR\r
+'''
+
+    def calendars = []
+
+    def parser = new IncrementalCalendarParser(new DefaultContentHandler(calendars.&add,
+            TimeZoneRegistryFactory.instance.createRegistry()))
+
+    def feed(byte[] data, int chunkSize) {
+        for (int i = 0; i < data.length; i += chunkSize) {
+            parser.feed(ByteBuffer.wrap(data, i, Math.min(chunkSize, data.length - i)))
+        }
+    }
+
+    def 'verify parsing data supplied in chunks'() {
+        given: 'the encoded calendar data'
+        def data = ICS.getBytes(StandardCharsets.UTF_8)
+
+        when: 'the data is supplied in chunks'
+        feed(data, chunkSize)
+        parser.endOfInput()
+
+        then: 'the calendar is equal to the calendar built from the data'
+        calendars == [new CalendarBuilder().build(data)]
+
+        where:
+        chunkSize << [1, 3, 64, 4096]
+    }
+
+    def 'verify calendars are reported before the end of input'() {
+        given: 'data containing two calendars'
+        def data = (ICS + ICS.replace('UID:1', 'UID:2')).getBytes(StandardCharsets.UTF_8)
+
+        when: 'the first calendar and the first two lines of the second calendar are supplied'
+        def length = ICS.getBytes(StandardCharsets.UTF_8).length +
+                'BEGIN:VCALENDAR\r\nPRODID:-//Ben Fortuna//iCal4j 1.0//EN\r\n'.length()
+        parser.feed(ByteBuffer.wrap(data, 0, length))
+
+        then: 'the first calendar is reported'
+        calendars.size() == 1
+        calendars[0].getComponent('VEVENT').get().getProperty('UID').get().value == '1'
+
+        when: 'the remaining data is supplied'
+        parser.feed(ByteBuffer.wrap(data, length, data.length - length))
+        parser.endOfInput()
+
+        then: 'the second calendar is reported'
+        calendars.size() == 2
+        calendars[1].getComponent('VEVENT').get().getProperty('UID').get().value == '2'
+    }
+
+    def 'verify parsing a parameter value continued onto the following line'() {
+        given: 'data with a line break in an unquoted parameter value'
+        def data = ICS.replace('PARTSTAT=ACCEPTED', 'X-NOTE=a\r\nb').getBytes(StandardCharsets.UTF_8)
+
+        when: 'the data is supplied in single octets'
+        feed(data, 1)
+        parser.endOfInput()
+
+        then: 'the calendar is equal to the calendar built from the data'
+        calendars == [new CalendarBuilder().build(data)]
+    }
+
+    def 'verify line numbers of parsing errors'() {
+        given: 'invalid data following a folded line'
+        def data = ICS.replace('END:VALARM', 'END:VTODO').getBytes(StandardCharsets.UTF_8)
+
+        when: 'the data is supplied in chunks'
+        feed(data, 5)
+        parser.endOfInput()
+
+        then: 'the line number accounts for the folded line'
+        ParserException e = thrown()
+        e.lineNo == 10
+    }
+
+    def 'verify data is not accepted after the end of input'() {
+        given: 'a parser at the end of input'
+        feed(ICS.getBytes(StandardCharsets.UTF_8), 4096)
+        parser.endOfInput()
+
+        when: 'further data is supplied'
+        parser.feed(ByteBuffer.wrap(new byte[1]))
+
+        then: 'an exception is thrown'
+        thrown(IllegalStateException)
+    }
+}
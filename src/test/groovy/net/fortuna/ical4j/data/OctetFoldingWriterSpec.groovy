@@ -0,0 +1,56 @@
+package net.fortuna.ical4j.data
+
+import spock.lang.Specification
+
+import java.nio.channels.Channels
+import java.nio.charset.StandardCharsets
+
+class OctetFoldingWriterSpec extends Specification {
+
+    def 'verify folding of US-ASCII content is consistent with folding writer'() {
+        given: 'US-ASCII content'
+        def content = "DESCRIPTION:${'0123456789' * 20}\r\nSUMMARY:${'x' * 73}\r\n"
+
+        when: 'the content is written'
+        def out = new ByteArrayOutputStream()
+        new OctetFoldingWriter(out, foldLength).withCloseable { it.write(content) }
+
+        then: 'the output is identical to the folding writer'
+        def expected = new StringWriter()
+        new FoldingWriter(expected, foldLength).withCloseable { it.write(content) }
+        out.toByteArray() == (expected as String).getBytes(StandardCharsets.US_ASCII)
+
+        where:
+        foldLength << [FoldingWriter.REDUCED_FOLD_LENGTH, FoldingWriter.MAX_FOLD_LENGTH]
+    }
+
+    def 'verify folding of multi-byte content'() {
+        given: 'content with multi-byte characters'
+        def content = "SUMMARY:${'Café 😀 ' * 30}\r\n"
+
+        when: 'the content is written to a channel'
+        def out = new ByteArrayOutputStream()
+        new OctetFoldingWriter(Channels.newChannel(out), FoldingWriter.MAX_FOLD_LENGTH).withCloseable {
+            it.write(content)
+        }
+        def lines = new String(out.toByteArray(), StandardCharsets.UTF_8).split('\r\n')
+
+        then: 'no line exceeds 75 octets'
+        lines.every { it.getBytes(StandardCharsets.UTF_8).length <= 75 }
+
+        and: 'multi-byte sequences are not split'
+        !(new String(out.toByteArray(), StandardCharsets.UTF_8).contains('�'))
+
+        and: 'the unfolded content is identical'
+        lines.join('\r\n').replace('\r\n ', '') == content.replace('\r\n', '')
+    }
+
+    def 'verify malformed surrogates are replaced'() {
+        when: 'an unpaired surrogate is written'
+        def out = new ByteArrayOutputStream()
+        new OctetFoldingWriter(out, FoldingWriter.MAX_FOLD_LENGTH).withCloseable { it.write('a\uD83Db\uDE00') }
+
+        then: 'the surrogates are replaced'
+        new String(out.toByteArray(), StandardCharsets.UTF_8) == 'a?b?'
+    }
+}
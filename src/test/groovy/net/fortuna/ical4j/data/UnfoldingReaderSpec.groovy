@@ -40,4 +40,48 @@ class UnfoldingReaderSpec extends Specification {
         def md5 = MessageDigest.getInstance("MD5")
         md5.digest(attach.binaryData) == md5.digest(new File('gradle/wrapper/gradle-wrapper.jar').bytes)
     }
+
+    def 'verify unfolding of folded content'() {
+        given: 'an unfolding reader with a small buffer'
+        def reader = new UnfoldingReader(new StringReader(input), 8, relaxed)
+
+        expect: 'folds are removed'
+        reader.text == expectedValue
+        reader.linesUnfolded == expectedLinesUnfolded
+
+        where:
+        input                                           | relaxed | expectedValue                     | expectedLinesUnfolded
+        'DESCRIPTION:a long\r\n  description\r\n'       | false   | 'DESCRIPTION:a long description\r\n' | 1
+        'DESCRIPTION:a long\r\n\t description\r\n'      | false   | 'DESCRIPTION:a long description\r\n' | 1
+        'DESCRIPTION:a long\n  description\n'           | false   | 'DESCRIPTION:a long\n  description\n' | 0
+        'DESCRIPTION:a long\n  description\n'           | true    | 'DESCRIPTION:a long description\n' | 1
+        'DESCRIPTION:a\r\n \r\n  long\r\n'              | false   | 'DESCRIPTION:a long\r\n'          | 2
+        'DESCRIPTION:a long description\r\n'            | false   | 'DESCRIPTION:a long description\r\n' | 0
+        'SUMMARY:a\r\n'                                 | true    | 'SUMMARY:a\r\n'                   | 0
+    }
+
+    def 'verify lines unfolded only accounts for content read'() {
+        given: 'an unfolding reader'
+        def reader = new UnfoldingReader(new StringReader('SUMMARY:a\r\nDESCRIPTION:b\r\n c\r\n'), false)
+        def buffer = new char[100]
+
+        expect: 'reads return at a fold'
+        reader.read(buffer, 0, buffer.length) == 'SUMMARY:a\r\nDESCRIPTION:b'.length()
+        reader.linesUnfolded == 0
+        reader.read() as char == 'c' as char
+        reader.linesUnfolded == 1
+    }
+
+    def 'verify pushback of unfolded content'() {
+        given: 'an unfolding reader'
+        def reader = new UnfoldingReader(new StringReader('SUMMARY:a\r\n b\r\n'), false)
+
+        when: 'content is read and pushed back'
+        def c = reader.read()
+        reader.unread(c)
+        reader.unread('X-'.toCharArray())
+
+        then: 'pushed back content is read first'
+        reader.text == 'X-SUMMARY:ab\r\n'
+    }
 }
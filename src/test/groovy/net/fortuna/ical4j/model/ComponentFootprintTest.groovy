@@ -0,0 +1,37 @@
+package net.fortuna.ical4j.model
+
+import net.fortuna.ical4j.data.CalendarBuilder
+import org.openjdk.jol.info.GraphLayout
+import spock.lang.Specification
+
+class ComponentFootprintTest extends Specification {
+
+    static String calendar(int events) {
+        def builder = new StringBuilder('BEGIN:VCALENDAR\r\nVERSION:2.0\r\nPRODID:-//Ben Fortuna//iCal4j 1.0//EN\r\n')
+        for (int i = 0; i < events; i++) {
+            builder << 'BEGIN:VEVENT\r\n' << "UID:event-$i@example.com\r\n" << 'DTSTAMP:20250101T000000Z\r\n'
+            builder << 'DTSTART:20250101T100000Z\r\n' << 'DTEND:20250101T110000Z\r\n' << "SUMMARY:Meeting $i\r\n"
+            builder << 'STATUS:CONFIRMED\r\n' << 'TRANSP:OPAQUE\r\n'
+            builder << 'ORGANIZER;CN=Organizer:mailto:organizer@example.com\r\n'
+            builder << 'ATTENDEE;CN=Attendee;ROLE=REQ-PARTICIPANT;PARTSTAT=ACCEPTED:mailto:attendee@example.com\r\n'
+            builder << 'END:VEVENT\r\n'
+        }
+        builder << 'END:VCALENDAR\r\n'
+        builder.toString()
+    }
+
+    static long footprint(int events) {
+        def calendar = new CalendarBuilder().build(new StringReader(calendar(events)))
+        GraphLayout.parseInstance(calendar.getComponents()).totalSize()
+    }
+
+    def 'test retained size of parsed events'() {
+        given: 'the retained size of calendars with different numbers of events'
+        // content shared by all events (e.g. constants, the timezone registry) is excluded by the difference..
+        def events = 1000
+        def size = (footprint(events * 2) - footprint(events)) / events
+
+        expect: 'the retained size of each event is within the expected bound (in bytes)'
+        size <= 1100
+    }
+}
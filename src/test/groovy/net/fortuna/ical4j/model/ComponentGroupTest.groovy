@@ -68,6 +68,19 @@ class ComponentGroupTest extends Specification {
         revisions == [event, rev1]
     }
 
+    def 'test revisions reflect components modified after lookup by key'() {
+        given: 'a component list that has been searched by UID'
+        def components = new ComponentList<VEvent>([event, rev1])
+        assert components.get(ComponentKey.UID, '1') == [event, rev1]
+
+        when: 'the UID of a component is modified'
+        rev1.replace(new Uid('2'))
+
+        then: 'revisions reflect the modified component'
+        new ComponentGroup(components, uid).revisions == [event]
+        new ComponentGroup(components, new Uid('2')).revisions == [rev1]
+    }
+
     def "GetLatestRevision"() {
         given: 'an event with 3 revisions'
         def components = new ComponentList<VEvent>([event, rev1, rev2])
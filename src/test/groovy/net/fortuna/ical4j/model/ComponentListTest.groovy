@@ -0,0 +1,106 @@
+package net.fortuna.ical4j.model
+
+import net.fortuna.ical4j.model.component.VEvent
+import net.fortuna.ical4j.model.parameter.TzId
+import net.fortuna.ical4j.model.property.Attendee
+import net.fortuna.ical4j.model.property.DtStart
+import net.fortuna.ical4j.model.property.RecurrenceId
+import net.fortuna.ical4j.model.property.Uid
+import spock.lang.Specification
+
+class ComponentListTest extends Specification {
+
+    VEvent event, override, other
+
+    def setup() {
+        event = new VEvent(new PropertyList([new Uid('1'), new Attendee('mailto:a@example.com'),
+                                             new Attendee('mailto:b@example.com')]))
+        override = new VEvent(new PropertyList([new Uid('1'), new RecurrenceId('20250101T100000'),
+                                                new Attendee('mailto:b@example.com')]))
+        other = new VEvent(new PropertyList([new Uid('2')]))
+    }
+
+    def 'test lookup by key'() {
+        given: 'a component list'
+        ComponentList<VEvent> list = new ComponentList<>([event, override, other])
+
+        expect: 'components are located by the values of a key'
+        list.get(ComponentKey.UID, '1') == [event, override]
+        list.get(ComponentKey.UID_RECURRENCE_ID, '1', null) == [event]
+        list.get(ComponentKey.UID_RECURRENCE_ID, '1', '20250101T100000') == [override]
+        list.get(ComponentKey.ATTENDEE, 'mailto:b@example.com') == [event, override]
+        list.get(ComponentKey.ATTENDEE, [null] as String[]) == [other]
+        list.get(ComponentKey.UID, '3') == []
+    }
+
+    def 'test lookup by key after modification'() {
+        given: 'a component list that has been searched by key'
+        ComponentList<VEvent> list = new ComponentList<>([event])
+        assert list.get(ComponentKey.UID, '1') == [event]
+
+        when: 'components are added to the list'
+        def added = list.add(override).addAll([other])
+
+        and: 'a different component is added to the original list'
+        def forked = list.add(other)
+
+        then: 'lookup by key reflects each list'
+        added.get(ComponentKey.UID, '1') == [event, override]
+        added.get(ComponentKey.UID, '2') == [other]
+        forked.get(ComponentKey.UID, '1') == [event]
+        forked.get(ComponentKey.UID, '2') == [other]
+        list.get(ComponentKey.UID, '2') == []
+
+        when: 'a component is removed from the list'
+        def removed = added.remove(event)
+
+        then: 'lookup by key reflects the modified list'
+        removed.get(ComponentKey.UID, '1') == [override]
+        removed.get(ComponentKey.ATTENDEE, 'mailto:a@example.com') == []
+        added.get(ComponentKey.UID, '1') == [event, override]
+    }
+
+    def 'test lookup by key after modification of a component'() {
+        given: 'a component list that has been searched by key'
+        ComponentList<VEvent> list = new ComponentList<>([event, other])
+        assert list.get(ComponentKey.UID, '2') == [other]
+
+        when: 'a component is modified in place'
+        other.replace(new Uid('3'))
+
+        then: 'lookup by key reflects the modified component'
+        list.get(ComponentKey.UID, '2') == []
+        list.get(ComponentKey.UID, '3') == [other]
+    }
+
+    def 'test index by key'() {
+        given: 'an index of a component list'
+        def index = new ComponentList<>([event, override, other]).index(ComponentKey.UID_RECURRENCE_ID)
+
+        expect: 'components are located by the values of the key'
+        index.get('1', null) == [event]
+        index.get('1', '20250101T100000') == [override]
+        index.get('2', null) == [other]
+        index.get('3', null) == []
+    }
+
+    def 'test lookup by parameter key'() {
+        given: 'a component list'
+        def start = new DtStart('20250101T100000')
+        start.add(new TzId('Australia/Melbourne'))
+        def event = new VEvent(new PropertyList([new Uid('1'), start]))
+        ComponentList<VEvent> list = new ComponentList<>([event, other])
+
+        expect: 'components are located by the values of the parameter'
+        list.get(ComponentKey.parameter(Property.DTSTART, Parameter.TZID), 'Australia/Melbourne') == [event]
+        list.get(ComponentKey.parameter('dtstart', 'tzid'), [null] as String[]) == [other]
+    }
+
+    def 'test lookup with an invalid number of values'() {
+        when: 'components are located with fewer values than the key'
+        new ComponentList<>([event]).get(ComponentKey.UID_RECURRENCE_ID, '1')
+
+        then: 'an exception is thrown'
+        thrown(IllegalArgumentException)
+    }
+}
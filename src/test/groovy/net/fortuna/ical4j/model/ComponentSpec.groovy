@@ -1,16 +1,28 @@
 package net.fortuna.ical4j.model
 
+import net.fortuna.ical4j.data.CalendarBuilder
+import net.fortuna.ical4j.data.CalendarParserFactory
+import net.fortuna.ical4j.data.ContentHandlerContext
 import net.fortuna.ical4j.model.component.VEvent
+import net.fortuna.ical4j.model.parameter.Language
+import net.fortuna.ical4j.model.parameter.TzId
 import net.fortuna.ical4j.model.parameter.Value
+import net.fortuna.ical4j.model.property.DtStart
+import net.fortuna.ical4j.model.property.Summary
+import net.fortuna.ical4j.model.property.Uid
 import spock.lang.Shared
 import spock.lang.Specification
 
 import java.time.Duration
+import java.time.LocalDate
 import java.time.LocalDateTime
 import java.time.ZoneId
 import java.time.ZonedDateTime
 import java.time.format.DateTimeFormatter
 import java.time.temporal.Temporal
+import java.util.concurrent.atomic.AtomicInteger
+
+import static net.fortuna.ical4j.model.property.immutable.ImmutableStatus.VEVENT_CONFIRMED
 
 class ComponentSpec extends Specification {
 
@@ -125,4 +137,144 @@ class ComponentSpec extends Specification {
         period    | expectedResults
         Period.parse('20221014/P1W') | ['20221014/P1D']
     }
+
+    def 'test memoised component text'() {
+        given: 'a memoised component'
+        VEvent event = new VEvent(false).add(new Uid('1')).add(new Summary('Planning, review'))
+                .add(new DtStart<>(LocalDate.of(2024, 1, 1)))
+        event.memoised = true
+
+        expect: 'repeated serialisation returns the memoised text'
+        event.toString().is(event.toString())
+
+        when: 'a property value is modified'
+        event.getRequiredProperty('SUMMARY').value = 'Retrospective'
+
+        then: 'the text reflects the modification'
+        event.toString().contains('SUMMARY:Retrospective\r\n')
+
+        when: 'a parameter is added'
+        event.getRequiredProperty('SUMMARY').add(new Language('en'))
+
+        then: 'the text reflects the modification'
+        event.toString().contains('SUMMARY;LANGUAGE=en:Retrospective\r\n')
+
+        when: 'a date is modified'
+        event.getRequiredProperty('DTSTART').date = LocalDate.of(2024, 2, 1)
+
+        then: 'the text reflects the modification'
+        event.toString().contains('DTSTART;VALUE=DATE:20240201\r\n')
+
+        when: 'a property is replaced'
+        event.with((c, p) -> c.replace(p), new Summary('Demo'))
+
+        then: 'the text reflects the modification'
+        event.toString().contains('SUMMARY:Demo\r\n')
+
+        and: 'the text is consistent with a component that is not memoised'
+        event.toString() == new VEvent(event.propertyList).toString()
+    }
+
+    def 'test memoised content is not formatted again'() {
+        given: 'a memoised component with a property that counts formatting of its value'
+        def formatted = new AtomicInteger()
+        def dtStart = new DtStart<LocalDate>(LocalDate.of(2024, 1, 1)) {
+            @Override
+            String getValue() {
+                formatted.incrementAndGet()
+                super.getValue()
+            }
+        }
+        VEvent event = new VEvent(false).add(new Uid('1')).add(dtStart)
+        event.memoised = true
+
+        when: 'the component is serialised repeatedly'
+        def text = event.toString()
+
+        then: 'the value is formatted once'
+        event.toString().is(text)
+        formatted.get() == 1
+
+        when: 'the date is modified'
+        dtStart.date = LocalDate.of(2024, 2, 1)
+
+        then: 'the value is formatted again'
+        event.toString().contains('DTSTART;VALUE=DATE:20240201\r\n')
+        event.toString().contains('DTSTART;VALUE=DATE:20240201\r\n')
+        formatted.get() == 2
+
+        when: 'a parameter is replaced'
+        dtStart.replace(new TzId('Europe/Paris'))
+        event.toString()
+
+        then: 'the value is formatted again'
+        formatted.get() == 3
+    }
+
+    def 'test copy shares immutable properties'() {
+        given: 'a component with mutable and immutable properties'
+        VEvent event = new VEvent(false).add(new Uid('1')).add(VEVENT_CONFIRMED)
+                .add(new DtStart<>(LocalDate.of(2024, 1, 1)))
+
+        when: 'the component is copied'
+        VEvent copy = event.copy()
+
+        then: 'the copy is equal to the component'
+        copy == event
+
+        and: 'immutable properties are shared'
+        copy.getRequiredProperty('STATUS').is(VEVENT_CONFIRMED)
+        !copy.getRequiredProperty('UID').is(event.getRequiredProperty('UID'))
+
+        when: 'a property of the copy is modified'
+        copy.getRequiredProperty('DTSTART').date = LocalDate.of(2024, 2, 1)
+
+        then: 'the component is not modified'
+        event.getRequiredProperty('DTSTART').date == LocalDate.of(2024, 1, 1)
+        copy.getRequiredProperty('DTSTART').date == LocalDate.of(2024, 2, 1)
+    }
+
+    def 'test copy of a property with a custom timezone'() {
+        given: 'an event with a start date in a timezone defined by the calendar'
+        def ics = '''BEGIN:VCALENDAR
+PRODID:-//Ben Fortuna//iCal4j 1.0//EN
+VERSION:2.0
+BEGIN:VTIMEZONE
+TZID:Custom/Zone
+BEGIN:STANDARD
+DTSTART:19700405T030000
+TZOFFSETFROM:+1100
+TZOFFSETTO:+1000
+END:STANDARD
+END:VTIMEZONE
+BEGIN:VEVENT
+UID:1
+DTSTAMP:20240101T000000Z
+DTSTART;TZID=Custom/Zone:20240101T090000
+END:VEVENT
+END:VCALENDAR
+'''.replaceAll('\n', '\r\n')
+        def calendar = new CalendarBuilder(CalendarParserFactory.instance.get(),
+                new ContentHandlerContext().withLazyValues(lazy), TimeZoneRegistryFactory.instance.createRegistry())
+                .build(new StringReader(ics))
+        DtStart dtStart = calendar.getComponent('VEVENT').get().getRequiredProperty('DTSTART')
+
+        when: 'the start date is copied'
+        DtStart copy = dtStart.copy()
+
+        then: 'the copy resolves the timezone of the calendar'
+        copy.date == dtStart.date
+        copy == dtStart
+
+        where:
+        lazy << [false, true]
+    }
+
+    def 'test copy shares a list of immutable properties'() {
+        given: 'a component with only immutable properties'
+        VEvent event = new VEvent(false).add(VEVENT_CONFIRMED)
+
+        expect: 'the property list is shared by a copy'
+        event.copy().propertyList.is(event.propertyList)
+    }
 }
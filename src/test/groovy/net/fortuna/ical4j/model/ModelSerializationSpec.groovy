@@ -71,4 +71,40 @@ class ModelSerializationSpec extends Specification {
 			new DateList()
 		]
 	}
+
+	def 'test modification of deserialised calendar'() {
+		setup: 'a calendar that has been searched by key'
+		Calendar calendar = new ContentBuilder().calendar {
+			prodid '-//Ben Fortuna//iCal4j 1.0//EN'
+			version '2.0'
+			vevent {
+				uid '1'
+				dtstamp()
+			}
+		}
+		calendar.componentList.get(ComponentKey.UID, '1')
+
+		and: 'serialise and de-serialise the calendar'
+		File ser = File.createTempFile('CalendarSerializationSpec', '.dat')
+		ser.withObjectOutputStream { oout ->
+			oout << calendar
+		}
+		Calendar deserialised
+		ser.withObjectInputStream { oin ->
+			deserialised = oin.readObject()
+		}
+
+		when: 'a component is added to the deserialised calendar'
+		deserialised.add(new ContentBuilder().vevent {
+			uid '2'
+			dtstamp()
+		})
+
+		then: 'the component is added'
+		deserialised.componentList.get(ComponentKey.UID, '2').size() == 1
+
+		and: 'the calendar may be further modified'
+		deserialised.remove(deserialised.componentList.get(ComponentKey.UID, '1')[0])
+		deserialised.componentList.all.size() == 1
+	}
 }
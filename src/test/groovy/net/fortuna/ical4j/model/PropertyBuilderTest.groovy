@@ -1,11 +1,21 @@
 package net.fortuna.ical4j.model
 
+import net.fortuna.ical4j.model.property.Attendee
 import net.fortuna.ical4j.model.property.Contact
+import net.fortuna.ical4j.model.property.DtStamp
+import net.fortuna.ical4j.model.property.DtStart
+import net.fortuna.ical4j.model.property.Duration
+import net.fortuna.ical4j.model.property.ExDate
+import net.fortuna.ical4j.model.property.RRule
+import net.fortuna.ical4j.model.property.Trigger
 import net.fortuna.ical4j.model.property.Version
 import net.fortuna.ical4j.util.CompatibilityHints
 import spock.lang.Ignore
 import spock.lang.Specification
 
+import java.time.LocalDate
+import java.time.format.DateTimeParseException
+
 import static net.fortuna.ical4j.model.property.immutable.ImmutableVersion.VERSION_2_0
 
 class PropertyBuilderTest extends Specification {
@@ -69,4 +79,52 @@ class PropertyBuilderTest extends Specification {
         then: 'resulting property is initialised accordingly'
         p.class == Contact && p.prefix == 'work' && p.value == 'mailto:work@example.com'
     }
+
+    def 'test build property with lazy value'() {
+        given: 'a property builder instance with lazy values enabled'
+        PropertyBuilder builder = [Arrays.asList(new DtStart.Factory(), new RRule.Factory(), new Duration.Factory(),
+                new Attendee.Factory(), new ExDate.Factory(), new Trigger.Factory(), new DtStamp.Factory())]
+        builder.name(name).value(value).lazy(true)
+
+        when: 'build method called'
+        Property p = builder.build()
+
+        then: 'resulting property is equal to an eagerly built property'
+        p == new PropertyBuilder(Arrays.asList(factory)).name(name).value(value).build()
+        p.value == value
+
+        where:
+        name        | value                             | factory
+        'DTSTART'   | '20150403T100000'                 | new DtStart.Factory()
+        'RRULE'     | 'FREQ=WEEKLY;COUNT=5'             | new RRule.Factory()
+        'DURATION'  | 'PT1H'                            | new Duration.Factory()
+        'ATTENDEE'  | 'mailto:joe@example.com'          | new Attendee.Factory()
+        'EXDATE'    | '20150403T100000,20150404T100000' | new ExDate.Factory()
+        'TRIGGER'   | '-PT15M'                          | new Trigger.Factory()
+        'DTSTAMP'   | '20150403T100000Z'                | new DtStamp.Factory()
+    }
+
+    def 'test build property with invalid lazy value'() {
+        given: 'a property builder instance with lazy values enabled'
+        PropertyBuilder builder = [Arrays.asList(new DtStart.Factory())]
+        builder.name('DTSTART').value('invalid').lazy(true)
+
+        when: 'build method called'
+        DtStart p = builder.build()
+
+        then: 'no exception is thrown'
+        notThrown(DateTimeParseException)
+
+        when: 'the property value is accessed'
+        p.date
+
+        then: 'an exception is thrown'
+        thrown(DateTimeParseException)
+
+        when: 'the property value is replaced'
+        p.value = '20150403'
+
+        then: 'the new value is retained'
+        p.date == LocalDate.of(2015, 4, 3)
+    }
 }
@@ -57,4 +57,29 @@ class PropertyCodecTest extends Specification {
         value            | encodedValue
         'Test \"quote\"' | 'Test \"quote\"'
     }
+
+    def 'verify string decoding'() {
+        expect:
+        PropertyCodec.INSTANCE.decode(value) == decodedValue
+
+        where:
+        value                          | decodedValue
+        ''                             | ''
+        '\\n'                          | '\n'
+        '\\N'                          | '\\N'
+        'a\\, b\\; \\"c\\"'            | 'a, b; "c"'
+        '\\\\'                         | '\\'
+        '\\\\n'                        | '\\n'
+        '\\\\,'                        | '\\,'
+        'C:\\\\Temp\\\\new'            | 'C:\\Temp\\new'
+    }
+
+    def 'verify values without escaped characters are not copied'() {
+        given: 'a value without escaped characters'
+        def value = new String('Weekly planning meeting: "agenda"')
+
+        expect: 'the same instance is returned'
+        PropertyCodec.INSTANCE.encode(value).is(value)
+        PropertyCodec.INSTANCE.decode(value).is(value)
+    }
 }
@@ -1,6 +1,7 @@
 package net.fortuna.ical4j.model
 
 
+import net.fortuna.ical4j.model.property.XProperty
 import spock.lang.Specification
 
 import static net.fortuna.ical4j.model.property.immutable.ImmutableCalScale.GREGORIAN
@@ -45,4 +46,53 @@ class PropertyListTest extends Specification {
         [GREGORIAN, PUBLISH] | [VERSION_2_0, GREGORIAN] | 1
         [GREGORIAN, PUBLISH] | [PUBLISH, GREGORIAN] | 0
     }
+
+    def 'test lookup by name after modification'() {
+        given: 'a property list that has been searched by name'
+        def summary = new XProperty('X-SUMMARY', 'a')
+        def summaryLower = new XProperty('x-summary', 'b')
+        PropertyList list = new PropertyList([VERSION_2_0, summary])
+        assert list.get('X-SUMMARY') == [summary]
+
+        when: 'properties are added and removed'
+        list = list.add(summaryLower).add(GREGORIAN).remove(VERSION_2_0)
+
+        then: 'lookup by name reflects the modified list'
+        list.get('x-summary') == [summary]
+        list.get('CALSCALE', 'X-SUMMARY', 'VERSION') == [GREGORIAN, summary]
+        list.getFirst('x-summary').get().is(summary)
+        !list.getFirst('VERSION').present
+
+        and: 'the list is not modified'
+        list.all == [summary, summaryLower, GREGORIAN]
+
+        when: 'the first property of a name is removed'
+        list = list.remove(summary)
+
+        then: 'the next property of the name (ignoring case) is returned'
+        list.getFirst('X-SUMMARY').get().is(summaryLower)
+        list.get('X-SUMMARY') == []
+    }
+
+    def 'test appending to the same property list'() {
+        given: 'a property list'
+        PropertyList list = new PropertyList().add(VERSION_2_0)
+
+        when: 'different properties are appended to the same list'
+        def list1 = list.add(GREGORIAN)
+        def list2 = list.add(PUBLISH)
+        def list3 = list1.addAll([PUBLISH, VERSION_2_0])
+
+        then: 'each list contains only the properties appended to it'
+        list.all == [VERSION_2_0]
+        list1.all == [VERSION_2_0, GREGORIAN]
+        list2.all == [VERSION_2_0, PUBLISH]
+        list3.all == [VERSION_2_0, GREGORIAN, PUBLISH, VERSION_2_0]
+
+        when: 'the list is modified directly'
+        list1.all.add(PUBLISH)
+
+        then: 'an exception is thrown'
+        thrown(UnsupportedOperationException)
+    }
 }
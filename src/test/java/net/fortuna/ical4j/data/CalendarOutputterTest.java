@@ -32,11 +32,14 @@
 package net.fortuna.ical4j.data;
 
 import net.fortuna.ical4j.model.Calendar;
+import net.fortuna.ical4j.model.component.VEvent;
+import net.fortuna.ical4j.model.property.Uid;
 import net.fortuna.ical4j.util.CompatibilityHints;
 import net.fortuna.ical4j.validate.ValidationException;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.slf4j.Logger;
@@ -47,10 +50,15 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 /**
  * $Id: CalendarOutputterTest.java [Apr 6, 2004]
@@ -137,6 +145,73 @@ public class CalendarOutputterTest {
         }
     }
 
+    /**
+     * Verifies that output serialised in parallel is identical to sequential output.
+     */
+    @ParameterizedTest
+    @MethodSource("testOutput")
+    public void testParallelOutput(final String filename) throws Exception {
+        Calendar calendar;
+        String expected;
+        try (FileInputStream fin = new FileInputStream(filename)) {
+            calendar = new CalendarBuilder().build(fin);
+            expected = output(calendar, null);
+        } catch (ParserException | RuntimeException e) {
+            calendar = null;
+            expected = null;
+        }
+        assumeTrue(calendar != null, "Unable to output: " + filename);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            assertEquals(expected, output(calendar, executor), "Output differed from expected: " + filename);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Verifies that output serialised in parallel is not ended where a component fails to serialise.
+     */
+    @Test
+    public void testParallelOutputFailure() throws Exception {
+        Calendar calendar = new Calendar();
+        for (int i = 0; i < 8; i++) {
+            VEvent event = new VEvent();
+            event.add(new Uid(String.valueOf(i)));
+            calendar.add(event);
+        }
+        calendar.add(new VEvent() {
+            @Override
+            public void write(Writer out) throws IOException {
+                throw new IOException("Failed to write component");
+            }
+        });
+
+        CalendarOutputter outputter = new CalendarOutputter(false);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        outputter.setExecutor(executor);
+        outputter.setPartitionSize(1);
+        outputter.setPartitionWindow(2);
+        StringWriter out = new StringWriter();
+        try {
+            assertThrows(IOException.class, () -> outputter.output(calendar, out));
+        } finally {
+            executor.shutdown();
+        }
+        assertFalse(out.toString().contains("END:VCALENDAR"), "Output ended after failure");
+    }
+
+    private static String output(Calendar calendar, ExecutorService executor) throws IOException {
+        CalendarOutputter outputter = new CalendarOutputter(false);
+        outputter.setExecutor(executor);
+        outputter.setPartitionSize(1);
+        outputter.setPartitionWindow(2);
+        StringWriter out = new StringWriter();
+        outputter.output(calendar, out);
+        return out.toString();
+    }
+
     private static List<String> testOutput() {
         List<String> input = new ArrayList<>();
 
@@ -159,4 +159,27 @@ class FoldingWriterTest {
         }
     }
 
+    /**
+     * Test that surrogate pairs aren't split when a long string is written, regardless of where the fold occurs.
+     */
+    @Test
+    void testLongStringMultibyteCharacterFolding() throws IOException {
+        StringBuilder longText = new StringBuilder("x");
+        for (int i = 0; i < 1500; i++) {
+            longText.append("🙂");
+        }
+
+        for (int foldLength = 3; foldLength <= 20; foldLength++) {
+            StringWriter expected = new StringWriter();
+            try (FoldingWriter writer = new FoldingWriter(expected, foldLength)) {
+                writer.write(longText.toString().toCharArray());
+            }
+
+            StringWriter sw = new StringWriter();
+            try (FoldingWriter writer = new FoldingWriter(sw, foldLength)) {
+                writer.write(longText.toString());
+            }
+            assertEquals(expected.toString(), sw.toString());
+        }
+    }
 }
@@ -31,10 +31,18 @@
  */
 package net.fortuna.ical4j.util;
 
+import net.fortuna.ical4j.model.ParameterList;
 import net.fortuna.ical4j.model.Property;
+import net.fortuna.ical4j.model.parameter.Language;
 import net.fortuna.ical4j.model.property.Action;
+import net.fortuna.ical4j.model.property.ResourceType;
+import net.fortuna.ical4j.model.property.Status;
+import net.fortuna.ical4j.model.property.immutable.ImmutableResourceType;
+import net.fortuna.ical4j.model.property.immutable.ImmutableStatus;
 import org.junit.jupiter.api.Test;
 
+import java.util.Collections;
+
 import static net.fortuna.ical4j.model.property.immutable.ImmutableAction.AUDIO;
 import static org.junit.jupiter.api.Assertions.assertSame;
 
@@ -62,4 +70,21 @@ public class ConstantsTest {
         Property resProp = Constants.forProperty(origProp);
         assertSame(origProp, resProp, "forPropertyNotConstant");
     }
+
+    @Test
+    void testForPropertyEnumeratedConstant() {
+        Property origProp = new ResourceType("ROOM");
+        assertSame(ImmutableResourceType.ROOM, Constants.forProperty(origProp), "forPropertyEnumeratedConstant");
+
+        // the first of constants sharing a value is returned..
+        origProp = new Status("CANCELLED");
+        assertSame(ImmutableStatus.VEVENT_CANCELLED, Constants.forProperty(origProp), "forPropertySharedValue");
+    }
+
+    @Test
+    void testForPropertyWithParameters() {
+        Property origProp = new Action(new ParameterList(Collections.singletonList(new Language("en"))),
+                AUDIO.getValue());
+        assertSame(origProp, Constants.forProperty(origProp), "forPropertyWithParameters");
+    }
 }